@@ -2,7 +2,6 @@ package org.caterfind;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Catering Business Management System.
@@ -25,7 +24,6 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * @version 1.0
  */
 @SpringBootApplication
-@EnableScheduling
 public class Main {
     public static void main(String[] args) {
         SpringApplication.run(Main.class, args);
@@ -1,5 +1,10 @@
 package org.caterfind.config;
 
+import org.caterfind.service.ContactService;
+import org.caterfind.service.DishService;
+import org.caterfind.service.InventoryLedgerService;
+import org.caterfind.service.InventoryService;
+import org.caterfind.service.SearchService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,4 +24,44 @@ public class DatabaseSchemaFixer {
             }
         };
     }
+
+    @Bean
+    public CommandLineRunner backfillContactKeys(ContactService contactService) {
+        return args -> {
+            // Fill normalized phone/email for contacts created before they existed
+            contactService.backfillNormalizedKeys();
+        };
+    }
+
+    @Bean
+    public CommandLineRunner backfillInventoryLedger(InventoryLedgerService inventoryLedgerService) {
+        return args -> {
+            // Opening balance for items created before the ledger existed
+            inventoryLedgerService.backfillOpeningBalances();
+        };
+    }
+
+    @Bean
+    public CommandLineRunner backfillInventoryUnits(InventoryService inventoryService) {
+        return args -> {
+            // Base-unit quantities for items created before unit normalization
+            inventoryService.backfillNormalizedQuantities();
+        };
+    }
+
+    @Bean
+    public CommandLineRunner backfillDishTags(DishService dishService) {
+        return args -> {
+            // Move comma-separated dishes.labels into the tag table
+            dishService.backfillTags();
+        };
+    }
+
+    @Bean
+    public CommandLineRunner buildSearchIndex(SearchService searchService) {
+        return args -> {
+            // Load the in-memory search index once the backfills above are done
+            searchService.rebuild();
+        };
+    }
 }
@@ -0,0 +1,18 @@
+package org.caterfind.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ *
+ * Enables the @Scheduled jobs (cleanups, rollups, reconcilers, reorder
+ * engine, broadcast scheduler). Set app.scheduling.enabled=false to run a
+ * node, or the integration tests, without them.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,54 @@
+package org.caterfind.controller;
+
+import org.caterfind.dto.InventoryRollupDTO;
+import org.caterfind.dto.MessageRollupDTO;
+import org.caterfind.entity.RollupGranularity;
+import org.caterfind.service.AnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Analytics controller for messaging and inventory time series.
+ *
+ * Endpoints:
+ * - GET /analytics/messages?catererId={id}&granularity=DAY&from=&to= - Messages per channel, failure rate
+ * - GET /analytics/inventory?catererId={id}&granularity=DAY&from=&to= - Stock level per item category
+ *
+ * Reads pre-aggregated rollups only (see AnalyticsService). granularity is
+ * HOUR or DAY; from/to default to the last 30 days.
+ */
+@RestController
+@RequestMapping("/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @GetMapping("/messages")
+    public ResponseEntity<List<MessageRollupDTO>> getMessageSeries(
+            @RequestParam Long catererId,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(analyticsService.getMessageSeries(catererId, granularity, start, end));
+    }
+
+    @GetMapping("/inventory")
+    public ResponseEntity<List<InventoryRollupDTO>> getInventorySeries(
+            @RequestParam Long catererId,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(analyticsService.getInventorySeries(catererId, granularity, start, end));
+    }
+}
@@ -2,8 +2,10 @@ package org.caterfind.controller;
 
 import org.caterfind.dto.CalendarEventDTO;
 import org.caterfind.service.CalendarEventService;
+import org.caterfind.service.CollectionVersions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,7 +19,7 @@ import java.util.Map;
  * 
  * REST API endpoints for managing calendar events:
  * - POST /api/calendar/events?userId={id} - Create new event
- * - GET /api/calendar/events?userId={id} - Get all events for user
+ * - GET /api/calendar/events?userId={id} - Get all events for user (ETag / 304 on all GET variants)
  * - GET /api/calendar/events?userId={id}&date={yyyy-MM-dd} - Get events for specific date
  * - GET /api/calendar/events?userId={id}&startDate={yyyy-MM-dd}&endDate={yyyy-MM-dd} - Get events in range
  * - DELETE /api/calendar/events/{eventId} - Delete event
@@ -30,6 +32,12 @@ public class CalendarEventController {
     @Autowired
     private CalendarEventService service;
 
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    // Browsers keep the body and revalidate with If-None-Match on every visit
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     /**
      * Create a new calendar event
      * 
@@ -58,13 +66,21 @@ public class CalendarEventController {
      * GET /api/calendar/events?userId=1 - All events
      * GET /api/calendar/events?userId=1&date=2026-02-25 - Events on specific date
      * GET /api/calendar/events?userId=1&startDate=2026-02-01&endDate=2026-02-28 - Events in range
+     * 
+     * Responds 304 when If-None-Match carries the current ETag.
      */
     @GetMapping
     public ResponseEntity<List<CalendarEventDTO>> getEvents(
             @RequestParam Long userId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+
+        String etag = collectionVersions.etag(userId, CollectionVersions.CALENDAR);
+        if (CollectionVersions.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
 
         List<CalendarEventDTO> events;
 
@@ -79,7 +95,7 @@ public class CalendarEventController {
             events = service.getAllEvents(userId);
         }
 
-        return ResponseEntity.ok(events);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag).body(events);
     }
 
     /**
@@ -1,6 +1,7 @@
 package org.caterfind.controller;
 
 import org.caterfind.dto.CallRequest;
+import org.caterfind.service.MessageDispatcher;
 import org.caterfind.service.VoiceCallService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -14,10 +15,15 @@ public class CallController {
     @Autowired
     private VoiceCallService callService;
 
+    @Autowired
+    private MessageDispatcher messageDispatcher;
+
     @PostMapping("/api/make-call")
     public ResponseEntity<String> makeCall(@RequestBody CallRequest req) {
         try {
-            callService.makeCall(req.getTo(), req.getMessage());
+            // One-off calls share the TRANSACTIONAL lane with reorders
+            messageDispatcher.execute(MessageDispatcher.Lane.TRANSACTIONAL,
+                    () -> callService.makeCall(req.getTo(), req.getMessage()));
             return ResponseEntity.ok("Call initiated successfully");
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Failed to initiate call: " + e.getMessage());
@@ -3,8 +3,10 @@ package org.caterfind.controller;
 import org.caterfind.dto.CateringProfileDTO;
 import org.caterfind.service.CateringProfileService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Controller for managing catering business profiles.
@@ -33,13 +35,14 @@ public class CateringProfileController {
     }
 
     /**
-     * Get all catering profiles.
+     * Get all catering profiles, streamed from the database in chunks.
      *
      * @return List of CateringProfileDTO
      */
     @GetMapping("/all")
-    public ResponseEntity<java.util.List<CateringProfileDTO>> getAllProfiles() {
-        return ResponseEntity.ok(cateringProfileService.getAllProfiles());
+    public ResponseEntity<StreamingResponseBody> getAllProfiles() {
+        StreamingResponseBody profiles = out -> cateringProfileService.streamAllProfiles(out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(profiles);
     }
 
     /**
@@ -1,18 +1,26 @@
 package org.caterfind.controller;
 
 import org.caterfind.dto.ContactDTO;
+import org.caterfind.dto.DuplicateContactGroupDTO;
+import org.caterfind.service.CollectionVersions;
 import org.caterfind.service.ContactService;
+import org.caterfind.service.CursorListing;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Contact controller for managing caterer's contacts.
  * 
  * Endpoints:
- * - GET /contacts - List all contacts
+ * - GET /contacts - List all contacts (or one page: limit, cursor, sort, fields); ETag / 304
+ * - GET /contacts/duplicates - Find contacts sharing a phone or email
+ * - GET /contacts/autocomplete?q= - Top matches as you type (name, phone, email, label)
  * - GET /contacts/{id} - Get single contact
  * - POST /contacts - Create contact
  * - PUT /contacts/{id} - Update contact
@@ -31,16 +39,81 @@ public class ContactController {
     @Autowired
     private ContactService contactService;
 
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    // Browsers keep the body and revalidate with If-None-Match on every visit
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     /**
      * Get all contacts for a caterer.
      * 
+     * Without limit, cursor, sort or fields the full list is returned as
+     * before. With any of them one page is returned instead:
+     * { items (only the requested fields), nextCursor }.
+     * 
+     * Both carry a strong ETag; a matching If-None-Match gets 304 without
+     * reading the contacts.
+     * 
      * @param catererId User ID of the caterer
-     * @return List of ContactDTOs
+     * @param limit     Page size (default 50, max 200)
+     * @param cursor    nextCursor of the previous page
+     * @param sort      name, createdAt or id; prefix - for descending
+     * @param fields    Comma-separated fields, e.g. id,name,phone
+     * @return List of ContactDTOs, or a CursorPageDTO; 304 if unchanged, 400
+     *         on bad parameters
      */
     @GetMapping
-    public ResponseEntity<List<ContactDTO>> getAllContacts(@RequestParam Long catererId) {
-        List<ContactDTO> contacts = contactService.getAllContacts(catererId);
-        return ResponseEntity.ok(contacts);
+    public ResponseEntity<?> getAllContacts(@RequestParam Long catererId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = collectionVersions.etag(catererId, CollectionVersions.CONTACTS);
+        if (CollectionVersions.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        if (limit == null && cursor == null && sort == null && fields == null) {
+            List<ContactDTO> contacts = contactService.getAllContacts(catererId);
+            return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag).body(contacts);
+        }
+        try {
+            return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag)
+                    .body(contactService.listContacts(catererId, fields, sort, cursor,
+                            limit != null ? limit : CursorListing.DEFAULT_LIMIT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Find groups of contacts that share a normalized phone or email.
+     * 
+     * @param catererId User ID of the caterer
+     * @return List of DuplicateContactGroupDTOs (empty if no duplicates)
+     */
+    @GetMapping("/duplicates")
+    public ResponseEntity<List<DuplicateContactGroupDTO>> findDuplicates(@RequestParam Long catererId) {
+        return ResponseEntity.ok(contactService.findDuplicates(catererId));
+    }
+
+    /**
+     * Type-ahead contact lookup for pickers.
+     * 
+     * @param catererId User ID of the caterer
+     * @param q         Text typed so far (empty: first contacts by name)
+     * @param labels    Only contacts with any of these labels, e.g. Dealer,Supplier
+     * @param limit     Maximum results (default 10, max 50)
+     * @return ContactDTOs, name matches first
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<ContactDTO>> autocomplete(
+            @RequestParam Long catererId,
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) List<String> labels,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(contactService.autocomplete(catererId, q, labels, limit));
     }
 
     /**
@@ -64,14 +137,18 @@ public class ContactController {
      * 
      * @param catererId  User ID of the caterer
      * @param contactDTO Contact data
-     * @return Created ContactDTO
+     * @return Created ContactDTO or 409 if the phone/email is already used
      */
     @PostMapping
-    public ResponseEntity<ContactDTO> createContact(
+    public ResponseEntity<?> createContact(
             @RequestParam Long catererId,
             @RequestBody ContactDTO contactDTO) {
-        ContactDTO created = contactService.createContact(catererId, contactDTO);
-        return ResponseEntity.ok(created);
+        try {
+            ContactDTO created = contactService.createContact(catererId, contactDTO);
+            return ResponseEntity.ok(created);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
     }
 
     /**
@@ -79,17 +156,21 @@ public class ContactController {
      * 
      * @param id         Contact ID
      * @param contactDTO Updated contact data
-     * @return Updated ContactDTO or 404 if not found
+     * @return Updated ContactDTO, 404 if not found or 409 if the phone/email is already used
      */
     @PutMapping("/{id}")
-    public ResponseEntity<ContactDTO> updateContact(
+    public ResponseEntity<?> updateContact(
             @PathVariable Long id,
             @RequestBody ContactDTO contactDTO) {
-        ContactDTO updated = contactService.updateContact(id, contactDTO);
-        if (updated != null) {
-            return ResponseEntity.ok(updated);
-        } else {
-            return ResponseEntity.notFound().build();
+        try {
+            ContactDTO updated = contactService.updateContact(id, contactDTO);
+            if (updated != null) {
+                return ResponseEntity.ok(updated);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         }
     }
 
@@ -1,12 +1,19 @@
 package org.caterfind.controller;
 
 import org.caterfind.dto.DishDTO;
+import org.caterfind.dto.DishIngredientDTO;
+import org.caterfind.service.CollectionVersions;
+import org.caterfind.service.CursorListing;
 import org.caterfind.service.DishService;
+import org.caterfind.service.MenuPlanningService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/dishes")
@@ -16,9 +23,62 @@ public class DishController {
     @Autowired
     private DishService dishService;
 
+    @Autowired
+    private MenuPlanningService menuPlanningService;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    // Browsers keep the body and revalidate with If-None-Match on every visit
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    /**
+     * All of a caterer's dishes, or - with any of limit, cursor, sort
+     * (name, createdAt, id; - for descending) or fields - one page of
+     * { items, nextCursor } holding only the requested fields. 304 when
+     * If-None-Match carries the current ETag.
+     */
     @GetMapping
-    public ResponseEntity<List<DishDTO>> getAllDishes(@RequestParam Long userId) {
-        return ResponseEntity.ok(dishService.getDishesByUserId(userId));
+    public ResponseEntity<?> getAllDishes(@RequestParam Long userId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = collectionVersions.etag(userId, CollectionVersions.DISHES);
+        if (CollectionVersions.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        if (limit == null && cursor == null && sort == null && fields == null) {
+            return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag).body(dishService.getDishesByUserId(userId));
+        }
+        try {
+            return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag)
+                    .body(dishService.listDishes(userId, fields, sort, cursor,
+                            limit != null ? limit : CursorListing.DEFAULT_LIMIT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * IDs of the caterer's dishes carrying the given labels, e.g.
+     * ?labels=Spicy,Jain&match=all. Answered from the in-memory tag index.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterDishes(@RequestParam Long userId,
+            @RequestParam String labels,
+            @RequestParam(defaultValue = "all") String match,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        if (!"all".equalsIgnoreCase(match) && !"any".equalsIgnoreCase(match)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "match must be all or any"));
+        }
+        String etag = collectionVersions.etag(userId, CollectionVersions.DISHES);
+        if (CollectionVersions.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag)
+                .body(dishService.filterByLabels(userId, labels, "all".equalsIgnoreCase(match)));
     }
 
     @PostMapping
@@ -36,4 +96,19 @@ public class DishController {
         dishService.deleteDish(id);
         return ResponseEntity.noContent().build();
     }
+
+    @GetMapping("/{id}/ingredients")
+    public ResponseEntity<List<DishIngredientDTO>> getIngredients(@PathVariable Long id) {
+        return ResponseEntity.ok(menuPlanningService.getIngredients(id));
+    }
+
+    @PutMapping("/{id}/ingredients")
+    public ResponseEntity<?> setIngredients(@PathVariable Long id,
+            @RequestBody List<DishIngredientDTO> ingredients) {
+        try {
+            return ResponseEntity.ok(menuPlanningService.setIngredients(id, ingredients));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
 }
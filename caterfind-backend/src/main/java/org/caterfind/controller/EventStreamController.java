@@ -0,0 +1,30 @@
+package org.caterfind.controller;
+
+import org.caterfind.service.CatererEventBus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Event stream controller for live dashboard and messaging updates.
+ *
+ * Endpoints:
+ * - GET /events/stream?catererId={id} - Server-Sent Events stream
+ *
+ * Replaces polling of /dashboard/summary and /messages/logs; see
+ * CatererEventBus for the event names.
+ */
+@RestController
+@RequestMapping("/events")
+@CrossOrigin(origins = "*")
+public class EventStreamController {
+
+    @Autowired
+    private CatererEventBus catererEventBus;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam Long catererId) {
+        return catererEventBus.subscribe(catererId);
+    }
+}
@@ -1,23 +1,52 @@
 package org.caterfind.controller;
 
+import org.caterfind.dto.InventoryAdjustRequest;
 import org.caterfind.dto.InventoryDTO;
+import org.caterfind.dto.InventoryImportResult;
+import org.caterfind.dto.InventoryMovementDTO;
+import org.caterfind.dto.StockOutForecastDTO;
+import org.caterfind.entity.MeasurementUnit;
+import org.caterfind.service.CollectionVersions;
+import org.caterfind.service.ConsumptionForecastService;
+import org.caterfind.service.CursorListing;
+import org.caterfind.service.InventoryBulkService;
+import org.caterfind.service.InventoryLedgerService;
 import org.caterfind.service.InventoryService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Inventory controller for managing caterer's inventory.
  * 
  * Endpoints:
- * - GET /inventory - List all inventory items
- * - GET /inventory/low-stock - List low-stock items
+ * - GET /inventory - List all inventory items (or one page: limit, cursor, sort, fields); ETag / 304
+ * - GET /inventory/low-stock - List low-stock items; ETag / 304
+ * - GET /inventory/units - Supported units of measure
  * - GET /inventory/{id} - Get single item
+ * - GET /inventory/forecast?events={n} - Items predicted to run out before the next n events
  * - POST /inventory - Create item
- * - PUT /inventory/{id} - Update item
+ * - PUT /inventory/{id} - Update item (409 if changed since read)
+ * - PATCH /inventory/{id}/adjust - Atomically add a signed delta to quantity
  * - DELETE /inventory/{id} - Delete item
+ * - GET /inventory/{id}/movements - Recent stock movements (ledger)
+ * - GET /inventory/{id}/quantity?asOf={ISO date-time} - Quantity replayed as of a time
+ * - POST /inventory/import - Bulk import items from a CSV or XLSX upload
+ * - GET /inventory/export?format={csv|xlsx} - Stream all items as CSV or XLSX
  * 
  * Low stock detection: quantity < minThreshold
  * 
@@ -34,16 +63,62 @@ public class InventoryController {
     @Autowired
     private InventoryService inventoryService;
 
+    @Autowired
+    private InventoryLedgerService inventoryLedgerService;
+
+    @Autowired
+    private InventoryBulkService inventoryBulkService;
+
+    @Autowired
+    private ConsumptionForecastService consumptionForecastService;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    // Browsers keep the body and revalidate with If-None-Match on every visit
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     /**
      * Get all inventory items for a caterer.
      * 
+     * Without limit, cursor, sort or fields the full list is returned as
+     * before, streamed from the database in chunks. With any of them one page is returned instead:
+     * { items (only the requested fields), nextCursor }.
+     * 
+     * Both carry a strong ETag covering the items and the dealer contacts; a
+     * matching If-None-Match gets 304 without reading the inventory.
+     * 
      * @param catererId User ID of the caterer
-     * @return List of InventoryDTOs
+     * @param limit     Page size (default 50, max 200)
+     * @param cursor    nextCursor of the previous page
+     * @param sort      itemName, createdAt or id; prefix - for descending
+     * @param fields    Comma-separated fields, e.g. id,itemName,quantity,unit
+     * @return List of InventoryDTOs, or a CursorPageDTO; 304 if unchanged, 400
+     *         on bad parameters
      */
     @GetMapping
-    public ResponseEntity<List<InventoryDTO>> getAllInventory(@RequestParam Long catererId) {
-        List<InventoryDTO> items = inventoryService.getAllInventory(catererId);
-        return ResponseEntity.ok(items);
+    public ResponseEntity<?> getAllInventory(@RequestParam Long catererId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = collectionVersions.etag(catererId, CollectionVersions.INVENTORY, CollectionVersions.CONTACTS);
+        if (CollectionVersions.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        if (limit == null && cursor == null && sort == null && fields == null) {
+            StreamingResponseBody items = out -> inventoryService.streamInventory(catererId, out);
+            return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag)
+                    .contentType(MediaType.APPLICATION_JSON).body(items);
+        }
+        try {
+            return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag)
+                    .body(inventoryService.listInventory(catererId, fields, sort, cursor,
+                            limit != null ? limit : CursorListing.DEFAULT_LIMIT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     /**
@@ -51,12 +126,51 @@ public class InventoryController {
      * Used for dashboard widget and low-stock alerts.
      * 
      * @param catererId User ID of the caterer
-     * @return List of low-stock InventoryDTOs
+     * @return List of low-stock InventoryDTOs; 304 if unchanged
      */
     @GetMapping("/low-stock")
-    public ResponseEntity<List<InventoryDTO>> getLowStockItems(@RequestParam Long catererId) {
+    public ResponseEntity<List<InventoryDTO>> getLowStockItems(@RequestParam Long catererId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = collectionVersions.etag(catererId, CollectionVersions.INVENTORY, CollectionVersions.CONTACTS);
+        if (CollectionVersions.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<InventoryDTO> items = inventoryService.getLowStockItems(catererId);
-        return ResponseEntity.ok(items);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag).body(items);
+    }
+
+    /**
+     * List items predicted to run out on or before the caterer's Nth
+     * upcoming calendar event, based on recent consumption.
+     * 
+     * @param catererId User ID of the caterer
+     * @param events    Number of upcoming events to look ahead (default 5)
+     * @return Items at risk, soonest stock-out first
+     */
+    @GetMapping("/forecast")
+    public ResponseEntity<List<StockOutForecastDTO>> getStockOutForecast(
+            @RequestParam Long catererId,
+            @RequestParam(defaultValue = "5") int events) {
+        return ResponseEntity.ok(consumptionForecastService.getStockOutRisks(catererId, events));
+    }
+
+    /**
+     * List the supported units of measure with their base unit and
+     * conversion factor.
+     * 
+     * @return [{ unit, dimension, baseUnit, factor }]
+     */
+    @GetMapping("/units")
+    public ResponseEntity<List<Map<String, Object>>> getUnits() {
+        List<Map<String, Object>> units = new ArrayList<>();
+        for (MeasurementUnit unit : MeasurementUnit.values()) {
+            units.add(Map.of(
+                    "unit", unit.getSymbol(),
+                    "dimension", unit.getDimension().name(),
+                    "baseUnit", unit.getBaseUnit(),
+                    "factor", unit.getFactor()));
+        }
+        return ResponseEntity.ok(units);
     }
 
     /**
@@ -80,14 +194,18 @@ public class InventoryController {
      * 
      * @param catererId    User ID of the caterer
      * @param inventoryDTO Inventory data
-     * @return Created InventoryDTO
+     * @return Created InventoryDTO, 400 if category or unit is unknown
      */
     @PostMapping
-    public ResponseEntity<InventoryDTO> createInventoryItem(
+    public ResponseEntity<?> createInventoryItem(
             @RequestParam Long catererId,
             @RequestBody InventoryDTO inventoryDTO) {
-        InventoryDTO created = inventoryService.createInventoryItem(catererId, inventoryDTO);
-        return ResponseEntity.ok(created);
+        try {
+            InventoryDTO created = inventoryService.createInventoryItem(catererId, inventoryDTO);
+            return ResponseEntity.ok(created);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     /**
@@ -95,17 +213,51 @@ public class InventoryController {
      * 
      * @param id           Item ID
      * @param inventoryDTO Updated inventory data
-     * @return Updated InventoryDTO or 404 if not found
+     * @return Updated InventoryDTO, 404 if not found, 400 if a changed unit is unknown
      */
     @PutMapping("/{id}")
-    public ResponseEntity<InventoryDTO> updateInventoryItem(
+    public ResponseEntity<?> updateInventoryItem(
             @PathVariable Long id,
             @RequestBody InventoryDTO inventoryDTO) {
-        InventoryDTO updated = inventoryService.updateInventoryItem(id, inventoryDTO);
-        if (updated != null) {
-            return ResponseEntity.ok(updated);
-        } else {
-            return ResponseEntity.notFound().build();
+        try {
+            InventoryDTO updated = inventoryService.updateInventoryItem(id, inventoryDTO);
+            if (updated != null) {
+                return ResponseEntity.ok(updated);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "Item was changed by someone else. Reload and try again."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Atomically adjust an item's quantity by a signed delta.
+     * Safe for many devices decrementing the same item at once.
+     * 
+     * @param id      Item ID
+     * @param request { delta, note }
+     * @return Updated InventoryDTO, 404 if not found, 409 if stock would go negative
+     */
+    @PatchMapping("/{id}/adjust")
+    public ResponseEntity<?> adjustQuantity(
+            @PathVariable Long id,
+            @RequestBody InventoryAdjustRequest request) {
+        if (request.getDelta() == null || request.getDelta().signum() == 0) {
+            return ResponseEntity.badRequest().body(Map.of("error", "delta must be non-zero"));
+        }
+        try {
+            InventoryDTO adjusted = inventoryService.adjustQuantity(id, request.getDelta(), request.getNote());
+            if (adjusted != null) {
+                return ResponseEntity.ok(adjusted);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         }
     }
 
@@ -124,4 +276,86 @@ public class InventoryController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    /**
+     * Get the most recent stock movements of an item.
+     * 
+     * @param id    Item ID
+     * @param limit Maximum number of movements (default 50)
+     * @return Movements, newest first
+     */
+    @GetMapping("/{id}/movements")
+    public ResponseEntity<List<InventoryMovementDTO>> getMovements(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(inventoryLedgerService.getRecentMovements(id, limit));
+    }
+
+    /**
+     * Replay an item's quantity as of a point in time.
+     * 
+     * @param id   Item ID
+     * @param asOf Point in time (ISO date-time)
+     * @return { itemId, asOf, quantity }
+     */
+    @GetMapping("/{id}/quantity")
+    public ResponseEntity<Map<String, Object>> getQuantityAsOf(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        return ResponseEntity.ok(Map.of(
+                "itemId", id,
+                "asOf", asOf,
+                "quantity", inventoryLedgerService.getQuantityAsOf(id, asOf)));
+    }
+
+    /**
+     * Bulk import inventory items from a CSV or XLSX file.
+     * Invalid rows are skipped and reported; valid rows are imported.
+     * 
+     * @param catererId User ID of the caterer
+     * @param file      .csv or .xlsx file with a header row
+     * @return { imported, rejected, errors } or 400 if the file is unusable
+     */
+    @PostMapping("/import")
+    public ResponseEntity<?> importInventory(
+            @RequestParam Long catererId,
+            @RequestParam("file") MultipartFile file) {
+        try {
+            InventoryImportResult result = inventoryBulkService.importItems(catererId, file);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException | IOException e) {
+            // The import is one transaction: nothing from this file was saved
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Export all inventory items, streamed as they are read.
+     * 
+     * @param catererId User ID of the caterer
+     * @param format    csv (default) or xlsx
+     * @return File download
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportInventory(
+            @RequestParam Long catererId,
+            @RequestParam(defaultValue = "csv") String format) {
+        StreamingResponseBody body;
+        MediaType contentType;
+        if ("xlsx".equalsIgnoreCase(format)) {
+            body = out -> inventoryBulkService.exportXlsx(catererId, out);
+            contentType = MediaType.parseMediaType(
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        } else if ("csv".equalsIgnoreCase(format)) {
+            body = out -> inventoryBulkService.exportCsv(catererId, out);
+            contentType = MediaType.parseMediaType("text/csv;charset=UTF-8");
+        } else {
+            return ResponseEntity.badRequest().body(Map.of("error", "format must be csv or xlsx"));
+        }
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"inventory." + format.toLowerCase() + "\"")
+                .body(body);
+    }
 }
@@ -0,0 +1,91 @@
+package org.caterfind.controller;
+
+import org.caterfind.dto.MenuQuoteDTO;
+import org.caterfind.dto.MenuRequest;
+import org.caterfind.service.MenuPlanningService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Menu controller: inventory needed to serve a menu at an event.
+ * 
+ * Endpoints:
+ * - POST /menu/quote - Required inventory and shortfalls for dishes x guests
+ * - PUT /menu/reservations?eventId={id} - Reserve a menu's stock for a calendar event
+ * - GET /menu/reservations?eventId={id} - An event's reservation, re-checked against stock
+ * - DELETE /menu/reservations?eventId={id} - Release an event's reservation
+ * 
+ * Recipes are edited with GET/PUT /dishes/{id}/ingredients.
+ */
+@RestController
+@RequestMapping("/menu")
+@CrossOrigin(origins = "*")
+public class MenuController {
+
+    @Autowired
+    private MenuPlanningService menuPlanningService;
+
+    /**
+     * Quote a menu without reserving anything.
+     * 
+     * @param catererId User ID of the caterer
+     * @param request   { dishIds, guests }
+     * @return MenuQuoteDTO or 400 if a dish is unknown
+     */
+    @PostMapping("/quote")
+    public ResponseEntity<?> quote(
+            @RequestParam Long catererId,
+            @RequestBody MenuRequest request) {
+        try {
+            return ResponseEntity.ok(menuPlanningService.quote(catererId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Reserve a menu's stock for an event, replacing its previous reservation.
+     * 
+     * @param catererId User ID of the caterer
+     * @param eventId   Calendar event ID
+     * @param request   { dishIds, guests }
+     * @return MenuQuoteDTO (fulfillable=false if stock is short) or 400
+     */
+    @PutMapping("/reservations")
+    public ResponseEntity<?> reserve(
+            @RequestParam Long catererId,
+            @RequestParam Long eventId,
+            @RequestBody MenuRequest request) {
+        try {
+            return ResponseEntity.ok(menuPlanningService.reserve(catererId, eventId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get an event's reservation.
+     * 
+     * @param eventId Calendar event ID
+     * @return MenuQuoteDTO (empty requirements if nothing is reserved)
+     */
+    @GetMapping("/reservations")
+    public ResponseEntity<MenuQuoteDTO> getReservation(@RequestParam Long eventId) {
+        return ResponseEntity.ok(menuPlanningService.getReservation(eventId));
+    }
+
+    /**
+     * Release an event's reservation.
+     * 
+     * @param eventId Calendar event ID
+     * @return 204 No Content
+     */
+    @DeleteMapping("/reservations")
+    public ResponseEntity<Void> releaseReservation(@RequestParam Long eventId) {
+        menuPlanningService.releaseReservation(eventId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,11 +1,12 @@
 package org.caterfind.controller;
 
-import org.caterfind.dto.MessageDTO;
 import org.caterfind.dto.MessageRequest;
 import org.caterfind.service.MessageService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -76,12 +77,7 @@ public class MessageController {
             @RequestParam Long catererId,
             @RequestBody org.caterfind.dto.ReorderRequest request) { // Use fully qualified name if import is missing
 
-        boolean success = messageService.sendReorderMessage(
-                catererId,
-                request.getDealerName(),
-                request.getDealerPhone(),
-                request.getDealerContactId(),
-                request.getMessageText());
+        boolean success = messageService.sendReorderMessage(catererId, request);
 
         Map<String, Object> response = new HashMap<>();
         if (success) {
@@ -102,12 +98,14 @@ public class MessageController {
      * This is for audit/logging purposes only.
      * NOT an inbox or chat interface.
      * 
+     * The JSON array is streamed from the database in chunks.
+     * 
      * @param catererId User ID of the caterer
      * @return List of MessageDTOs
      */
     @GetMapping("/logs")
-    public ResponseEntity<List<MessageDTO>> getMessageHistory(@RequestParam Long catererId) {
-        List<MessageDTO> messages = messageService.getMessageHistory(catererId);
-        return ResponseEntity.ok(messages);
+    public ResponseEntity<StreamingResponseBody> getMessageHistory(@RequestParam Long catererId) {
+        StreamingResponseBody messages = out -> messageService.streamMessageHistory(catererId, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(messages);
     }
 }
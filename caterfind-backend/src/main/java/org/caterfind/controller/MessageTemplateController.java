@@ -0,0 +1,99 @@
+package org.caterfind.controller;
+
+import org.caterfind.dto.MessageTemplateDTO;
+import org.caterfind.service.MessageTemplateService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Message template controller.
+ *
+ * Endpoints:
+ * - GET /messages/templates - List templates
+ * - POST /messages/templates - Create template
+ * - PUT /messages/templates/{id} - Update one of the caterer's templates
+ * - DELETE /messages/templates/{id} - Delete one of the caterer's templates
+ *
+ * Placeholders: {{contactName}}, {{item}}, {{quantity}}, {{eventDate}}, {{venue}}
+ */
+@RestController
+@RequestMapping("/messages/templates")
+@CrossOrigin(origins = "*")
+public class MessageTemplateController {
+
+    @Autowired
+    private MessageTemplateService messageTemplateService;
+
+    /**
+     * Get all templates of a caterer.
+     *
+     * @param catererId User ID of the caterer
+     * @return List of MessageTemplateDTOs
+     */
+    @GetMapping
+    public ResponseEntity<List<MessageTemplateDTO>> getTemplates(@RequestParam Long catererId) {
+        return ResponseEntity.ok(messageTemplateService.getTemplates(catererId));
+    }
+
+    /**
+     * Create a template.
+     *
+     * @param catererId User ID of the caterer
+     * @param dto       Template data
+     * @return Created MessageTemplateDTO or 400 if a placeholder is invalid
+     */
+    @PostMapping
+    public ResponseEntity<?> createTemplate(
+            @RequestParam Long catererId,
+            @RequestBody MessageTemplateDTO dto) {
+        try {
+            return ResponseEntity.ok(messageTemplateService.createTemplate(catererId, dto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Update a template.
+     *
+     * @param catererId User ID of the caterer
+     * @param id        Template ID
+     * @param dto       Updated template data
+     * @return Updated MessageTemplateDTO, 400 if invalid or 404 if not found
+     *         or owned by another caterer
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateTemplate(
+            @RequestParam Long catererId,
+            @PathVariable Long id,
+            @RequestBody MessageTemplateDTO dto) {
+        try {
+            MessageTemplateDTO updated = messageTemplateService.updateTemplate(catererId, id, dto);
+            if (updated != null) {
+                return ResponseEntity.ok(updated);
+            }
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Delete a template.
+     *
+     * @param catererId User ID of the caterer
+     * @param id        Template ID
+     * @return 204 No Content if deleted, 404 if not found or owned by another caterer
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteTemplate(@RequestParam Long catererId, @PathVariable Long id) {
+        if (messageTemplateService.deleteTemplate(catererId, id)) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.notFound().build();
+    }
+}
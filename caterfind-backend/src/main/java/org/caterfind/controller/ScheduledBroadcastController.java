@@ -0,0 +1,77 @@
+package org.caterfind.controller;
+
+import org.caterfind.dto.ScheduledBroadcastDTO;
+import org.caterfind.service.ScheduledBroadcastService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scheduled broadcast controller.
+ *
+ * Endpoints:
+ * - POST /messages/scheduled - Schedule a broadcast
+ * - GET /messages/scheduled - List scheduled broadcasts
+ * - DELETE /messages/scheduled/{id}?catererId={id} - Cancel a scheduled broadcast
+ *
+ * Example body (6 AM on the day of every calendar event):
+ * { "contactIds": [1, 2], "messageText": "Report at venue at 6 AM",
+ * "recurrenceType": "EACH_EVENT", "eventOffsetMinutes": 360 }
+ */
+@RestController
+@RequestMapping("/messages/scheduled")
+@CrossOrigin(origins = "*")
+public class ScheduledBroadcastController {
+
+    @Autowired
+    private ScheduledBroadcastService scheduledBroadcastService;
+
+    /**
+     * Schedule a broadcast.
+     *
+     * @param catererId User ID of the caterer
+     * @param dto       Schedule data
+     * @return Created ScheduledBroadcastDTO or 400 if invalid
+     */
+    @PostMapping
+    public ResponseEntity<?> createScheduledBroadcast(
+            @RequestParam Long catererId,
+            @RequestBody ScheduledBroadcastDTO dto) {
+        try {
+            ScheduledBroadcastDTO created = scheduledBroadcastService.createScheduledBroadcast(catererId, dto);
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get scheduled broadcasts of a caterer.
+     *
+     * @param catererId User ID of the caterer
+     * @return List of ScheduledBroadcastDTOs
+     */
+    @GetMapping
+    public ResponseEntity<List<ScheduledBroadcastDTO>> getScheduledBroadcasts(@RequestParam Long catererId) {
+        return ResponseEntity.ok(scheduledBroadcastService.getScheduledBroadcasts(catererId));
+    }
+
+    /**
+     * Cancel a scheduled broadcast.
+     *
+     * @param id        Scheduled broadcast ID
+     * @param catererId User ID of the caterer
+     * @return 204 No Content if cancelled, 404 if not found or not the caterer's
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancelScheduledBroadcast(@PathVariable Long id, @RequestParam Long catererId) {
+        if (scheduledBroadcastService.cancelScheduledBroadcast(catererId, id)) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.notFound().build();
+    }
+}
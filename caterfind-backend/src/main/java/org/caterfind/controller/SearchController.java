@@ -0,0 +1,53 @@
+package org.caterfind.controller;
+
+import org.caterfind.dto.SearchResultDTO;
+import org.caterfind.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Search controller for ranked, typo-tolerant full-text search.
+ * 
+ * Endpoints:
+ * - GET /search/caterers?q= - Caterers by business name, description, area, city
+ * - GET /search/dishes?userId=&q= - A caterer's dishes by name, description, category, labels
+ * - GET /search/contacts?catererId=&q= - A caterer's contacts by name, email or phone digits
+ * 
+ * All endpoints take page (from 0, default 0) and size (default 20, max 50)
+ * and return { query, total, page, size, results }, best match first.
+ */
+@RestController
+@RequestMapping("/search")
+@CrossOrigin(origins = "*")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    @GetMapping("/caterers")
+    public ResponseEntity<SearchResultDTO> searchCaterers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.searchCaterers(q, page, size));
+    }
+
+    @GetMapping("/dishes")
+    public ResponseEntity<SearchResultDTO> searchDishes(
+            @RequestParam Long userId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.searchDishes(userId, q, page, size));
+    }
+
+    @GetMapping("/contacts")
+    public ResponseEntity<SearchResultDTO> searchContacts(
+            @RequestParam Long catererId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.searchContacts(catererId, q, page, size));
+    }
+}
@@ -0,0 +1,46 @@
+package org.caterfind.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.caterfind.service.ProviderSimulator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Provider simulator controller, for inspecting load-test runs.
+ *
+ * Endpoints (only registered when a provider is "simulated"):
+ * - GET /simulator/stats - Per-channel attempts, sent, failed, throttled
+ * - GET /simulator/sends?limit={n} - Most recent recorded sends
+ * - DELETE /simulator - Reset counters and recorded sends
+ */
+@RestController
+@RequestMapping("/simulator")
+@ConditionalOnExpression("'${app.calling.provider:twilio}' == 'simulated' "
+        + "or '${app.sms.provider:twilio}' == 'simulated' "
+        + "or '${app.email.provider:smtp}' == 'simulated'")
+public class SimulatorController {
+
+    @Autowired
+    private ProviderSimulator simulator;
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Map<String, Object>>> getStats() {
+        return ResponseEntity.ok(simulator.getStats());
+    }
+
+    @GetMapping("/sends")
+    public ResponseEntity<List<Map<String, Object>>> getSends(
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(simulator.getRecordedSends(limit));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        simulator.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
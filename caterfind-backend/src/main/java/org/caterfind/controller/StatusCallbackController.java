@@ -0,0 +1,150 @@
+package org.caterfind.controller;
+
+import com.twilio.security.RequestValidator;
+import org.caterfind.entity.Message;
+import org.caterfind.service.DeliveryStatusBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+
+/**
+ * Provider status callback controller.
+ *
+ * Endpoints (called by the providers, not the frontend):
+ * - POST /status/twilio/sms - Twilio SMS status (MessageSid, MessageStatus)
+ * - POST /status/twilio/call - Twilio call status (CallSid, CallStatus)
+ * - POST /status/exotel - Exotel call status (CallSid, Status)
+ *
+ * Only final states are recorded; intermediate ones (queued, sending,
+ * ringing, ...) are acknowledged and ignored. Updates are buffered and
+ * written to the messages table in batches by DeliveryStatusBuffer.
+ *
+ * The endpoints are public, so every callback is authenticated before it is
+ * recorded, and answered 403 otherwise:
+ * - Twilio: X-Twilio-Signature, checked with the account auth token against
+ * twilio.callbackUrl + path (the URL Twilio signed, not the one behind the proxy)
+ * - Exotel: the exotel.callbackToken shared secret, which ExotelCallService
+ * puts in the callback URL as ?token=...
+ */
+@RestController
+@RequestMapping("/status")
+public class StatusCallbackController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusCallbackController.class);
+
+    @Autowired
+    private DeliveryStatusBuffer deliveryStatusBuffer;
+
+    @Value("${twilio.authToken}")
+    private String twilioAuthToken;
+
+    @Value("${twilio.callbackUrl}")
+    private String twilioCallbackUrl;
+
+    @Value("${exotel.callbackToken:}")
+    private String exotelCallbackToken;
+
+    private RequestValidator twilioValidator;
+
+    @PostConstruct
+    public void init() {
+        twilioValidator = new RequestValidator(twilioAuthToken);
+    }
+
+    @PostMapping("/twilio/sms")
+    public ResponseEntity<Void> twilioSmsStatus(
+            @RequestHeader(value = "X-Twilio-Signature", required = false) String signature,
+            @RequestParam Map<String, String> params,
+            @RequestParam("MessageSid") String messageSid,
+            @RequestParam("MessageStatus") String messageStatus) {
+        if (!validTwilioSignature("/status/twilio/sms", params, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if ("delivered".equals(messageStatus)) {
+            deliveryStatusBuffer.record(messageSid, Message.MessageStatus.DELIVERED);
+        } else if ("undelivered".equals(messageStatus) || "failed".equals(messageStatus)) {
+            deliveryStatusBuffer.record(messageSid, Message.MessageStatus.FAILED);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/twilio/call")
+    public ResponseEntity<Void> twilioCallStatus(
+            @RequestHeader(value = "X-Twilio-Signature", required = false) String signature,
+            @RequestParam Map<String, String> params,
+            @RequestParam("CallSid") String callSid,
+            @RequestParam("CallStatus") String callStatus) {
+        if (!validTwilioSignature("/status/twilio/call", params, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        recordCallStatus(callSid, callStatus);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/exotel")
+    public ResponseEntity<Void> exotelStatus(
+            @RequestParam(value = "token", required = false) String token,
+            @RequestParam("CallSid") String callSid,
+            @RequestParam("Status") String status) {
+        if (!validExotelToken(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        recordCallStatus(callSid, status);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Twilio signs the exact URL it was given plus the sorted POST parameters
+     * with the account auth token.
+     */
+    private boolean validTwilioSignature(String path, Map<String, String> params, String signature) {
+        if (signature == null || !twilioValidator.validate(twilioCallbackUrl + path, params, signature)) {
+            logger.warn("Rejected Twilio status callback on {} with a missing or invalid signature", path);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Exotel does not sign callbacks; compare the shared secret in constant time.
+     * With no secret configured every callback is rejected.
+     */
+    private boolean validExotelToken(String token) {
+        if (exotelCallbackToken.isEmpty() || token == null
+                || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                        exotelCallbackToken.getBytes(StandardCharsets.UTF_8))) {
+            logger.warn("Rejected Exotel status callback with a missing or invalid token");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Map a call status (same vocabulary for Twilio and Exotel) to a final state.
+     * "completed" means the call was answered and the message played.
+     */
+    private void recordCallStatus(String callSid, String status) {
+        switch (status) {
+            case "completed":
+                deliveryStatusBuffer.record(callSid, Message.MessageStatus.DELIVERED);
+                break;
+            case "busy":
+            case "no-answer":
+            case "failed":
+            case "canceled":
+                deliveryStatusBuffer.record(callSid, Message.MessageStatus.FAILED);
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -1,14 +1,43 @@
 package org.caterfind.controller;
 
+import org.caterfind.entity.TwimlDocument;
+import org.caterfind.service.TwimlService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 public class TwimlController {
 
+    @Autowired
+    private TwimlService twimlService;
+
+    /**
+     * Serve a stored TwiML document. Answers 304 when Twilio sends a matching
+     * If-None-Match, so retried fetches cost no body at all.
+     */
+    @RequestMapping(value = "/twiml/{id}", method = { RequestMethod.GET, RequestMethod.POST }, produces = "application/xml")
+    public ResponseEntity<String> twimlDocument(
+            @PathVariable String id,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        TwimlDocument document = twimlService.getDocument(id);
+        if (document == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (document.getEtag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(document.getEtag()).build();
+        }
+        return ResponseEntity.ok().eTag(document.getEtag()).body(document.getXml());
+    }
+
+    /**
+     * Legacy endpoint for calls placed before TwiML documents were stored.
+     */
     @RequestMapping(value = "/twiml", method = { RequestMethod.GET, RequestMethod.POST }, produces = "application/xml")
     public String twiml(@RequestParam(required = false) String msg) {
         if (msg == null)
             msg = "Hello from SMS App";
-        return "<Response><Say voice='alice'>" + msg + "</Say></Response>";
+        return twimlService.renderSay(msg);
     }
 }
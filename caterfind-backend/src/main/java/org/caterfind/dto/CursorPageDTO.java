@@ -0,0 +1,42 @@
+package org.caterfind.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for one page of a cursor-paginated listing.
+ * 
+ * items hold only the requested fields (fields=...); pass nextCursor back as
+ * cursor=... for the following page. nextCursor is null on the last page.
+ */
+public class CursorPageDTO {
+
+    private List<Map<String, Object>> items;
+    private String nextCursor;
+
+    // Constructors
+    public CursorPageDTO() {
+    }
+
+    public CursorPageDTO(List<Map<String, Object>> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<Map<String, Object>> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Map<String, Object>> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
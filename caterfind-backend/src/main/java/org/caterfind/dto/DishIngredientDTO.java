@@ -0,0 +1,58 @@
+package org.caterfind.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for one ingredient of a dish recipe.
+ */
+public class DishIngredientDTO {
+
+    private Long itemId; // Inventory item
+    private String itemName; // Read-only
+    private BigDecimal quantityPerGuest;
+    private String unit; // Any unit of the item's dimension, defaults to the item's unit
+
+    // Constructors
+    public DishIngredientDTO() {
+    }
+
+    public DishIngredientDTO(Long itemId, String itemName, BigDecimal quantityPerGuest, String unit) {
+        this.itemId = itemId;
+        this.itemName = itemName;
+        this.quantityPerGuest = quantityPerGuest;
+        this.unit = unit;
+    }
+
+    // Getters and Setters
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public void setItemName(String itemName) {
+        this.itemName = itemName;
+    }
+
+    public BigDecimal getQuantityPerGuest() {
+        return quantityPerGuest;
+    }
+
+    public void setQuantityPerGuest(BigDecimal quantityPerGuest) {
+        this.quantityPerGuest = quantityPerGuest;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+}
@@ -0,0 +1,50 @@
+package org.caterfind.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a group of contacts that share a normalized phone or email.
+ *
+ * Returned by the duplicate finder so the caterer can merge or delete them.
+ */
+public class DuplicateContactGroupDTO {
+
+    private String matchedOn; // "PHONE" or "EMAIL"
+    private String value; // E.164 phone or lower-cased email
+    private List<ContactDTO> contacts;
+
+    // Constructors
+    public DuplicateContactGroupDTO() {
+    }
+
+    public DuplicateContactGroupDTO(String matchedOn, String value, List<ContactDTO> contacts) {
+        this.matchedOn = matchedOn;
+        this.value = value;
+        this.contacts = contacts;
+    }
+
+    // Getters and Setters
+    public String getMatchedOn() {
+        return matchedOn;
+    }
+
+    public void setMatchedOn(String matchedOn) {
+        this.matchedOn = matchedOn;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public List<ContactDTO> getContacts() {
+        return contacts;
+    }
+
+    public void setContacts(List<ContactDTO> contacts) {
+        this.contacts = contacts;
+    }
+}
@@ -0,0 +1,38 @@
+package org.caterfind.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a relative stock adjustment (PATCH /inventory/{id}/adjust).
+ */
+public class InventoryAdjustRequest {
+
+    private BigDecimal delta; // Signed: negative for usage, positive for restock
+    private String note; // Optional, stored in the movement ledger
+
+    // Constructors
+    public InventoryAdjustRequest() {
+    }
+
+    public InventoryAdjustRequest(BigDecimal delta, String note) {
+        this.delta = delta;
+        this.note = note;
+    }
+
+    // Getters and Setters
+    public BigDecimal getDelta() {
+        return delta;
+    }
+
+    public void setDelta(BigDecimal delta) {
+        this.delta = delta;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+}
@@ -1,6 +1,7 @@
 package org.caterfind.dto;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * DTO for InventoryItem entity.
@@ -19,6 +20,10 @@ public class InventoryDTO {
     private String dealerName; // For display purposes or manual entry
     private String dealerPhone; // For display purposes or manual entry
     private Boolean isLowStock; // Computed: quantity < minThreshold
+    private String baseUnit; // g, ml or pcs (read-only)
+    private BigDecimal baseQuantity; // quantity in baseUnit (read-only)
+    private Long version; // Optimistic lock; send back unchanged on PUT
+    private LocalDateTime reorderedAt; // Last automatic reorder, null if none
 
     // Constructors
     public InventoryDTO() {
@@ -119,4 +124,36 @@ public class InventoryDTO {
     public void setIsLowStock(Boolean isLowStock) {
         this.isLowStock = isLowStock;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getReorderedAt() {
+        return reorderedAt;
+    }
+
+    public void setReorderedAt(LocalDateTime reorderedAt) {
+        this.reorderedAt = reorderedAt;
+    }
+
+    public String getBaseUnit() {
+        return baseUnit;
+    }
+
+    public void setBaseUnit(String baseUnit) {
+        this.baseUnit = baseUnit;
+    }
+
+    public BigDecimal getBaseQuantity() {
+        return baseQuantity;
+    }
+
+    public void setBaseQuantity(BigDecimal baseQuantity) {
+        this.baseQuantity = baseQuantity;
+    }
 }
@@ -0,0 +1,43 @@
+package org.caterfind.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the outcome of a bulk inventory import.
+ */
+public class InventoryImportResult {
+
+    private int imported;
+    private int rejected;
+    private List<String> errors = new ArrayList<>(); // "Row 12: unknown category 'FRUIT'" (first 100 only)
+
+    // Constructors
+    public InventoryImportResult() {
+    }
+
+    // Getters and Setters
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
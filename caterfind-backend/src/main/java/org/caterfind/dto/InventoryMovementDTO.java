@@ -0,0 +1,69 @@
+package org.caterfind.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one inventory ledger entry.
+ */
+public class InventoryMovementDTO {
+
+    private Long id;
+    private BigDecimal delta;
+    private String reason; // INITIAL, EDIT, ADJUSTMENT, DELETED
+    private String note;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public InventoryMovementDTO() {
+    }
+
+    public InventoryMovementDTO(Long id, BigDecimal delta, String reason, String note, LocalDateTime createdAt) {
+        this.id = id;
+        this.delta = delta;
+        this.reason = reason;
+        this.note = note;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public BigDecimal getDelta() {
+        return delta;
+    }
+
+    public void setDelta(BigDecimal delta) {
+        this.delta = delta;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
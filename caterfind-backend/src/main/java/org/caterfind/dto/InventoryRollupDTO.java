@@ -0,0 +1,97 @@
+package org.caterfind.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one point of the stock-level trend series.
+ */
+public class InventoryRollupDTO {
+
+    private LocalDateTime bucketStart;
+    private String category;
+    private BigDecimal totalQuantity; // Raw sum across units
+    private BigDecimal totalMassGrams;
+    private BigDecimal totalVolumeMl;
+    private BigDecimal totalPieces;
+    private long itemCount;
+    private long lowStockCount;
+
+    // Constructors
+    public InventoryRollupDTO() {
+    }
+
+    public InventoryRollupDTO(LocalDateTime bucketStart, String category, BigDecimal totalQuantity,
+            long itemCount, long lowStockCount) {
+        this.bucketStart = bucketStart;
+        this.category = category;
+        this.totalQuantity = totalQuantity;
+        this.itemCount = itemCount;
+        this.lowStockCount = lowStockCount;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public BigDecimal getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    public void setTotalQuantity(BigDecimal totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(long itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public long getLowStockCount() {
+        return lowStockCount;
+    }
+
+    public void setLowStockCount(long lowStockCount) {
+        this.lowStockCount = lowStockCount;
+    }
+
+    public BigDecimal getTotalMassGrams() {
+        return totalMassGrams;
+    }
+
+    public void setTotalMassGrams(BigDecimal totalMassGrams) {
+        this.totalMassGrams = totalMassGrams;
+    }
+
+    public BigDecimal getTotalVolumeMl() {
+        return totalVolumeMl;
+    }
+
+    public void setTotalVolumeMl(BigDecimal totalVolumeMl) {
+        this.totalVolumeMl = totalVolumeMl;
+    }
+
+    public BigDecimal getTotalPieces() {
+        return totalPieces;
+    }
+
+    public void setTotalPieces(BigDecimal totalPieces) {
+        this.totalPieces = totalPieces;
+    }
+}
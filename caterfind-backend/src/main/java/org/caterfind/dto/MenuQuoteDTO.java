@@ -0,0 +1,52 @@
+package org.caterfind.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the inventory a menu needs and whether stock covers it.
+ */
+public class MenuQuoteDTO {
+
+    private Long eventId; // Set when the quote was reserved against an event
+    private int guests;
+    private List<MenuRequirementDTO> requirements = new ArrayList<>();
+    private boolean fulfillable; // true if no requirement has a shortfall
+
+    // Constructors
+    public MenuQuoteDTO() {
+    }
+
+    // Getters and Setters
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public int getGuests() {
+        return guests;
+    }
+
+    public void setGuests(int guests) {
+        this.guests = guests;
+    }
+
+    public List<MenuRequirementDTO> getRequirements() {
+        return requirements;
+    }
+
+    public void setRequirements(List<MenuRequirementDTO> requirements) {
+        this.requirements = requirements;
+    }
+
+    public boolean isFulfillable() {
+        return fulfillable;
+    }
+
+    public void setFulfillable(boolean fulfillable) {
+        this.fulfillable = fulfillable;
+    }
+}
@@ -0,0 +1,38 @@
+package org.caterfind.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a menu to quote or reserve: dishes served to a number of guests.
+ */
+public class MenuRequest {
+
+    private List<Long> dishIds;
+    private int guests;
+
+    // Constructors
+    public MenuRequest() {
+    }
+
+    public MenuRequest(List<Long> dishIds, int guests) {
+        this.dishIds = dishIds;
+        this.guests = guests;
+    }
+
+    // Getters and Setters
+    public List<Long> getDishIds() {
+        return dishIds;
+    }
+
+    public void setDishIds(List<Long> dishIds) {
+        this.dishIds = dishIds;
+    }
+
+    public int getGuests() {
+        return guests;
+    }
+
+    public void setGuests(int guests) {
+        this.guests = guests;
+    }
+}
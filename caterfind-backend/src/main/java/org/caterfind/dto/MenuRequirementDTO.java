@@ -0,0 +1,70 @@
+package org.caterfind.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for one inventory item needed by a menu. Quantities are in the
+ * item's own unit.
+ */
+public class MenuRequirementDTO {
+
+    private Long itemId;
+    private String itemName;
+    private String unit;
+    private BigDecimal required;
+    private BigDecimal available; // In stock minus reservations of other upcoming events
+    private BigDecimal shortfall; // required - available, zero if covered
+
+    // Constructors
+    public MenuRequirementDTO() {
+    }
+
+    // Getters and Setters
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public void setItemName(String itemName) {
+        this.itemName = itemName;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    public BigDecimal getRequired() {
+        return required;
+    }
+
+    public void setRequired(BigDecimal required) {
+        this.required = required;
+    }
+
+    public BigDecimal getAvailable() {
+        return available;
+    }
+
+    public void setAvailable(BigDecimal available) {
+        this.available = available;
+    }
+
+    public BigDecimal getShortfall() {
+        return shortfall;
+    }
+
+    public void setShortfall(BigDecimal shortfall) {
+        this.shortfall = shortfall;
+    }
+}
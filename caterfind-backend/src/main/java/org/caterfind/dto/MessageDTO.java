@@ -14,7 +14,7 @@ public class MessageDTO {
     private String messageText;
     private String contactMethod; // "EMAIL" or "SMS"
     private LocalDateTime sentAt;
-    private String status; // "SENT" or "FAILED"
+    private String status; // "SENT", "DELIVERED" or "FAILED"
 
     // Constructors
     public MessageDTO() {
@@ -7,6 +7,10 @@ import java.util.List;
  * 
  * Contains list of contact IDs and message text.
  * 
+ * Optional templateId: the message is rendered per recipient from a saved
+ * template instead of messageText. item, quantity and calendarEventId
+ * (eventDate, venue) fill the template's shared placeholders.
+ * 
  * REMINDER: This is NOT a chat system.
  * This is for broadcast messaging only - no threading, no replies.
  */
@@ -14,6 +18,10 @@ public class MessageRequest {
 
     private List<Long> contactIds; // IDs of contacts to send message to
     private String messageText; // Message content
+    private Long templateId; // Optional: render from a saved template
+    private String item; // Optional: {{item}}
+    private String quantity; // Optional: {{quantity}}
+    private Long calendarEventId; // Optional: {{eventDate}} and {{venue}}
 
     // Constructors
     public MessageRequest() {
@@ -40,4 +48,36 @@ public class MessageRequest {
     public void setMessageText(String messageText) {
         this.messageText = messageText;
     }
+
+    public Long getTemplateId() {
+        return templateId;
+    }
+
+    public void setTemplateId(Long templateId) {
+        this.templateId = templateId;
+    }
+
+    public String getItem() {
+        return item;
+    }
+
+    public void setItem(String item) {
+        this.item = item;
+    }
+
+    public String getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(String quantity) {
+        this.quantity = quantity;
+    }
+
+    public Long getCalendarEventId() {
+        return calendarEventId;
+    }
+
+    public void setCalendarEventId(Long calendarEventId) {
+        this.calendarEventId = calendarEventId;
+    }
 }
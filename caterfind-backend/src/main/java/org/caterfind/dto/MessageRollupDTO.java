@@ -0,0 +1,78 @@
+package org.caterfind.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one point of the messaging analytics series.
+ */
+public class MessageRollupDTO {
+
+    private LocalDateTime bucketStart;
+    private String contactMethod;
+    private long sent;
+    private long delivered;
+    private long failed;
+    private double failureRate; // failed / sent, 0 when nothing was sent
+
+    // Constructors
+    public MessageRollupDTO() {
+    }
+
+    public MessageRollupDTO(LocalDateTime bucketStart, String contactMethod, long sent, long delivered, long failed) {
+        this.bucketStart = bucketStart;
+        this.contactMethod = contactMethod;
+        this.sent = sent;
+        this.delivered = delivered;
+        this.failed = failed;
+        this.failureRate = sent == 0 ? 0 : (double) failed / sent;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public String getContactMethod() {
+        return contactMethod;
+    }
+
+    public void setContactMethod(String contactMethod) {
+        this.contactMethod = contactMethod;
+    }
+
+    public long getSent() {
+        return sent;
+    }
+
+    public void setSent(long sent) {
+        this.sent = sent;
+    }
+
+    public long getDelivered() {
+        return delivered;
+    }
+
+    public void setDelivered(long delivered) {
+        this.delivered = delivered;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public double getFailureRate() {
+        return failureRate;
+    }
+
+    public void setFailureRate(double failureRate) {
+        this.failureRate = failureRate;
+    }
+}
@@ -0,0 +1,59 @@
+package org.caterfind.dto;
+
+/**
+ * DTO for MessageTemplate entity.
+ *
+ * subject and body may contain placeholders:
+ * {{contactName}}, {{item}}, {{quantity}}, {{eventDate}}, {{venue}}
+ */
+public class MessageTemplateDTO {
+
+    private Long id;
+    private String name;
+    private String subject; // Used for EMAIL recipients only
+    private String body;
+
+    // Constructors
+    public MessageTemplateDTO() {
+    }
+
+    public MessageTemplateDTO(Long id, String name, String subject, String body) {
+        this.id = id;
+        this.name = name;
+        this.subject = subject;
+        this.body = body;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+}
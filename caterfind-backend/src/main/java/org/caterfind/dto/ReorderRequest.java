@@ -5,6 +5,9 @@ public class ReorderRequest {
     private String dealerPhone;
     private Long dealerContactId; // Optional: if linked
     private String messageText;
+    private Long templateId; // Optional: render from a saved template
+    private String itemName; // Optional: {{item}}
+    private String quantity; // Optional: {{quantity}}
 
     // Constructors
     public ReorderRequest() {
@@ -49,4 +52,28 @@ public class ReorderRequest {
     public void setMessageText(String messageText) {
         this.messageText = messageText;
     }
+
+    public Long getTemplateId() {
+        return templateId;
+    }
+
+    public void setTemplateId(Long templateId) {
+        this.templateId = templateId;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public void setItemName(String itemName) {
+        this.itemName = itemName;
+    }
+
+    public String getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(String quantity) {
+        this.quantity = quantity;
+    }
 }
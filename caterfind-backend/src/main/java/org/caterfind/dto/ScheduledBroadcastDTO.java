@@ -0,0 +1,121 @@
+package org.caterfind.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for scheduled and recurring broadcasts.
+ *
+ * recurrenceType: "NONE", "CRON" or "EACH_EVENT"
+ * - NONE: sendAt is required
+ * - CRON: cronExpression is required (e.g., "0 0 6 * * MON")
+ * - EACH_EVENT: eventOffsetMinutes from the start of each event day
+ * (e.g., 360 = 6 AM on the event day, -180 = 9 PM the day before)
+ */
+public class ScheduledBroadcastDTO {
+
+    private Long id;
+    private List<Long> contactIds;
+    private String messageText;
+    private String recurrenceType;
+    private LocalDateTime sendAt;
+    private String cronExpression;
+    private Integer eventOffsetMinutes;
+    private Long calendarEventId;
+    private LocalDateTime nextRunAt;
+    private LocalDateTime lastRunAt;
+    private String status; // "ACTIVE", "COMPLETED" or "CANCELLED"
+
+    // Constructors
+    public ScheduledBroadcastDTO() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public List<Long> getContactIds() {
+        return contactIds;
+    }
+
+    public void setContactIds(List<Long> contactIds) {
+        this.contactIds = contactIds;
+    }
+
+    public String getMessageText() {
+        return messageText;
+    }
+
+    public void setMessageText(String messageText) {
+        this.messageText = messageText;
+    }
+
+    public String getRecurrenceType() {
+        return recurrenceType;
+    }
+
+    public void setRecurrenceType(String recurrenceType) {
+        this.recurrenceType = recurrenceType;
+    }
+
+    public LocalDateTime getSendAt() {
+        return sendAt;
+    }
+
+    public void setSendAt(LocalDateTime sendAt) {
+        this.sendAt = sendAt;
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public void setCronExpression(String cronExpression) {
+        this.cronExpression = cronExpression;
+    }
+
+    public Integer getEventOffsetMinutes() {
+        return eventOffsetMinutes;
+    }
+
+    public void setEventOffsetMinutes(Integer eventOffsetMinutes) {
+        this.eventOffsetMinutes = eventOffsetMinutes;
+    }
+
+    public Long getCalendarEventId() {
+        return calendarEventId;
+    }
+
+    public void setCalendarEventId(Long calendarEventId) {
+        this.calendarEventId = calendarEventId;
+    }
+
+    public LocalDateTime getNextRunAt() {
+        return nextRunAt;
+    }
+
+    public void setNextRunAt(LocalDateTime nextRunAt) {
+        this.nextRunAt = nextRunAt;
+    }
+
+    public LocalDateTime getLastRunAt() {
+        return lastRunAt;
+    }
+
+    public void setLastRunAt(LocalDateTime lastRunAt) {
+        this.lastRunAt = lastRunAt;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,69 @@
+package org.caterfind.dto;
+
+/**
+ * DTO for one full-text search match.
+ * 
+ * id is the caterer's user ID for CATERER hits, the dish or contact ID
+ * otherwise.
+ */
+public class SearchHitDTO {
+
+    private String type; // CATERER, DISH or CONTACT
+    private Long id;
+    private String title;
+    private String subtitle;
+    private float score;
+
+    // Constructors
+    public SearchHitDTO() {
+    }
+
+    public SearchHitDTO(String type, Long id, String title, String subtitle, float score) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.subtitle = subtitle;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getSubtitle() {
+        return subtitle;
+    }
+
+    public void setSubtitle(String subtitle) {
+        this.subtitle = subtitle;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
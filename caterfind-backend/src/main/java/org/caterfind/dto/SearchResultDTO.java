@@ -0,0 +1,68 @@
+package org.caterfind.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one page of full-text search results, best match first.
+ */
+public class SearchResultDTO {
+
+    private String query;
+    private long total; // Matches overall (lower bound above 1000)
+    private int page;
+    private int size;
+    private List<SearchHitDTO> results;
+
+    // Constructors
+    public SearchResultDTO() {
+    }
+
+    public SearchResultDTO(String query, long total, int page, int size, List<SearchHitDTO> results) {
+        this.query = query;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public List<SearchHitDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<SearchHitDTO> results) {
+        this.results = results;
+    }
+}
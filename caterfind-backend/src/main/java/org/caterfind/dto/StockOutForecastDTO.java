@@ -0,0 +1,97 @@
+package org.caterfind.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO for an inventory item predicted to run out before upcoming events.
+ */
+public class StockOutForecastDTO {
+
+    private Long itemId;
+    private String itemName;
+    private String unit;
+    private BigDecimal quantity;
+    private BigDecimal dailyConsumption; // Exponentially-weighted, units per day
+    private LocalDate stockOutDate;
+    private int eventsBeforeStockOut; // Upcoming events still covered by current stock
+    private LocalDate firstEventAtRisk; // First upcoming event on or after the stock-out date
+    private String firstEventHostName;
+
+    // Constructors
+    public StockOutForecastDTO() {
+    }
+
+    // Getters and Setters
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public void setItemName(String itemName) {
+        this.itemName = itemName;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    public BigDecimal getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(BigDecimal quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getDailyConsumption() {
+        return dailyConsumption;
+    }
+
+    public void setDailyConsumption(BigDecimal dailyConsumption) {
+        this.dailyConsumption = dailyConsumption;
+    }
+
+    public LocalDate getStockOutDate() {
+        return stockOutDate;
+    }
+
+    public void setStockOutDate(LocalDate stockOutDate) {
+        this.stockOutDate = stockOutDate;
+    }
+
+    public int getEventsBeforeStockOut() {
+        return eventsBeforeStockOut;
+    }
+
+    public void setEventsBeforeStockOut(int eventsBeforeStockOut) {
+        this.eventsBeforeStockOut = eventsBeforeStockOut;
+    }
+
+    public LocalDate getFirstEventAtRisk() {
+        return firstEventAtRisk;
+    }
+
+    public void setFirstEventAtRisk(LocalDate firstEventAtRisk) {
+        this.firstEventAtRisk = firstEventAtRisk;
+    }
+
+    public String getFirstEventHostName() {
+        return firstEventHostName;
+    }
+
+    public void setFirstEventHostName(String firstEventHostName) {
+        this.firstEventHostName = firstEventHostName;
+    }
+}
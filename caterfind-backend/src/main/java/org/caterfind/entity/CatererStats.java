@@ -0,0 +1,79 @@
+package org.caterfind.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * CatererStats entity: materialized dashboard counters, one row per caterer.
+ *
+ * Kept current by CatererStatsService as contacts, messages and inventory
+ * change, so the dashboard reads a single row by primary key instead of
+ * counting three tables. A scheduled reconciler recomputes the counts to
+ * correct any drift.
+ */
+@Entity
+@Table(name = "caterer_stats")
+public class CatererStats {
+
+    // Same value as the caterer's User ID
+    @Id
+    @Column(name = "caterer_id")
+    private Long catererId;
+
+    @Column(name = "total_contacts", nullable = false)
+    private long totalContacts;
+
+    @Column(name = "low_stock_count", nullable = false)
+    private long lowStockCount;
+
+    @Column(name = "total_messages", nullable = false)
+    private long totalMessages;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public CatererStats() {
+    }
+
+    // Getters and Setters
+    public Long getCatererId() {
+        return catererId;
+    }
+
+    public void setCatererId(Long catererId) {
+        this.catererId = catererId;
+    }
+
+    public long getTotalContacts() {
+        return totalContacts;
+    }
+
+    public void setTotalContacts(long totalContacts) {
+        this.totalContacts = totalContacts;
+    }
+
+    public long getLowStockCount() {
+        return lowStockCount;
+    }
+
+    public void setLowStockCount(long lowStockCount) {
+        this.lowStockCount = lowStockCount;
+    }
+
+    public long getTotalMessages() {
+        return totalMessages;
+    }
+
+    public void setTotalMessages(long totalMessages) {
+        this.totalMessages = totalMessages;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,68 @@
+package org.caterfind.entity;
+
+import javax.persistence.*;
+
+/**
+ * CollectionVersion entity: change counter of one caterer's collection
+ * (contacts, inventory, dishes, calendar).
+ *
+ * Bumped by CollectionVersions in the same transaction as the write, so
+ * every backend node derives the same ETag from it. A missing row reads as
+ * version 0.
+ */
+@Entity
+@Table(name = "collection_versions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_collection_version", columnNames = { "caterer_id", "collection" })
+})
+public class CollectionVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "caterer_id", nullable = false)
+    private Long catererId;
+
+    @Column(nullable = false, length = 20)
+    private String collection;
+
+    @Column(nullable = false)
+    private long version;
+
+    // Constructors
+    public CollectionVersion() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCatererId() {
+        return catererId;
+    }
+
+    public void setCatererId(Long catererId) {
+        this.catererId = catererId;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public void setCollection(String collection) {
+        this.collection = collection;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
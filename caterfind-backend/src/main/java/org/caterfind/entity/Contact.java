@@ -13,11 +13,22 @@ import java.util.Set;
  * preferred_contact_method determines whether to use EMAIL or SMS
  * when sending broadcast messages from the messaging module.
  * 
+ * normalized_phone (E.164) and normalized_email (lower-case) are unique per
+ * caterer, so the same person cannot be stored twice, and are the keys used
+ * to collapse duplicate recipients in broadcasts.
+ * 
  * IMPORTANT: This is NOT for client event contacts.
  * This is purely for internal caterer coordination (staff, suppliers, etc.).
  */
 @Entity
-@Table(name = "contacts")
+@Table(name = "contacts", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_contact_caterer_phone", columnNames = { "caterer_id", "normalized_phone" }),
+    @UniqueConstraint(name = "uk_contact_caterer_email", columnNames = { "caterer_id", "normalized_email" })
+}, indexes = {
+    // Keyset pagination by name / creation time
+    @Index(name = "idx_contact_caterer_name", columnList = "caterer_id, name"),
+    @Index(name = "idx_contact_caterer_created", columnList = "caterer_id, created_at")
+})
 public class Contact {
 
     @Id
@@ -36,6 +47,14 @@ public class Contact {
 
     private String email;
 
+    // E.164 form of phone, maintained by ContactService
+    @Column(name = "normalized_phone", length = 20)
+    private String normalizedPhone;
+
+    // Lower-cased email, maintained by ContactService
+    @Column(name = "normalized_email")
+    private String normalizedEmail;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "preferred_contact_method")
     private ContactMethod preferredContactMethod = ContactMethod.EMAIL;
@@ -117,6 +136,22 @@ public class Contact {
         this.email = email;
     }
 
+    public String getNormalizedPhone() {
+        return normalizedPhone;
+    }
+
+    public void setNormalizedPhone(String normalizedPhone) {
+        this.normalizedPhone = normalizedPhone;
+    }
+
+    public String getNormalizedEmail() {
+        return normalizedEmail;
+    }
+
+    public void setNormalizedEmail(String normalizedEmail) {
+        this.normalizedEmail = normalizedEmail;
+    }
+
     public ContactMethod getPreferredContactMethod() {
         return preferredContactMethod;
     }
@@ -2,12 +2,18 @@ package org.caterfind.entity;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * Dish entity representing a dish in a caterer's library.
  */
 @Entity
-@Table(name = "dishes")
+@Table(name = "dishes", indexes = {
+    // Keyset pagination by name / creation time
+    @Index(name = "idx_dish_user_name", columnList = "user_id, name"),
+    @Index(name = "idx_dish_user_created", columnList = "user_id, created_at")
+})
 public class Dish {
 
     @Id
@@ -33,8 +39,11 @@ public class Dish {
     @Column(nullable = false)
     private String type; // "Veg" or "Non-Veg"
 
-    @Column(columnDefinition = "TEXT")
-    private String labels; // Comma-separated labels
+    // Labels (Spicy, Jain, ...) from the shared tag dictionary
+    @ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+    @JoinTable(name = "dish_tag_mapping", joinColumns = @JoinColumn(name = "dish_id"), inverseJoinColumns = @JoinColumn(name = "tag_id"))
+    @OrderBy("name ASC")
+    private Set<DishTag> tags = new LinkedHashSet<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -105,12 +114,12 @@ public class Dish {
         this.type = type;
     }
 
-    public String getLabels() {
-        return labels;
+    public Set<DishTag> getTags() {
+        return tags;
     }
 
-    public void setLabels(String labels) {
-        this.labels = labels;
+    public void setTags(Set<DishTag> tags) {
+        this.tags = tags;
     }
 
     public LocalDateTime getCreatedAt() {
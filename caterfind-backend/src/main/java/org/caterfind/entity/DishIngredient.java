@@ -0,0 +1,101 @@
+package org.caterfind.entity;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+
+/**
+ * DishIngredient entity: one line of a dish's recipe (bill of materials).
+ *
+ * quantityPerGuest is entered in any registry unit of the same dimension as
+ * the inventory item (e.g. 150 g of an item stocked in kg); basePerGuest is
+ * the same amount in the item's base unit, used for all arithmetic.
+ */
+@Entity
+@Table(name = "dish_ingredients", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_dish_ingredient", columnNames = { "dish_id", "item_id" })
+}, indexes = {
+    @Index(name = "idx_ingredient_item", columnList = "item_id")
+})
+public class DishIngredient {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "dish_id", nullable = false)
+    private Long dishId;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "quantity_per_guest", nullable = false, precision = 12, scale = 4)
+    private BigDecimal quantityPerGuest;
+
+    @Column(nullable = false, length = 50)
+    private String unit;
+
+    @Column(name = "base_per_guest", nullable = false, precision = 20, scale = 6)
+    private BigDecimal basePerGuest;
+
+    // Constructors
+    public DishIngredient() {
+    }
+
+    public DishIngredient(Long dishId, Long itemId, BigDecimal quantityPerGuest, String unit,
+            BigDecimal basePerGuest) {
+        this.dishId = dishId;
+        this.itemId = itemId;
+        this.quantityPerGuest = quantityPerGuest;
+        this.unit = unit;
+        this.basePerGuest = basePerGuest;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getDishId() {
+        return dishId;
+    }
+
+    public void setDishId(Long dishId) {
+        this.dishId = dishId;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public BigDecimal getQuantityPerGuest() {
+        return quantityPerGuest;
+    }
+
+    public void setQuantityPerGuest(BigDecimal quantityPerGuest) {
+        this.quantityPerGuest = quantityPerGuest;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    public BigDecimal getBasePerGuest() {
+        return basePerGuest;
+    }
+
+    public void setBasePerGuest(BigDecimal basePerGuest) {
+        this.basePerGuest = basePerGuest;
+    }
+}
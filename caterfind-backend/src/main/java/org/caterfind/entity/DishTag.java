@@ -0,0 +1,69 @@
+package org.caterfind.entity;
+
+import javax.persistence.*;
+import java.util.Locale;
+
+/**
+ * DishTag entity: dictionary of dish labels ("Spicy", "Jain",
+ * "Gluten-Free", ...).
+ * 
+ * Tags are shared by all caterers and matched case-insensitively through
+ * normalized_name; name keeps the spelling it was first entered with.
+ * 
+ * Many-to-many relationship with Dish via dish_tag_mapping.
+ */
+@Entity
+@Table(name = "dish_tags")
+public class DishTag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(name = "normalized_name", nullable = false, unique = true, length = 50)
+    private String normalizedName;
+
+    // Constructors
+    public DishTag() {
+    }
+
+    public DishTag(String name) {
+        this.name = name;
+        this.normalizedName = normalize(name);
+    }
+
+    /**
+     * Lookup key of a tag name: trimmed and lower-cased.
+     */
+    public static String normalize(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    public void setNormalizedName(String normalizedName) {
+        this.normalizedName = normalizedName;
+    }
+}
@@ -0,0 +1,71 @@
+package org.caterfind.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * InventoryForecast entity: running consumption estimate, one row per item.
+ *
+ * decayedConsumption is an exponentially decayed sum of quantity decreases:
+ * each new decrease is added after the previous sum has decayed by the time
+ * elapsed since lastConsumptionAt. Multiplied by the decay rate it gives an
+ * exponentially-weighted consumption rate per day. Updated in O(1) on every
+ * stock decrease by ConsumptionForecastService.
+ */
+@Entity
+@Table(name = "inventory_forecasts", indexes = {
+    @Index(name = "idx_forecast_caterer", columnList = "caterer_id")
+})
+public class InventoryForecast {
+
+    // Same value as the inventory item's ID
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "caterer_id", nullable = false)
+    private Long catererId;
+
+    @Column(name = "decayed_consumption", nullable = false)
+    private double decayedConsumption;
+
+    @Column(name = "last_consumption_at", nullable = false)
+    private LocalDateTime lastConsumptionAt;
+
+    // Constructors
+    public InventoryForecast() {
+    }
+
+    // Getters and Setters
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public Long getCatererId() {
+        return catererId;
+    }
+
+    public void setCatererId(Long catererId) {
+        this.catererId = catererId;
+    }
+
+    public double getDecayedConsumption() {
+        return decayedConsumption;
+    }
+
+    public void setDecayedConsumption(double decayedConsumption) {
+        this.decayedConsumption = decayedConsumption;
+    }
+
+    public LocalDateTime getLastConsumptionAt() {
+        return lastConsumptionAt;
+    }
+
+    public void setLastConsumptionAt(LocalDateTime lastConsumptionAt) {
+        this.lastConsumptionAt = lastConsumptionAt;
+    }
+}
@@ -25,7 +25,12 @@ import java.time.LocalDateTime;
  * This is purely for internal inventory tracking.
  */
 @Entity
-@Table(name = "inventory_items")
+@Table(name = "inventory_items", indexes = {
+    @Index(name = "idx_inventory_updated_at", columnList = "updated_at"),
+    // Keyset pagination by name / creation time
+    @Index(name = "idx_inventory_caterer_name", columnList = "caterer_id, item_name"),
+    @Index(name = "idx_inventory_caterer_created", columnList = "caterer_id, created_at")
+})
 public class InventoryItem {
 
     @Id
@@ -52,6 +57,20 @@ public class InventoryItem {
     @Column(name = "min_threshold", nullable = false, precision = 10, scale = 2)
     private BigDecimal minThreshold = BigDecimal.ZERO;
 
+    // quantity and minThreshold normalized to the unit's base unit (g, ml,
+    // pcs; see MeasurementUnit), kept in step on every write
+    @Column(name = "base_unit", length = 20)
+    private String baseUnit;
+
+    @Column(name = "unit_factor", precision = 20, scale = 6)
+    private BigDecimal unitFactor;
+
+    @Column(name = "base_quantity", precision = 20, scale = 4)
+    private BigDecimal baseQuantity;
+
+    @Column(name = "base_min_threshold", precision = 20, scale = 4)
+    private BigDecimal baseMinThreshold;
+
     // Optional: Assigned dealer from contacts (for reordering)
     @Column(name = "dealer_contact_id")
     private Long dealerContactId;
@@ -69,6 +88,15 @@ public class InventoryItem {
     @Transient
     private Boolean isLowStock;
 
+    // Optimistic lock for full edits; relative adjustments bump it in SQL
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
+
+    // Last automatic reorder for this item (see ReorderEngine); null = never
+    @Column(name = "reordered_at")
+    private LocalDateTime reorderedAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -97,11 +125,25 @@ public class InventoryItem {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        normalize();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        normalize();
+    }
+
+    /**
+     * Recompute the base-unit columns from quantity, minThreshold and unit.
+     * Units missing from the registry are their own base unit (factor 1).
+     */
+    private void normalize() {
+        MeasurementUnit measurementUnit = MeasurementUnit.resolve(unit);
+        baseUnit = measurementUnit != null ? measurementUnit.getBaseUnit() : unit;
+        unitFactor = measurementUnit != null ? measurementUnit.getFactor() : BigDecimal.ONE;
+        baseQuantity = quantity.multiply(unitFactor);
+        baseMinThreshold = minThreshold.multiply(unitFactor);
     }
 
     // Constructors
@@ -212,6 +254,38 @@ public class InventoryItem {
         this.isLowStock = isLowStock;
     }
 
+    public String getBaseUnit() {
+        return baseUnit;
+    }
+
+    public BigDecimal getUnitFactor() {
+        return unitFactor;
+    }
+
+    public BigDecimal getBaseQuantity() {
+        return baseQuantity;
+    }
+
+    public BigDecimal getBaseMinThreshold() {
+        return baseMinThreshold;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getReorderedAt() {
+        return reorderedAt;
+    }
+
+    public void setReorderedAt(LocalDateTime reorderedAt) {
+        this.reorderedAt = reorderedAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,133 @@
+package org.caterfind.entity;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * InventoryMovement entity: one append-only entry of the stock ledger.
+ *
+ * Every change to an item's quantity is recorded as a signed delta with a
+ * reason. Rows are never updated; old rows are folded into an
+ * InventorySnapshot by the ledger compaction job and then deleted.
+ *
+ * The quantity column of inventory_items stays the current snapshot used
+ * by all hot reads; the ledger is only read to replay history.
+ */
+@Entity
+@Table(name = "inventory_movements", indexes = {
+    @Index(name = "idx_movement_item_time", columnList = "item_id, created_at")
+})
+public class InventoryMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "caterer_id", nullable = false)
+    private Long catererId;
+
+    // Signed change in the item's unit
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal delta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Reason reason;
+
+    @Column(length = 255)
+    private String note;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Why the quantity changed.
+     */
+    public enum Reason {
+        INITIAL, // Item created (or existed before the ledger)
+        EDIT, // Quantity overwritten from the edit form
+        ADJUSTMENT, // Relative adjustment (restock, usage, correction)
+        DELETED, // Item deleted; brings the replayed quantity to zero
+        UNIT_CHANGE // Unit changed; restates the quantity in the new unit (not consumption)
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    // Constructors
+    public InventoryMovement() {
+    }
+
+    public InventoryMovement(Long itemId, Long catererId, BigDecimal delta, Reason reason, String note) {
+        this.itemId = itemId;
+        this.catererId = catererId;
+        this.delta = delta;
+        this.reason = reason;
+        this.note = note;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public Long getCatererId() {
+        return catererId;
+    }
+
+    public void setCatererId(Long catererId) {
+        this.catererId = catererId;
+    }
+
+    public BigDecimal getDelta() {
+        return delta;
+    }
+
+    public void setDelta(BigDecimal delta) {
+        this.delta = delta;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public void setReason(Reason reason) {
+        this.reason = reason;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,151 @@
+package org.caterfind.entity;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * InventoryRollup entity: stock level per caterer and item category at the
+ * end of a time bucket.
+ *
+ * Written only by the AnalyticsAggregator, which snapshots the current
+ * inventory into the running hour and day; once a bucket has passed its row
+ * holds the closing stock level for that bucket.
+ */
+@Entity
+@Table(name = "inventory_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_inventory_rollup", columnNames = { "caterer_id", "granularity", "bucket_start", "category" })
+})
+public class InventoryRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "caterer_id", nullable = false)
+    private Long catererId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private InventoryItem.ItemCategory category;
+
+    @Column(name = "total_quantity", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalQuantity = BigDecimal.ZERO;
+
+    // Stock normalized to base units (see MeasurementUnit), comparable
+    // across items entered in different units
+    @Column(name = "total_mass_g", nullable = false, columnDefinition = "DECIMAL(20, 2) NOT NULL DEFAULT 0")
+    private BigDecimal totalMassGrams = BigDecimal.ZERO;
+
+    @Column(name = "total_volume_ml", nullable = false, columnDefinition = "DECIMAL(20, 2) NOT NULL DEFAULT 0")
+    private BigDecimal totalVolumeMl = BigDecimal.ZERO;
+
+    @Column(name = "total_pieces", nullable = false, columnDefinition = "DECIMAL(20, 2) NOT NULL DEFAULT 0")
+    private BigDecimal totalPieces = BigDecimal.ZERO;
+
+    @Column(name = "item_count", nullable = false)
+    private long itemCount;
+
+    @Column(name = "low_stock_count", nullable = false)
+    private long lowStockCount;
+
+    // Constructors
+    public InventoryRollup() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCatererId() {
+        return catererId;
+    }
+
+    public void setCatererId(Long catererId) {
+        this.catererId = catererId;
+    }
+
+    public RollupGranularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(RollupGranularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public InventoryItem.ItemCategory getCategory() {
+        return category;
+    }
+
+    public void setCategory(InventoryItem.ItemCategory category) {
+        this.category = category;
+    }
+
+    public BigDecimal getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    public void setTotalQuantity(BigDecimal totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+
+    public BigDecimal getTotalMassGrams() {
+        return totalMassGrams;
+    }
+
+    public void setTotalMassGrams(BigDecimal totalMassGrams) {
+        this.totalMassGrams = totalMassGrams;
+    }
+
+    public BigDecimal getTotalVolumeMl() {
+        return totalVolumeMl;
+    }
+
+    public void setTotalVolumeMl(BigDecimal totalVolumeMl) {
+        this.totalVolumeMl = totalVolumeMl;
+    }
+
+    public BigDecimal getTotalPieces() {
+        return totalPieces;
+    }
+
+    public void setTotalPieces(BigDecimal totalPieces) {
+        this.totalPieces = totalPieces;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(long itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public long getLowStockCount() {
+        return lowStockCount;
+    }
+
+    public void setLowStockCount(long lowStockCount) {
+        this.lowStockCount = lowStockCount;
+    }
+}
@@ -0,0 +1,117 @@
+package org.caterfind.entity;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Registry of inventory units of measure.
+ *
+ * Every unit belongs to a dimension with one canonical base unit (grams,
+ * milliliters, pieces) and converts to it by a fixed BigDecimal factor.
+ * InventoryItem stores its quantity in the display unit and, alongside it,
+ * normalized to the base unit, so sums across items and categories are
+ * plain SQL arithmetic.
+ *
+ * resolve() accepts the spellings people actually type ("kg", "Kgs",
+ * "litre", "pcs", ...).
+ */
+public enum MeasurementUnit {
+
+    GRAM("g", Dimension.MASS, "1", "g", "gm", "gms", "gram", "grams"),
+    KILOGRAM("kg", Dimension.MASS, "1000", "kg", "kgs", "kilo", "kilos", "kilogram", "kilograms"),
+    QUINTAL("quintal", Dimension.MASS, "100000", "quintal", "quintals", "qtl"),
+    MILLILITER("ml", Dimension.VOLUME, "1", "ml", "milliliter", "milliliters", "millilitre", "millilitres"),
+    LITER("liters", Dimension.VOLUME, "1000", "l", "ltr", "liter", "liters", "litre", "litres"),
+    PIECE("pieces", Dimension.COUNT, "1", "pc", "pcs", "piece", "pieces", "nos", "unit", "units"),
+    DOZEN("dozen", Dimension.COUNT, "12", "dozen", "dozens", "dz");
+
+    /**
+     * Physical dimension of a unit and its canonical base unit.
+     */
+    public enum Dimension {
+        MASS("g"),
+        VOLUME("ml"),
+        COUNT("pcs");
+
+        private final String baseUnit;
+
+        Dimension(String baseUnit) {
+            this.baseUnit = baseUnit;
+        }
+
+        public String getBaseUnit() {
+            return baseUnit;
+        }
+    }
+
+    private static final Map<String, MeasurementUnit> BY_ALIAS = new HashMap<>();
+
+    static {
+        for (MeasurementUnit unit : values()) {
+            for (String alias : unit.aliases) {
+                BY_ALIAS.put(alias, unit);
+            }
+        }
+    }
+
+    private final String symbol;
+    private final Dimension dimension;
+    private final BigDecimal factor;
+    private final List<String> aliases;
+
+    MeasurementUnit(String symbol, Dimension dimension, String factor, String... aliases) {
+        this.symbol = symbol;
+        this.dimension = dimension;
+        this.factor = new BigDecimal(factor);
+        this.aliases = List.of(aliases);
+    }
+
+    /**
+     * Look up a unit by any of its spellings.
+     *
+     * @param unit Unit as entered (case and surrounding spaces ignored)
+     * @return The unit, or null if unknown
+     */
+    public static MeasurementUnit resolve(String unit) {
+        return unit == null ? null : BY_ALIAS.get(unit.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return Preferred display spelling (what the frontend offers)
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    /**
+     * @return Lower-case spellings resolve() accepts
+     */
+    public List<String> getAliases() {
+        return aliases;
+    }
+
+    public String getBaseUnit() {
+        return dimension.getBaseUnit();
+    }
+
+    /**
+     * @return Base units per one of this unit (e.g. 1000 for kg -> g)
+     */
+    public BigDecimal getFactor() {
+        return factor;
+    }
+
+    /**
+     * Convert a quantity in this unit to the base unit.
+     */
+    public BigDecimal toBase(BigDecimal quantity) {
+        return quantity == null ? null : quantity.multiply(factor);
+    }
+}
@@ -24,7 +24,12 @@ import java.time.LocalDateTime;
  * Each message is logged separately per contact for audit purposes.
  */
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+    @Index(name = "idx_provider_sid", columnList = "provider_sid"),
+    @Index(name = "idx_sent_at", columnList = "sent_at"),
+    // Message history streams in this order without a filesort
+    @Index(name = "idx_message_caterer_sent", columnList = "caterer_id, sent_at")
+})
 public class Message {
 
     @Id
@@ -57,11 +62,19 @@ public class Message {
     @Column(name = "sent_at", nullable = false)
     private LocalDateTime sentAt;
 
-    // Status: SENT or FAILED (for stub implementation, always SENT)
+    // Status: SENT when accepted by the provider, then DELIVERED or FAILED
+    // once the provider's status callback arrives
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private MessageStatus status = MessageStatus.SENT;
 
+    // Provider message/call SID (Twilio or Exotel) used to match status callbacks
+    @Column(name = "provider_sid", length = 64)
+    private String providerSid;
+
+    @Column(name = "status_updated_at")
+    private LocalDateTime statusUpdatedAt;
+
     /**
      * Enum for contact method (matches Contact.ContactMethod).
      */
@@ -73,10 +86,12 @@ public class Message {
 
     /**
      * Enum for message delivery status.
-     * For stub implementation (no real email/SMS), always SENT.
+     * SENT = accepted by the provider (email stays SENT, no receipts).
+     * DELIVERED / FAILED = final state reported by a provider status callback.
      */
     public enum MessageStatus {
         SENT,
+        DELIVERED,
         FAILED
     }
 
@@ -169,4 +184,20 @@ public class Message {
     public void setStatus(MessageStatus status) {
         this.status = status;
     }
+
+    public String getProviderSid() {
+        return providerSid;
+    }
+
+    public void setProviderSid(String providerSid) {
+        this.providerSid = providerSid;
+    }
+
+    public LocalDateTime getStatusUpdatedAt() {
+        return statusUpdatedAt;
+    }
+
+    public void setStatusUpdatedAt(LocalDateTime statusUpdatedAt) {
+        this.statusUpdatedAt = statusUpdatedAt;
+    }
 }
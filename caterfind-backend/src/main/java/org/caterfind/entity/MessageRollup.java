@@ -0,0 +1,116 @@
+package org.caterfind.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * MessageRollup entity: pre-aggregated message counts per caterer, channel
+ * and time bucket.
+ *
+ * Written only by the AnalyticsAggregator; analytics endpoints read these
+ * rows and never the raw messages table, so a chart costs one row per
+ * bucket and channel however many messages were sent.
+ */
+@Entity
+@Table(name = "message_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_message_rollup", columnNames = { "caterer_id", "granularity", "bucket_start", "contact_method" })
+})
+public class MessageRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "caterer_id", nullable = false)
+    private Long catererId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "contact_method", nullable = false, length = 10)
+    private Message.ContactMethod contactMethod;
+
+    // Messages logged in the bucket (every row in messages was accepted by the provider)
+    @Column(name = "sent_count", nullable = false)
+    private long sentCount;
+
+    @Column(name = "delivered_count", nullable = false)
+    private long deliveredCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    // Constructors
+    public MessageRollup() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCatererId() {
+        return catererId;
+    }
+
+    public void setCatererId(Long catererId) {
+        this.catererId = catererId;
+    }
+
+    public RollupGranularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(RollupGranularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public Message.ContactMethod getContactMethod() {
+        return contactMethod;
+    }
+
+    public void setContactMethod(Message.ContactMethod contactMethod) {
+        this.contactMethod = contactMethod;
+    }
+
+    public long getSentCount() {
+        return sentCount;
+    }
+
+    public void setSentCount(long sentCount) {
+        this.sentCount = sentCount;
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount;
+    }
+
+    public void setDeliveredCount(long deliveredCount) {
+        this.deliveredCount = deliveredCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+}
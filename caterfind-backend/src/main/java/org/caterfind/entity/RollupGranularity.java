@@ -0,0 +1,10 @@
+package org.caterfind.entity;
+
+/**
+ * Bucket size of an analytics rollup row.
+ * HOUR buckets start on the hour, DAY buckets at midnight.
+ */
+public enum RollupGranularity {
+    HOUR,
+    DAY
+}
@@ -0,0 +1,226 @@
+package org.caterfind.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ScheduledBroadcast entity for broadcasts that are sent later or repeatedly.
+ *
+ * Purpose:
+ * - Send the same broadcast at a fixed time (e.g., "report at venue at 6 AM")
+ * - Repeat on a cron schedule, or before every upcoming CalendarEvent
+ *
+ * Recurrence types:
+ * - NONE: send once at nextRunAt
+ * - CRON: after each run, nextRunAt = next match of cronExpression
+ * - EACH_EVENT: after each run, nextRunAt = start of the next CalendarEvent
+ * date of the caterer plus eventOffsetMinutes (negative = before midnight)
+ *
+ * Rows are claimed by the BroadcastScheduler with SELECT ... FOR UPDATE SKIP
+ * LOCKED, so several backend nodes can poll the same table safely.
+ */
+@Entity
+@Table(name = "scheduled_broadcasts", indexes = {
+    @Index(name = "idx_scheduled_due", columnList = "status, next_run_at"),
+    @Index(name = "idx_scheduled_caterer", columnList = "caterer_id")
+})
+public class ScheduledBroadcast {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Foreign key to User (caterer who scheduled the broadcast)
+    @Column(name = "caterer_id", nullable = false)
+    private Long catererId;
+
+    @Column(name = "message_text", nullable = false, columnDefinition = "TEXT")
+    private String messageText;
+
+    @Column(name = "contact_ids", nullable = false, columnDefinition = "TEXT")
+    private String contactIds; // Comma-separated contact IDs
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "recurrence_type", nullable = false)
+    private RecurrenceType recurrenceType = RecurrenceType.NONE;
+
+    // Spring cron format: second minute hour day month weekday
+    @Column(name = "cron_expression", length = 100)
+    private String cronExpression;
+
+    // Minutes relative to the start of the event day (EACH_EVENT only)
+    @Column(name = "event_offset_minutes")
+    private Integer eventOffsetMinutes;
+
+    // Event that the current nextRunAt belongs to (EACH_EVENT only)
+    @Column(name = "calendar_event_id")
+    private Long calendarEventId;
+
+    @Column(name = "next_run_at")
+    private LocalDateTime nextRunAt;
+
+    @Column(name = "last_run_at")
+    private LocalDateTime lastRunAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ScheduleStatus status = ScheduleStatus.ACTIVE;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * How the next run is computed after a run completes.
+     */
+    public enum RecurrenceType {
+        NONE,
+        CRON,
+        EACH_EVENT
+    }
+
+    /**
+     * ACTIVE rows are picked up by the scheduler.
+     * COMPLETED rows have no further runs, CANCELLED rows were stopped by the caterer.
+     */
+    public enum ScheduleStatus {
+        ACTIVE,
+        COMPLETED,
+        CANCELLED
+    }
+
+    // Automatically set createdAt timestamp before persisting
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public ScheduledBroadcast() {
+    }
+
+    /**
+     * Parse the stored comma-separated contact IDs.
+     */
+    public List<Long> getContactIdList() {
+        List<Long> ids = new ArrayList<>();
+        if (contactIds == null || contactIds.isEmpty()) {
+            return ids;
+        }
+        for (String id : contactIds.split(",")) {
+            if (!id.trim().isEmpty()) {
+                ids.add(Long.valueOf(id.trim()));
+            }
+        }
+        return ids;
+    }
+
+    public void setContactIdList(List<Long> ids) {
+        StringBuilder joined = new StringBuilder();
+        for (Long id : ids) {
+            if (joined.length() > 0) {
+                joined.append(',');
+            }
+            joined.append(id);
+        }
+        this.contactIds = joined.toString();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCatererId() {
+        return catererId;
+    }
+
+    public void setCatererId(Long catererId) {
+        this.catererId = catererId;
+    }
+
+    public String getMessageText() {
+        return messageText;
+    }
+
+    public void setMessageText(String messageText) {
+        this.messageText = messageText;
+    }
+
+    public String getContactIds() {
+        return contactIds;
+    }
+
+    public void setContactIds(String contactIds) {
+        this.contactIds = contactIds;
+    }
+
+    public RecurrenceType getRecurrenceType() {
+        return recurrenceType;
+    }
+
+    public void setRecurrenceType(RecurrenceType recurrenceType) {
+        this.recurrenceType = recurrenceType;
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public void setCronExpression(String cronExpression) {
+        this.cronExpression = cronExpression;
+    }
+
+    public Integer getEventOffsetMinutes() {
+        return eventOffsetMinutes;
+    }
+
+    public void setEventOffsetMinutes(Integer eventOffsetMinutes) {
+        this.eventOffsetMinutes = eventOffsetMinutes;
+    }
+
+    public Long getCalendarEventId() {
+        return calendarEventId;
+    }
+
+    public void setCalendarEventId(Long calendarEventId) {
+        this.calendarEventId = calendarEventId;
+    }
+
+    public LocalDateTime getNextRunAt() {
+        return nextRunAt;
+    }
+
+    public void setNextRunAt(LocalDateTime nextRunAt) {
+        this.nextRunAt = nextRunAt;
+    }
+
+    public LocalDateTime getLastRunAt() {
+        return lastRunAt;
+    }
+
+    public void setLastRunAt(LocalDateTime lastRunAt) {
+        this.lastRunAt = lastRunAt;
+    }
+
+    public ScheduleStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ScheduleStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,107 @@
+package org.caterfind.entity;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * StockReservation entity: inventory set aside for a booked calendar event.
+ *
+ * Written by MenuPlanningService when an event's menu is reserved, one row
+ * per inventory item. Reservations of events from today onwards reduce the
+ * stock available to other events; past events' reservations no longer
+ * count, and deleting an event releases its reservation.
+ */
+@Entity
+@Table(name = "stock_reservations", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_reservation_event_item", columnNames = { "event_id", "item_id" })
+}, indexes = {
+    @Index(name = "idx_reservation_item", columnList = "item_id")
+})
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "caterer_id", nullable = false)
+    private Long catererId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    // In the item's base unit (see MeasurementUnit)
+    @Column(name = "base_quantity", nullable = false, precision = 20, scale = 4)
+    private BigDecimal baseQuantity;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public StockReservation() {
+    }
+
+    public StockReservation(Long catererId, Long eventId, Long itemId, BigDecimal baseQuantity) {
+        this.catererId = catererId;
+        this.eventId = eventId;
+        this.itemId = itemId;
+        this.baseQuantity = baseQuantity;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCatererId() {
+        return catererId;
+    }
+
+    public void setCatererId(Long catererId) {
+        this.catererId = catererId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public BigDecimal getBaseQuantity() {
+        return baseQuantity;
+    }
+
+    public void setBaseQuantity(BigDecimal baseQuantity) {
+        this.baseQuantity = baseQuantity;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
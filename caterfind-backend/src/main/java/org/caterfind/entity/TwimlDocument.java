@@ -0,0 +1,82 @@
+package org.caterfind.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * TwimlDocument entity holding the pre-rendered TwiML for an outbound call.
+ *
+ * Twilio fetches /twiml/{id} when the call connects (and again on retries),
+ * so the message text no longer travels in the callback query string.
+ *
+ * Documents are immutable: the ETag is computed once from the XML.
+ * The ID is a random UUID because the endpoint is public.
+ */
+@Entity
+@Table(name = "twiml_documents", indexes = {
+    @Index(name = "idx_twiml_created", columnList = "created_at")
+})
+public class TwimlDocument {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String xml;
+
+    @Column(nullable = false, length = 64)
+    private String etag;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Automatically set createdAt timestamp before persisting
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public TwimlDocument() {
+    }
+
+    public TwimlDocument(String id, String xml, String etag) {
+        this.id = id;
+        this.xml = xml;
+        this.etag = etag;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getXml() {
+        return xml;
+    }
+
+    public void setXml(String xml) {
+        this.xml = xml;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,6 +1,7 @@
 package org.caterfind.repository;
 
 import org.caterfind.entity.CalendarEvent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Calendar Event Repository
@@ -36,4 +38,15 @@ public interface CalendarEventRepository extends JpaRepository<CalendarEvent, Lo
      * Find events in a date range for a user
      */
     List<CalendarEvent> findByUserIdAndEventDateBetweenOrderByEventDateAsc(Long userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Find the first event of a user strictly after a date (for event-tied broadcasts)
+     */
+    Optional<CalendarEvent> findFirstByUserIdAndEventDateAfterOrderByEventDateAsc(Long userId, LocalDate afterDate);
+
+    /**
+     * Find a user's next events on or after a date (for stock-out forecasts)
+     */
+    List<CalendarEvent> findByUserIdAndEventDateGreaterThanEqualOrderByEventDateAsc(Long userId, LocalDate fromDate,
+            Pageable pageable);
 }
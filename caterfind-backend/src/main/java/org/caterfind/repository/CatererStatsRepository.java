@@ -0,0 +1,61 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.CatererStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for CatererStats entity.
+ *
+ * Counters are changed with single atomic statements, never read-modify-write,
+ * so concurrent requests cannot lose an increment.
+ */
+@Repository
+public interface CatererStatsRepository extends JpaRepository<CatererStats, Long> {
+
+    /**
+     * Add deltas to a caterer's counters.
+     *
+     * @return 0 if the caterer has no stats row yet
+     */
+    @Modifying
+    @Query(value = "UPDATE caterer_stats SET total_contacts = total_contacts + :contacts, "
+            + "low_stock_count = low_stock_count + :lowStock, total_messages = total_messages + :messages, "
+            + "updated_at = NOW() WHERE caterer_id = :catererId", nativeQuery = true)
+    int addDeltas(@Param("catererId") Long catererId, @Param("contacts") long contacts,
+            @Param("lowStock") long lowStock, @Param("messages") long messages);
+
+    /**
+     * Recompute one caterer's counters from the source tables, creating the
+     * row if missing.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO caterer_stats (caterer_id, total_contacts, low_stock_count, total_messages, updated_at) "
+            + "SELECT :catererId, "
+            + "(SELECT COUNT(*) FROM contacts WHERE caterer_id = :catererId), "
+            + "(SELECT COUNT(*) FROM inventory_items WHERE caterer_id = :catererId AND quantity <= min_threshold), "
+            + "(SELECT COUNT(*) FROM messages WHERE caterer_id = :catererId), NOW() "
+            + "ON DUPLICATE KEY UPDATE total_contacts = VALUES(total_contacts), "
+            + "low_stock_count = VALUES(low_stock_count), total_messages = VALUES(total_messages), "
+            + "updated_at = VALUES(updated_at)", nativeQuery = true)
+    int recompute(@Param("catererId") Long catererId);
+
+    /**
+     * Recompute the counters of every caterer that has a stats row.
+     *
+     * @return Number of rows whose counters had drifted
+     */
+    @Modifying
+    @Query(value = "UPDATE caterer_stats s "
+            + "LEFT JOIN (SELECT caterer_id, COUNT(*) AS n FROM contacts GROUP BY caterer_id) c ON c.caterer_id = s.caterer_id "
+            + "LEFT JOIN (SELECT caterer_id, COUNT(*) AS n FROM inventory_items WHERE quantity <= min_threshold GROUP BY caterer_id) i ON i.caterer_id = s.caterer_id "
+            + "LEFT JOIN (SELECT caterer_id, COUNT(*) AS n FROM messages GROUP BY caterer_id) m ON m.caterer_id = s.caterer_id "
+            + "SET s.total_contacts = COALESCE(c.n, 0), s.low_stock_count = COALESCE(i.n, 0), "
+            + "s.total_messages = COALESCE(m.n, 0), s.updated_at = NOW() "
+            + "WHERE s.total_contacts <> COALESCE(c.n, 0) OR s.low_stock_count <> COALESCE(i.n, 0) "
+            + "OR s.total_messages <> COALESCE(m.n, 0)", nativeQuery = true)
+    int reconcileAll();
+}
@@ -0,0 +1,53 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.CollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for CollectionVersion entity.
+ *
+ * Versions are only ever incremented with single atomic statements, so
+ * concurrent writers on any node cannot lose a bump.
+ */
+@Repository
+public interface CollectionVersionRepository extends JpaRepository<CollectionVersion, Long> {
+
+    /**
+     * A caterer's versions of the given collections (missing rows: version 0).
+     */
+    List<CollectionVersion> findByCatererIdAndCollectionIn(Long catererId, Collection<String> collections);
+
+    /**
+     * Increment one caterer's collection version.
+     *
+     * @return 0 if the caterer has no row for the collection yet
+     */
+    @Modifying
+    @Query("UPDATE CollectionVersion v SET v.version = v.version + 1 "
+            + "WHERE v.catererId = :catererId AND v.collection = :collection")
+    int increment(@Param("catererId") Long catererId, @Param("collection") String collection);
+
+    /**
+     * Create a caterer's first version of a collection (or increment it, if
+     * a concurrent writer created it first).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO collection_versions (caterer_id, collection, version) "
+            + "VALUES (:catererId, :collection, 1) "
+            + "ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    int create(@Param("catererId") Long catererId, @Param("collection") String collection);
+
+    /**
+     * Increment a collection's version for every caterer that has one.
+     */
+    @Modifying
+    @Query("UPDATE CollectionVersion v SET v.version = v.version + 1 WHERE v.collection = :collection")
+    int incrementAll(@Param("collection") String collection);
+}
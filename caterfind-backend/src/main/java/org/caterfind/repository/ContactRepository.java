@@ -1,10 +1,15 @@
 package org.caterfind.repository;
 
 import org.caterfind.entity.Contact;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Contact entity.
@@ -23,6 +28,35 @@ public interface ContactRepository extends JpaRepository<Contact, Long> {
      */
     List<Contact> findByCatererId(Long catererId);
 
+    /**
+     * Find a caterer's contacts with their labels in one query.
+     * Used to load the contact autocomplete index.
+     * 
+     * @param catererId User ID of the caterer
+     * @return Contacts with labels initialized
+     */
+    @EntityGraph(attributePaths = "labels")
+    List<Contact> findWithLabelsByCatererId(Long catererId);
+
+    /**
+     * Label names of a page of contacts.
+     * 
+     * @param contactIds Contact IDs
+     * @return [contactId, labelName] pairs
+     */
+    @Query("SELECT c.id, l.labelName FROM Contact c JOIN c.labels l WHERE c.id IN :contactIds")
+    List<Object[]> findLabelNames(@Param("contactIds") Collection<Long> contactIds);
+
+    /**
+     * Find a caterer's contacts by exact name.
+     * Used to resolve dealer names of a bulk inventory import in one query.
+     * 
+     * @param catererId User ID of the caterer
+     * @param names     Contact names
+     * @return Matching contacts
+     */
+    List<Contact> findByCatererIdAndNameIn(Long catererId, Collection<String> names);
+
     /**
      * Count total contacts for a caterer.
      * Used for dashboard summary widget.
@@ -31,4 +65,33 @@ public interface ContactRepository extends JpaRepository<Contact, Long> {
      * @return Total number of contacts
      */
     long countByCatererId(Long catererId);
+
+    /**
+     * Find a caterer's contact by E.164 phone.
+     * Used to reject duplicate contacts before hitting the unique index.
+     * 
+     * @param catererId       User ID of the caterer
+     * @param normalizedPhone E.164 phone number
+     * @return Optional containing the contact if found
+     */
+    Optional<Contact> findByCatererIdAndNormalizedPhone(Long catererId, String normalizedPhone);
+
+    /**
+     * Find a caterer's contact by lower-cased email.
+     * 
+     * @param catererId       User ID of the caterer
+     * @param normalizedEmail Lower-cased email
+     * @return Optional containing the contact if found
+     */
+    Optional<Contact> findByCatererIdAndNormalizedEmail(Long catererId, String normalizedEmail);
+
+    /**
+     * Find contacts whose normalized keys have not been filled yet
+     * (rows created before normalization existed).
+     * 
+     * @return Contacts missing normalized phone and email
+     */
+    @Query("SELECT c FROM Contact c WHERE c.normalizedPhone IS NULL AND c.normalizedEmail IS NULL "
+            + "AND (c.phone IS NOT NULL OR c.email IS NOT NULL)")
+    List<Contact> findUnnormalized();
 }
@@ -0,0 +1,35 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.DishIngredient;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for DishIngredient entity.
+ */
+@Repository
+public interface DishIngredientRepository extends JpaRepository<DishIngredient, Long> {
+
+    List<DishIngredient> findByDishIdOrderById(Long dishId);
+
+    /**
+     * Recipes of several dishes in one query (BOM cache misses).
+     */
+    List<DishIngredient> findByDishIdIn(Collection<Long> dishIds);
+
+    long countByItemId(Long itemId);
+
+    @Modifying
+    @Query("DELETE FROM DishIngredient d WHERE d.dishId = :dishId")
+    int deleteByDishId(@Param("dishId") Long dishId);
+
+    @Modifying
+    @Query("DELETE FROM DishIngredient d WHERE d.itemId = :itemId")
+    int deleteByItemId(@Param("itemId") Long itemId);
+}
@@ -1,12 +1,27 @@
 package org.caterfind.repository;
 
 import org.caterfind.entity.Dish;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface DishRepository extends JpaRepository<Dish, Long> {
+
+    // Tags fetched in the same query (labels are part of every DishDTO)
+    @EntityGraph(attributePaths = "tags")
     List<Dish> findByUserId(Long userId);
+
+    // Every dish with its tags in one query (search index rebuild)
+    @Query("SELECT DISTINCT d FROM Dish d LEFT JOIN FETCH d.tags")
+    List<Dish> findAllWithTags();
+
+    // [dishId, tag name] pairs for a page of dishes
+    @Query("SELECT d.id, t.name FROM Dish d JOIN d.tags t WHERE d.id IN :dishIds ORDER BY t.name")
+    List<Object[]> findTagNames(@Param("dishIds") Collection<Long> dishIds);
 }
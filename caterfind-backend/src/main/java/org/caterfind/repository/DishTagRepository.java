@@ -0,0 +1,24 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.DishTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for DishTag entity.
+ */
+@Repository
+public interface DishTagRepository extends JpaRepository<DishTag, Long> {
+
+    /**
+     * Find tags by their lookup keys.
+     * Used when assigning labels to dishes.
+     * 
+     * @param normalizedNames Trimmed, lower-case tag names
+     * @return Existing tags (missing names are simply absent)
+     */
+    List<DishTag> findByNormalizedNameIn(Collection<String> normalizedNames);
+}
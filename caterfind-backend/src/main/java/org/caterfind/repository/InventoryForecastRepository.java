@@ -0,0 +1,57 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.InventoryForecast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for InventoryForecast entity.
+ *
+ * The running estimate is updated with a single atomic upsert, so concurrent
+ * stock decreases cannot lose an update.
+ */
+@Repository
+public interface InventoryForecastRepository extends JpaRepository<InventoryForecast, Long> {
+
+    /**
+     * Decay the item's running consumption to the given time and add a
+     * decrease, creating the row if missing. Assignments run left to right,
+     * so the decay uses the previous last_consumption_at.
+     *
+     * @param lambda Decay rate per day (ln 2 / half-life in days)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inventory_forecasts (item_id, caterer_id, decayed_consumption, last_consumption_at) "
+            + "VALUES (:itemId, :catererId, :amount, :at) "
+            + "ON DUPLICATE KEY UPDATE decayed_consumption = decayed_consumption "
+            + "* EXP(-:lambda * GREATEST(TIMESTAMPDIFF(SECOND, last_consumption_at, VALUES(last_consumption_at)), 0) / 86400) "
+            + "+ VALUES(decayed_consumption), last_consumption_at = GREATEST(last_consumption_at, VALUES(last_consumption_at))",
+            nativeQuery = true)
+    int addConsumption(@Param("itemId") Long itemId, @Param("catererId") Long catererId,
+            @Param("amount") double amount, @Param("at") LocalDateTime at, @Param("lambda") double lambda);
+
+    List<InventoryForecast> findByCatererId(Long catererId);
+
+    /**
+     * Restate an item's consumption in a new unit.
+     *
+     * @param ratio New units per old unit (e.g. 1000 for kg to g)
+     */
+    @Modifying
+    @Query("UPDATE InventoryForecast f SET f.decayedConsumption = f.decayedConsumption * :ratio "
+            + "WHERE f.itemId = :itemId")
+    int rescale(@Param("itemId") Long itemId, @Param("ratio") double ratio);
+
+    /**
+     * Drop the estimate of a deleted item.
+     */
+    @Modifying
+    @Query("DELETE FROM InventoryForecast f WHERE f.itemId = :itemId")
+    int deleteByItemId(@Param("itemId") Long itemId);
+}
@@ -2,9 +2,16 @@ package org.caterfind.repository;
 
 import org.caterfind.entity.InventoryItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -44,4 +51,99 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
      */
     @Query("SELECT COUNT(i) FROM InventoryItem i WHERE i.catererId = ?1 AND i.quantity <= i.minThreshold")
     long countLowStockItemsByCatererId(Long catererId);
+
+    /**
+     * Lock items (SELECT ... FOR UPDATE) in ID order, so callers that lock
+     * overlapping sets queue behind each other instead of deadlocking.
+     * Must be called inside a transaction; the locks are held until commit.
+     * 
+     * @param ids Item IDs
+     * @return The locked items, current as of the lock
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM InventoryItem i WHERE i.id IN :ids ORDER BY i.id")
+    List<InventoryItem> lockByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Apply a relative quantity change in a single statement, so concurrent
+     * adjustments cannot overwrite each other. Refuses to go below zero.
+     * baseQuantity is assigned first: MySQL evaluates SET left to right.
+     * 
+     * @param id    Item ID
+     * @param delta Signed change
+     * @param now   Update timestamp
+     * @return 1 if applied, 0 if the item is missing or stock is insufficient
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InventoryItem i SET i.baseQuantity = (i.quantity + :delta) * i.unitFactor, "
+            + "i.quantity = i.quantity + :delta, i.version = i.version + 1, "
+            + "i.updatedAt = :now WHERE i.id = :id AND i.quantity + :delta >= 0")
+    int adjustQuantity(@Param("id") Long id, @Param("delta") BigDecimal delta, @Param("now") LocalDateTime now);
+
+    /**
+     * Low-stock items changed inside a time window that are not in their
+     * reorder cooldown. Used by the reorder engine to pick up only rows
+     * changed since its last run.
+     * 
+     * @param since  Exclusive lower bound of updatedAt (previous watermark)
+     * @param until  Inclusive upper bound of updatedAt
+     * @param cutoff Items reordered before this may be reordered again
+     * @return Candidate items, grouped by caterer
+     */
+    @Query("SELECT i FROM InventoryItem i WHERE i.updatedAt > :since AND i.updatedAt <= :until "
+            + "AND i.quantity <= i.minThreshold AND (i.reorderedAt IS NULL OR i.reorderedAt < :cutoff) "
+            + "ORDER BY i.catererId, i.id")
+    List<InventoryItem> findReorderCandidates(@Param("since") LocalDateTime since,
+            @Param("until") LocalDateTime until, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Claim an item for an automatic reorder. Only one node wins the claim.
+     * updatedAt is assigned to itself so MySQL's ON UPDATE does not fire.
+     * 
+     * @param id     Item ID
+     * @param now    Claim timestamp
+     * @param cutoff Items reordered before this may be claimed again
+     * @return 1 if claimed, 0 if no longer low or already reordered
+     */
+    @Modifying
+    @Query("UPDATE InventoryItem i SET i.reorderedAt = :now, i.updatedAt = i.updatedAt WHERE i.id = :id "
+            + "AND i.quantity <= i.minThreshold AND (i.reorderedAt IS NULL OR i.reorderedAt < :cutoff)")
+    int claimReorder(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Release claims after a failed send so the items can be retried.
+     * 
+     * @param ids Item IDs
+     * @return Number of items released
+     */
+    @Modifying
+    @Query("UPDATE InventoryItem i SET i.reorderedAt = NULL, i.updatedAt = i.updatedAt WHERE i.id IN :ids")
+    int releaseReorder(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Fill the base-unit columns of items written before they existed, for
+     * one registry unit.
+     * 
+     * @param aliases  Lower-case spellings of the unit
+     * @param baseUnit Base unit of its dimension
+     * @param factor   Base units per one of this unit
+     * @return Number of items normalized
+     */
+    @Modifying
+    @Query(value = "UPDATE inventory_items SET base_unit = :baseUnit, unit_factor = :factor, "
+            + "base_quantity = quantity * :factor, base_min_threshold = min_threshold * :factor "
+            + "WHERE unit_factor IS NULL AND LOWER(TRIM(unit)) IN (:aliases)", nativeQuery = true)
+    int backfillNormalizedUnit(@Param("aliases") Collection<String> aliases, @Param("baseUnit") String baseUnit,
+            @Param("factor") BigDecimal factor);
+
+    /**
+     * Fill the base-unit columns of the remaining (unregistered unit) items:
+     * their unit is their own base unit.
+     * 
+     * @return Number of items normalized
+     */
+    @Modifying
+    @Query(value = "UPDATE inventory_items SET base_unit = unit, unit_factor = 1, base_quantity = quantity, "
+            + "base_min_threshold = min_threshold WHERE unit_factor IS NULL", nativeQuery = true)
+    int backfillUnregisteredUnits();
 }
@@ -0,0 +1,54 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.InventoryMovement;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for InventoryMovement entity (append-only ledger).
+ */
+@Repository
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long> {
+
+    /**
+     * Most recent movements of an item, newest first.
+     */
+    List<InventoryMovement> findByItemIdOrderByIdDesc(Long itemId, Pageable pageable);
+
+    /**
+     * Sum of an item's movements after a snapshot, up to a point in time.
+     */
+    @Query("SELECT COALESCE(SUM(m.delta), 0) FROM InventoryMovement m "
+            + "WHERE m.itemId = :itemId AND m.id > :afterId AND m.createdAt <= :asOf")
+    BigDecimal sumDeltas(@Param("itemId") Long itemId, @Param("afterId") Long afterId,
+            @Param("asOf") LocalDateTime asOf);
+
+    /**
+     * Record an INITIAL movement for items that have no ledger history yet
+     * (items created before the ledger existed).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inventory_movements (item_id, caterer_id, delta, reason, note, created_at) "
+            + "SELECT i.id, i.caterer_id, i.quantity, 'INITIAL', 'Opening balance', i.created_at "
+            + "FROM inventory_items i "
+            + "WHERE NOT EXISTS (SELECT 1 FROM inventory_movements m WHERE m.item_id = i.id) "
+            + "AND NOT EXISTS (SELECT 1 FROM inventory_snapshots s WHERE s.item_id = i.id)", nativeQuery = true)
+    int backfillOpeningBalances();
+
+    /**
+     * Delete movements already folded into a snapshot at the given cutoff.
+     */
+    @Modifying
+    @Query(value = "DELETE m FROM inventory_movements m JOIN inventory_snapshots s "
+            + "ON s.item_id = m.item_id AND s.as_of = :cutoff "
+            + "WHERE m.id <= s.last_movement_id", nativeQuery = true)
+    int deleteCompacted(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,45 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.InventoryRollup;
+import org.caterfind.entity.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for InventoryRollup entity.
+ */
+@Repository
+public interface InventoryRollupRepository extends JpaRepository<InventoryRollup, Long> {
+
+    /**
+     * Rollups of a caterer in a time range, oldest first.
+     */
+    List<InventoryRollup> findByCatererIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+            Long catererId, RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Snapshot current stock per caterer and category into a bucket,
+     * overwriting the previous snapshot of the same bucket. Normalized
+     * totals are summed per base unit, straight from the base_* columns.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inventory_rollups (caterer_id, granularity, bucket_start, category, "
+            + "total_quantity, total_mass_g, total_volume_ml, total_pieces, item_count, low_stock_count) "
+            + "SELECT caterer_id, :granularity, :bucketStart, category, SUM(quantity), "
+            + "COALESCE(SUM(CASE WHEN base_unit = 'g' THEN base_quantity END), 0), "
+            + "COALESCE(SUM(CASE WHEN base_unit = 'ml' THEN base_quantity END), 0), "
+            + "COALESCE(SUM(CASE WHEN base_unit = 'pcs' THEN base_quantity END), 0), "
+            + "COUNT(*), SUM(quantity <= min_threshold) "
+            + "FROM inventory_items GROUP BY caterer_id, category "
+            + "ON DUPLICATE KEY UPDATE total_quantity = VALUES(total_quantity), "
+            + "total_mass_g = VALUES(total_mass_g), total_volume_ml = VALUES(total_volume_ml), "
+            + "total_pieces = VALUES(total_pieces), "
+            + "item_count = VALUES(item_count), low_stock_count = VALUES(low_stock_count)", nativeQuery = true)
+    int snapshot(@Param("granularity") String granularity, @Param("bucketStart") LocalDateTime bucketStart);
+}
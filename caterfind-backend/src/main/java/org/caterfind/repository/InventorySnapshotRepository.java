@@ -0,0 +1,37 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.InventorySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for InventorySnapshot entity.
+ */
+@Repository
+public interface InventorySnapshotRepository extends JpaRepository<InventorySnapshot, Long> {
+
+    /**
+     * Latest snapshot of an item taken at or before a point in time.
+     */
+    Optional<InventorySnapshot> findFirstByItemIdAndAsOfLessThanEqualOrderByAsOfDesc(Long itemId, LocalDateTime asOf);
+
+    /**
+     * Fold every movement older than the cutoff into a new snapshot per item:
+     * latest previous snapshot + the movements recorded since it.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inventory_snapshots (item_id, as_of, quantity, last_movement_id) "
+            + "SELECT m.item_id, :cutoff, COALESCE(s.quantity, 0) + SUM(m.delta), MAX(m.id) "
+            + "FROM inventory_movements m "
+            + "LEFT JOIN inventory_snapshots s ON s.item_id = m.item_id "
+            + "AND s.as_of = (SELECT MAX(s2.as_of) FROM inventory_snapshots s2 WHERE s2.item_id = m.item_id) "
+            + "WHERE m.created_at < :cutoff AND m.id > COALESCE(s.last_movement_id, 0) "
+            + "GROUP BY m.item_id, s.quantity", nativeQuery = true)
+    int compactBefore(@Param("cutoff") LocalDateTime cutoff);
+}
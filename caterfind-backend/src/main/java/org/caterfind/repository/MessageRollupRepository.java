@@ -0,0 +1,57 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.MessageRollup;
+import org.caterfind.entity.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for MessageRollup entity.
+ *
+ * The rollup statements overwrite whole buckets, so re-running them over an
+ * overlapping window is idempotent.
+ */
+@Repository
+public interface MessageRollupRepository extends JpaRepository<MessageRollup, Long> {
+
+    /**
+     * Rollups of a caterer in a time range, oldest first.
+     */
+    List<MessageRollup> findByCatererIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+            Long catererId, RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Recompute HOUR buckets from messages sent since the given hour.
+     * Reads only the window (idx_sent_at), not the whole table.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO message_rollups (caterer_id, granularity, bucket_start, contact_method, "
+            + "sent_count, delivered_count, failed_count) "
+            + "SELECT caterer_id, 'HOUR', DATE_FORMAT(sent_at, '%Y-%m-%d %H:00:00'), contact_method, "
+            + "COUNT(*), SUM(status = 'DELIVERED'), SUM(status = 'FAILED') "
+            + "FROM messages WHERE sent_at >= :from "
+            + "GROUP BY caterer_id, DATE_FORMAT(sent_at, '%Y-%m-%d %H:00:00'), contact_method "
+            + "ON DUPLICATE KEY UPDATE sent_count = VALUES(sent_count), "
+            + "delivered_count = VALUES(delivered_count), failed_count = VALUES(failed_count)", nativeQuery = true)
+    int rollupHours(@Param("from") LocalDateTime from);
+
+    /**
+     * Recompute DAY buckets since the given midnight from the HOUR buckets.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO message_rollups (caterer_id, granularity, bucket_start, contact_method, "
+            + "sent_count, delivered_count, failed_count) "
+            + "SELECT caterer_id, 'DAY', DATE(bucket_start), contact_method, "
+            + "SUM(sent_count), SUM(delivered_count), SUM(failed_count) "
+            + "FROM message_rollups WHERE granularity = 'HOUR' AND bucket_start >= :from "
+            + "GROUP BY caterer_id, DATE(bucket_start), contact_method "
+            + "ON DUPLICATE KEY UPDATE sent_count = VALUES(sent_count), "
+            + "delivered_count = VALUES(delivered_count), failed_count = VALUES(failed_count)", nativeQuery = true)
+    int rollupDays(@Param("from") LocalDateTime from);
+}
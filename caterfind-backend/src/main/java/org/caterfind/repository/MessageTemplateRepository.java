@@ -0,0 +1,34 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.MessageTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for MessageTemplate entity.
+ *
+ * Provides database access methods for message templates.
+ */
+@Repository
+public interface MessageTemplateRepository extends JpaRepository<MessageTemplate, Long> {
+
+    /**
+     * Find all templates of a caterer, by name.
+     *
+     * @param catererId User ID of the caterer
+     * @return List of templates
+     */
+    List<MessageTemplate> findByCatererIdOrderByNameAsc(Long catererId);
+
+    /**
+     * Find a template only if it belongs to the caterer.
+     *
+     * @param id        Template ID
+     * @param catererId User ID of the caterer
+     * @return Template if found and owned
+     */
+    Optional<MessageTemplate> findByIdAndCatererId(Long id, Long catererId);
+}
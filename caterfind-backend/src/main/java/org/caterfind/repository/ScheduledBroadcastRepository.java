@@ -0,0 +1,52 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.ScheduledBroadcast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for ScheduledBroadcast entity.
+ *
+ * Provides database access methods for scheduled and recurring broadcasts.
+ */
+@Repository
+public interface ScheduledBroadcastRepository extends JpaRepository<ScheduledBroadcast, Long> {
+
+    /**
+     * Find all scheduled broadcasts of a caterer, soonest first.
+     *
+     * @param catererId User ID of the caterer
+     * @return List of scheduled broadcasts
+     */
+    List<ScheduledBroadcast> findByCatererIdOrderByNextRunAtAsc(Long catererId);
+
+    /**
+     * Find a scheduled broadcast only if it belongs to the caterer.
+     *
+     * @param id        Scheduled broadcast ID
+     * @param catererId User ID of the caterer
+     * @return Scheduled broadcast if found and owned
+     */
+    Optional<ScheduledBroadcast> findByIdAndCatererId(Long id, Long catererId);
+
+    /**
+     * Lock a batch of due broadcasts for this node.
+     *
+     * SKIP LOCKED makes rows already locked by another node invisible instead
+     * of blocking, so each due row is claimed by exactly one node.
+     * Must be called inside a transaction; the locks are held until commit.
+     *
+     * @param now   Current time
+     * @param limit Maximum number of rows to claim
+     * @return Locked due broadcasts
+     */
+    @Query(value = "SELECT * FROM scheduled_broadcasts WHERE status = 'ACTIVE' AND next_run_at <= :now "
+            + "ORDER BY next_run_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ScheduledBroadcast> lockDueBroadcasts(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
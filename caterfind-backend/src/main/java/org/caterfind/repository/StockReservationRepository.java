@@ -0,0 +1,50 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.StockReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for StockReservation entity.
+ */
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    List<StockReservation> findByEventIdOrderById(Long eventId);
+
+    /**
+     * Stock reserved per item by events on or after a date, other than the
+     * given event.
+     *
+     * @return Rows of [item_id, reserved base quantity]
+     */
+    @Query(value = "SELECT r.item_id, SUM(r.base_quantity) FROM stock_reservations r "
+            + "JOIN calendar_events e ON e.id = r.event_id "
+            + "WHERE r.item_id IN (:itemIds) AND e.event_date >= :fromDate AND r.event_id <> :excludeEventId "
+            + "GROUP BY r.item_id", nativeQuery = true)
+    List<Object[]> sumReservedByItem(@Param("itemIds") Collection<Long> itemIds,
+            @Param("fromDate") LocalDate fromDate, @Param("excludeEventId") Long excludeEventId);
+
+    /**
+     * Number of events on or after a date holding stock of an item.
+     */
+    @Query(value = "SELECT COUNT(DISTINCT r.event_id) FROM stock_reservations r "
+            + "JOIN calendar_events e ON e.id = r.event_id "
+            + "WHERE r.item_id = :itemId AND e.event_date >= :fromDate", nativeQuery = true)
+    long countUpcomingEventsByItemId(@Param("itemId") Long itemId, @Param("fromDate") LocalDate fromDate);
+
+    @Modifying
+    @Query("DELETE FROM StockReservation r WHERE r.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+
+    @Modifying
+    @Query("DELETE FROM StockReservation r WHERE r.itemId = :itemId")
+    int deleteByItemId(@Param("itemId") Long itemId);
+}
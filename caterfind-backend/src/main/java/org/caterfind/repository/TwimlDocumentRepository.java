@@ -0,0 +1,23 @@
+package org.caterfind.repository;
+
+import org.caterfind.entity.TwimlDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for TwimlDocument entity.
+ */
+@Repository
+public interface TwimlDocumentRepository extends JpaRepository<TwimlDocument, String> {
+
+    /**
+     * Delete documents created before the cutoff (for cleanup)
+     */
+    @Modifying
+    @Query("DELETE FROM TwimlDocument d WHERE d.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,151 @@
+package org.caterfind.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.caterfind.dto.InventoryRollupDTO;
+import org.caterfind.dto.MessageRollupDTO;
+import org.caterfind.entity.RollupGranularity;
+import org.caterfind.repository.InventoryRollupRepository;
+import org.caterfind.repository.MessageRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Analytics Service
+ *
+ * Messaging and inventory time series, served only from the
+ * message_rollups and inventory_rollups tables.
+ *
+ * A background aggregator keeps the rollups current:
+ * - Message HOUR buckets are recomputed from messages sent in the last
+ * lookback-hours (long enough for late delivery callbacks), resuming from
+ * the newest existing bucket; DAY buckets are summed from HOUR buckets.
+ * - Inventory stock per category is snapshotted into the current HOUR and
+ * DAY buckets, so each past bucket keeps its closing stock level.
+ */
+@Service
+public class AnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsService.class);
+
+    @Autowired
+    private MessageRollupRepository messageRollupRepository;
+
+    @Autowired
+    private InventoryRollupRepository inventoryRollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${analytics.rollup.enabled:true}")
+    private boolean rollupEnabled;
+
+    @Value("${analytics.rollup.lookback-hours:48}")
+    private int lookbackHours;
+
+    @Value("${analytics.rollup.initial-backfill-days:365}")
+    private int initialBackfillDays;
+
+    /**
+     * Message counts per bucket and channel.
+     *
+     * @param catererId   User ID of the caterer
+     * @param granularity HOUR or DAY
+     * @param from        First day (inclusive)
+     * @param to          Last day (inclusive)
+     * @return Series ordered by bucket
+     */
+    public List<MessageRollupDTO> getMessageSeries(Long catererId, RollupGranularity granularity,
+            LocalDate from, LocalDate to) {
+        return messageRollupRepository
+                .findByCatererIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+                        catererId, granularity, from.atStartOfDay(), to.plusDays(1).atStartOfDay().minusSeconds(1))
+                .stream()
+                .map(rollup -> new MessageRollupDTO(
+                        rollup.getBucketStart(),
+                        rollup.getContactMethod().name(),
+                        rollup.getSentCount(),
+                        rollup.getDeliveredCount(),
+                        rollup.getFailedCount()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Stock level per bucket and item category.
+     *
+     * @param catererId   User ID of the caterer
+     * @param granularity HOUR or DAY
+     * @param from        First day (inclusive)
+     * @param to          Last day (inclusive)
+     * @return Series ordered by bucket
+     */
+    public List<InventoryRollupDTO> getInventorySeries(Long catererId, RollupGranularity granularity,
+            LocalDate from, LocalDate to) {
+        return inventoryRollupRepository
+                .findByCatererIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+                        catererId, granularity, from.atStartOfDay(), to.plusDays(1).atStartOfDay().minusSeconds(1))
+                .stream()
+                .map(rollup -> {
+                    InventoryRollupDTO dto = new InventoryRollupDTO(
+                            rollup.getBucketStart(),
+                            rollup.getCategory().name(),
+                            rollup.getTotalQuantity(),
+                            rollup.getItemCount(),
+                            rollup.getLowStockCount());
+                    dto.setTotalMassGrams(rollup.getTotalMassGrams());
+                    dto.setTotalVolumeMl(rollup.getTotalVolumeMl());
+                    dto.setTotalPieces(rollup.getTotalPieces());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Scheduled aggregator
+     * Brings message and inventory rollups up to date
+     */
+    @Scheduled(fixedDelayString = "${analytics.rollup.interval-ms:300000}")
+    @Transactional
+    public void aggregate() {
+        if (!rollupEnabled) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime from = messageWindowStart(now);
+
+            int hours = messageRollupRepository.rollupHours(from);
+            int days = messageRollupRepository.rollupDays(from.truncatedTo(ChronoUnit.DAYS));
+
+            inventoryRollupRepository.snapshot(RollupGranularity.HOUR.name(), now.truncatedTo(ChronoUnit.HOURS));
+            inventoryRollupRepository.snapshot(RollupGranularity.DAY.name(), now.truncatedTo(ChronoUnit.DAYS));
+
+            logger.debug("Analytics rollup since {}: {} hour rows, {} day rows", from, hours, days);
+        } catch (Exception e) {
+            logger.error("Error during analytics rollup", e);
+        }
+    }
+
+    /**
+     * Start of the message window to re-aggregate: the lookback before the
+     * newest HOUR bucket, or the initial backfill on an empty table.
+     */
+    private LocalDateTime messageWindowStart(LocalDateTime now) {
+        LocalDateTime newest = jdbcTemplate.queryForObject(
+                "SELECT MAX(bucket_start) FROM message_rollups WHERE granularity = 'HOUR'", LocalDateTime.class);
+        if (newest == null) {
+            return now.minusDays(initialBackfillDays).truncatedTo(ChronoUnit.DAYS);
+        }
+        return newest.minusHours(lookbackHours);
+    }
+}
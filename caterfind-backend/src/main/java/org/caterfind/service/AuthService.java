@@ -65,6 +65,9 @@ public class AuthService {
     @Autowired
     private org.caterfind.repository.CateringProfileRepository cateringProfileRepository;
 
+    @Autowired
+    private SearchService searchService;
+
     /**
      * Register a new caterer.
      * 
@@ -105,7 +108,7 @@ public class AuthService {
             // Set defaults
             profile.setServiceRadius(50);
 
-            cateringProfileRepository.save(profile);
+            searchService.indexCaterer(cateringProfileRepository.save(profile));
         }
 
         // Return success response (auto-login)
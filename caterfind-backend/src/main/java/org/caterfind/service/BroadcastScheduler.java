@@ -0,0 +1,70 @@
+package org.caterfind.service;
+
+import org.caterfind.dto.MessageRequest;
+import org.caterfind.entity.ScheduledBroadcast;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Broadcast Scheduler
+ *
+ * Polls scheduled_broadcasts and sends the due ones through MessageService.
+ * Safe to run on several backend nodes at once: each batch is claimed with
+ * SELECT ... FOR UPDATE SKIP LOCKED and advanced before it is sent, so a run
+ * is dispatched by exactly one node.
+ */
+@Service
+public class BroadcastScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(BroadcastScheduler.class);
+
+    @Autowired
+    private ScheduledBroadcastService scheduledBroadcastService;
+
+    @Autowired
+    private MessageService messageService;
+
+    @Value("${messages.scheduler.enabled:true}")
+    private boolean schedulerEnabled;
+
+    @Value("${messages.scheduler.batch-size:20}")
+    private int batchSize;
+
+    /**
+     * Scheduled dispatch job
+     * Claims due broadcasts in batches until none are left
+     */
+    @Scheduled(fixedDelayString = "${messages.scheduler.poll-ms:30000}")
+    public void dispatchDueBroadcasts() {
+        if (!schedulerEnabled) {
+            return;
+        }
+
+        List<ScheduledBroadcast> claimed;
+        do {
+            try {
+                claimed = scheduledBroadcastService.claimDueBroadcasts(batchSize);
+            } catch (Exception e) {
+                logger.error("Failed to claim due broadcasts", e);
+                return;
+            }
+
+            for (ScheduledBroadcast broadcast : claimed) {
+                try {
+                    MessageRequest request = new MessageRequest(
+                            broadcast.getContactIdList(), broadcast.getMessageText());
+                    int sent = messageService.sendBroadcastMessage(broadcast.getCatererId(), request);
+                    logger.info("Scheduled broadcast {} sent to {} contact(s)", broadcast.getId(), sent);
+                } catch (Exception e) {
+                    logger.error("Scheduled broadcast {} failed", broadcast.getId(), e);
+                }
+            }
+        } while (claimed.size() == batchSize);
+    }
+}
@@ -1,5 +1,6 @@
 package org.caterfind.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.caterfind.dto.CalendarEventDTO;
 import org.caterfind.entity.CalendarEvent;
 import org.caterfind.repository.CalendarEventRepository;
@@ -29,6 +30,21 @@ public class CalendarEventService {
     @Autowired
     private CalendarEventRepository repository;
 
+    @Autowired
+    private ScheduledBroadcastService scheduledBroadcastService;
+
+    @Autowired
+    private CatererEventBus catererEventBus;
+
+    @Autowired
+    private MenuPlanningService menuPlanningService;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Value("${calendar.cleanup.retention.days:30}")
     private int retentionDays;
 
@@ -52,7 +68,11 @@ public class CalendarEventService {
         event.setLocation(dto.getLocation());
 
         CalendarEvent saved = repository.save(event);
-        return toDTO(saved);
+        collectionVersions.bump(CollectionVersions.CALENDAR, userId);
+        scheduledBroadcastService.rescheduleEventBroadcasts(userId);
+        CalendarEventDTO created = toDTO(saved);
+        catererEventBus.publish(userId, CatererEventBus.CALENDAR_EVENT, created);
+        return created;
     }
 
     /**
@@ -89,7 +109,13 @@ public class CalendarEventService {
      * Delete an event
      */
     public void deleteEvent(Long eventId) {
+        Long userId = repository.findById(eventId).map(CalendarEvent::getUserId).orElse(null);
         repository.deleteById(eventId);
+        menuPlanningService.releaseReservation(eventId);
+        collectionVersions.bump(CollectionVersions.CALENDAR, userId);
+        if (userId != null) {
+            scheduledBroadcastService.rescheduleEventBroadcasts(userId);
+        }
     }
 
     /**
@@ -109,6 +135,10 @@ public class CalendarEventService {
 
         try {
             int deletedCount = repository.deleteByEventDateBefore(cutoffDate);
+            meterRegistry.counter("caterfind.cleanup.deleted", "job", "calendar-events").increment(deletedCount);
+            if (deletedCount > 0) {
+                collectionVersions.bumpAll(CollectionVersions.CALENDAR);
+            }
             logger.info("Calendar event cleanup completed. Deleted {} expired events", deletedCount);
         } catch (Exception e) {
             logger.error("Error during calendar event cleanup", e);
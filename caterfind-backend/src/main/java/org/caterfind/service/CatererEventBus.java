@@ -0,0 +1,196 @@
+package org.caterfind.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Caterer Event Bus
+ *
+ * In-process publish/subscribe for live updates, streamed to the browser as
+ * Server-Sent Events from /events/stream. Event names:
+ * - stats: dashboard counters changed (DashboardSummary)
+ * - low-stock: an inventory item entered or left low stock
+ * - message-progress: broadcast send progress (sent, failed, total, done)
+ * - calendar-event: a calendar event was created
+ * - resync: events were dropped, the client should re-fetch once
+ *
+ * Publishing never blocks: each subscriber has a bounded buffer drained by a
+ * small sender pool, one drain task per subscriber at a time. When a slow
+ * client lets its buffer fill up, the buffered events are discarded and a
+ * single resync event is queued in their place.
+ */
+@Service
+public class CatererEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatererEventBus.class);
+
+    public static final String STATS = "stats";
+    public static final String LOW_STOCK = "low-stock";
+    public static final String MESSAGE_PROGRESS = "message-progress";
+    public static final String CALENDAR_EVENT = "calendar-event";
+    public static final String RESYNC = "resync";
+
+    private final Map<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+
+    @Value("${events.subscriber.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${events.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    public CatererEventBus(@Value("${events.sender-threads:4}") int senderThreads) {
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Open a stream for a caterer.
+     *
+     * @param catererId User ID of the caterer
+     * @return Emitter to return from the controller
+     */
+    public SseEmitter subscribe(Long catererId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(catererId, emitter);
+
+        List<Subscriber> list = subscribers.computeIfAbsent(catererId, id -> new CopyOnWriteArrayList<>());
+        list.add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        return emitter;
+    }
+
+    /**
+     * @return true if anyone is listening to the caterer's stream (lets
+     *         publishers skip building payloads nobody reads)
+     */
+    public boolean hasSubscribers(Long catererId) {
+        List<Subscriber> list = subscribers.get(catererId);
+        return list != null && !list.isEmpty();
+    }
+
+    /**
+     * Publish an event to all of a caterer's subscribers. Never blocks.
+     *
+     * @param catererId User ID of the caterer
+     * @param name      Event name
+     * @param data      Payload, serialized as JSON
+     */
+    public void publish(Long catererId, String name, Object data) {
+        List<Subscriber> list = subscribers.get(catererId);
+        if (list == null) {
+            return;
+        }
+        for (Subscriber subscriber : list) {
+            subscriber.enqueue(SseEmitter.event().name(name).data(data));
+        }
+    }
+
+    /**
+     * Scheduled heartbeat
+     * Keeps idle connections open through proxies and detects closed clients
+     */
+    @Scheduled(fixedDelayString = "${events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (List<Subscriber> list : subscribers.values()) {
+            for (Subscriber subscriber : list) {
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(list -> list.forEach(subscriber -> subscriber.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.catererId, (id, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * One open stream with its bounded buffer.
+     */
+    private class Subscriber {
+        private final Long catererId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> buffer = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(Long catererId, SseEmitter emitter) {
+            this.catererId = catererId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    // Slow client: drop what it has not read, ask it to re-fetch
+                    buffer.clear();
+                    buffer.add(SseEmitter.event().name(RESYNC).data("{}"));
+                }
+                buffer.add(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            senders.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = buffer.poll();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    logger.debug("SSE subscriber of caterer {} disconnected: {}", catererId, e.getMessage());
+                    synchronized (this) {
+                        closed = true;
+                        buffer.clear();
+                        draining = false;
+                    }
+                    unsubscribe(this);
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+    }
+}
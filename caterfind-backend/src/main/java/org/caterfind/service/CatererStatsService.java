@@ -0,0 +1,118 @@
+package org.caterfind.service;
+
+import org.caterfind.dto.DashboardSummary;
+import org.caterfind.entity.CatererStats;
+import org.caterfind.repository.CatererStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caterer Stats Service
+ *
+ * Maintains the caterer_stats counters behind the dashboard. Services call
+ * it right after they create/delete a contact, log messages, or change an
+ * item's quantity or threshold; each call is one atomic UPDATE on the
+ * caterer's row. A missing row is built from the source tables on first use.
+ *
+ * A scheduled reconciler recomputes every row and fixes any drift (e.g. a
+ * crash between the source write and the counter update).
+ *
+ * Every change is pushed to the caterer's live stream as a "stats" event.
+ */
+@Service
+public class CatererStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatererStatsService.class);
+
+    @Autowired
+    private CatererStatsRepository catererStatsRepository;
+
+    @Autowired
+    private CatererEventBus catererEventBus;
+
+    /**
+     * Get a caterer's counters (primary-key lookup).
+     *
+     * @param catererId User ID of the caterer
+     * @return Stats row, built from the source tables if missing
+     */
+    @Transactional
+    public CatererStats getStats(Long catererId) {
+        return catererStatsRepository.findById(catererId).orElseGet(() -> {
+            catererStatsRepository.recompute(catererId);
+            return catererStatsRepository.findById(catererId).orElseThrow();
+        });
+    }
+
+    @Transactional
+    public void contactsChanged(Long catererId, long delta) {
+        apply(catererId, delta, 0, 0);
+    }
+
+    @Transactional
+    public void messagesLogged(Long catererId, long count) {
+        apply(catererId, 0, 0, count);
+    }
+
+    /**
+     * Record an inventory change.
+     *
+     * @param catererId   User ID of the caterer
+     * @param wasLowStock Low-stock state before the change (false if created)
+     * @param isLowStock  Low-stock state after the change (false if deleted)
+     */
+    @Transactional
+    public void lowStockChanged(Long catererId, boolean wasLowStock, boolean isLowStock) {
+        if (wasLowStock != isLowStock) {
+            apply(catererId, 0, isLowStock ? 1 : -1, 0);
+        }
+    }
+
+    /**
+     * Recompute a caterer's counters after a bulk change (e.g. an import).
+     *
+     * @param catererId User ID of the caterer
+     */
+    @Transactional
+    public void refresh(Long catererId) {
+        catererStatsRepository.recompute(catererId);
+        publish(catererId);
+    }
+
+    /**
+     * Scheduled reconciler
+     * Recomputes all counters from the source tables
+     */
+    @Scheduled(cron = "${dashboard.stats.reconcile-cron:0 15 * * * ?}")
+    @Transactional
+    public void reconcile() {
+        try {
+            int corrected = catererStatsRepository.reconcileAll();
+            if (corrected > 0) {
+                logger.warn("Dashboard stats reconciled: corrected {} drifted caterer(s)", corrected);
+            }
+        } catch (Exception e) {
+            logger.error("Error during dashboard stats reconciliation", e);
+        }
+    }
+
+    private void apply(Long catererId, long contacts, long lowStock, long messages) {
+        if (catererStatsRepository.addDeltas(catererId, contacts, lowStock, messages) == 0) {
+            // No row yet: counting now already includes this change
+            catererStatsRepository.recompute(catererId);
+        }
+        publish(catererId);
+    }
+
+    private void publish(Long catererId) {
+        if (catererEventBus.hasSubscribers(catererId)) {
+            catererStatsRepository.findById(catererId).ifPresent(stats -> catererEventBus.publish(
+                    catererId, CatererEventBus.STATS, new DashboardSummary(
+                            stats.getTotalContacts(), stats.getLowStockCount(), stats.getTotalMessages())));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.caterfind.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -18,12 +20,24 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class CateringProfileService {
 
+    private static final String ALL_PROFILES_SELECT = "SELECT id, user_id, business_name, description, primary_phone, "
+            + "alternate_phone, email, street_address, area, city, landmark, service_radius, rating, image_url, "
+            + "business_photos FROM catering_profile ";
+    private static final String ALL_PROFILES_FIRST_SQL = ALL_PROFILES_SELECT + "ORDER BY id LIMIT ?";
+    private static final String ALL_PROFILES_AFTER_SQL = ALL_PROFILES_SELECT + "WHERE id > ? ORDER BY id LIMIT ?";
+
     @Autowired
     private CateringProfileRepository cateringProfileRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private JsonArrayStreamer jsonArrayStreamer;
+
     /**
      * Get catering profile by user ID.
      *
@@ -41,14 +55,32 @@ public class CateringProfileService {
     }
 
     /**
-     * Get all catering profiles.
+     * Write all catering profiles as a JSON array of CateringProfileDTOs,
+     * streamed in pages by id.
      *
-     * @return List of CateringProfileDTO
+     * @param out Response stream
      */
-    public java.util.List<CateringProfileDTO> getAllProfiles() {
-        return cateringProfileRepository.findAll().stream()
-                .map(this::mapToDTO)
-                .collect(java.util.stream.Collectors.toList());
+    public void streamAllProfiles(OutputStream out) throws IOException {
+        jsonArrayStreamer.write(out, ALL_PROFILES_FIRST_SQL, ALL_PROFILES_AFTER_SQL,
+                dto -> new Object[] { dto.getId() }, (rs, rowNum) -> {
+            CateringProfileDTO dto = new CateringProfileDTO();
+            dto.setId(rs.getLong("id"));
+            dto.setUserId(rs.getLong("user_id"));
+            dto.setBusinessName(rs.getString("business_name"));
+            dto.setDescription(rs.getString("description"));
+            dto.setPrimaryPhone(rs.getString("primary_phone"));
+            dto.setAlternatePhone(rs.getString("alternate_phone"));
+            dto.setEmail(rs.getString("email"));
+            dto.setStreetAddress(rs.getString("street_address"));
+            dto.setArea(rs.getString("area"));
+            dto.setCity(rs.getString("city"));
+            dto.setLandmark(rs.getString("landmark"));
+            dto.setServiceRadius(rs.getObject("service_radius", Integer.class));
+            dto.setRating(rs.getObject("rating", Double.class));
+            dto.setImageUrl(rs.getString("image_url"));
+            dto.setBusinessPhotos(rs.getString("business_photos"));
+            return dto;
+        });
     }
 
     /**
@@ -103,6 +135,7 @@ public class CateringProfileService {
         profile.setAddress(fullAddress);
 
         CateringProfile savedProfile = cateringProfileRepository.save(profile);
+        searchService.indexCaterer(savedProfile);
         return mapToDTO(savedProfile);
     }
 
@@ -0,0 +1,109 @@
+package org.caterfind.service;
+
+import org.caterfind.entity.CollectionVersion;
+import org.caterfind.repository.CollectionVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Collection Versions
+ *
+ * One counter per caterer and collection (contacts, inventory, dishes,
+ * calendar) in the collection_versions table, bumped in the same
+ * transaction as every write. List endpoints turn the counters into a
+ * strong ETag with one indexed read before anything else, so a request
+ * with a matching If-None-Match is answered 304 without running the list
+ * query or serializing a body.
+ *
+ * The counters live in the database rather than in memory, so every backend
+ * node issues the same tag for the same data and tags survive restarts.
+ */
+@Component
+public class CollectionVersions {
+
+    public static final String CONTACTS = "contacts";
+    public static final String INVENTORY = "inventory";
+    public static final String DISHES = "dishes";
+    public static final String CALENDAR = "calendar";
+
+    @Autowired
+    private CollectionVersionRepository collectionVersionRepository;
+
+    /**
+     * Mark a caterer's collection as changed, in the current transaction
+     * (its own one when there is none).
+     *
+     * The new version commits together with the rows, so a reader never
+     * sees a tag newer than the data. The row stays locked until the writer
+     * commits, so a caterer's writes to one collection commit one at a time.
+     *
+     * @param collection One of the collection constants
+     * @param ownerId    Caterer user ID
+     */
+    @Transactional
+    public void bump(String collection, Long ownerId) {
+        if (ownerId != null && collectionVersionRepository.increment(ownerId, collection) == 0) {
+            collectionVersionRepository.create(ownerId, collection);
+        }
+    }
+
+    /**
+     * Mark a collection as changed for every caterer, for bulk writes that
+     * do not know their owners (e.g. the nightly calendar cleanup).
+     *
+     * @param collection One of the collection constants
+     */
+    @Transactional
+    public void bumpAll(String collection) {
+        collectionVersionRepository.incrementAll(collection);
+    }
+
+    /**
+     * Strong ETag for a caterer's view of one or more collections, e.g.
+     * inventory together with contacts for dealer names.
+     *
+     * @param ownerId     Caterer user ID
+     * @param collections Collections the response is built from
+     * @return Quoted entity tag
+     */
+    public String etag(Long ownerId, String... collections) {
+        Map<String, Long> versions = collectionVersionRepository
+                .findByCatererIdAndCollectionIn(ownerId, Arrays.asList(collections)).stream()
+                .collect(Collectors.toMap(CollectionVersion::getCollection, CollectionVersion::getVersion));
+        StringBuilder tag = new StringBuilder("\"").append(ownerId);
+        for (String collection : collections) {
+            tag.append('-').append(collection).append('.').append(versions.getOrDefault(collection, 0L));
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * Whether an If-None-Match header matches a tag: "*", or any entry of
+     * the comma-separated list (weak comparison, as RFC 9110 requires for
+     * If-None-Match).
+     *
+     * @param ifNoneMatch Header value, may be null
+     * @param etag        Current quoted tag
+     * @return true if the client's copy is current
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package org.caterfind.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message template parsed once into literal text and placeholder slots.
+ *
+ * Placeholders use double braces, e.g. "Hi {{contactName}}, please send
+ * {{quantity}} of {{item}}". Supported names are listed in {@link Variable}.
+ *
+ * Rendering walks the pre-parsed parts and appends to a StringBuilder; values
+ * are passed as an array indexed by Variable ordinal, so no regex, map lookup
+ * or reflection happens per recipient.
+ */
+public final class CompiledTemplate {
+
+    /**
+     * Placeholders available in templates.
+     */
+    public enum Variable {
+        CONTACT_NAME("contactName"),
+        ITEM("item"),
+        QUANTITY("quantity"),
+        EVENT_DATE("eventDate"),
+        VENUE("venue");
+
+        private static final Variable[] ALL = values();
+
+        private final String placeholder;
+
+        Variable(String placeholder) {
+            this.placeholder = placeholder;
+        }
+
+        public String getPlaceholder() {
+            return placeholder;
+        }
+
+        static Variable fromPlaceholder(String name) {
+            for (Variable variable : ALL) {
+                if (variable.placeholder.equals(name)) {
+                    return variable;
+                }
+            }
+            throw new IllegalArgumentException("Unknown template placeholder: {{" + name + "}}");
+        }
+
+        /**
+         * Create an empty value array for {@link CompiledTemplate#render(String[])}.
+         */
+        public static String[] newValues() {
+            return new String[ALL.length];
+        }
+    }
+
+    // literals[i] is followed by the variable with ordinal slots[i] (-1 = none)
+    private final String[] literals;
+    private final int[] slots;
+    private final int estimatedLength;
+
+    private CompiledTemplate(String[] literals, int[] slots, int estimatedLength) {
+        this.literals = literals;
+        this.slots = slots;
+        this.estimatedLength = estimatedLength;
+    }
+
+    /**
+     * Parse a template. Throws IllegalArgumentException for unknown or
+     * unterminated placeholders, so bad templates are rejected when saved.
+     *
+     * @param source Template text
+     * @return Compiled template
+     */
+    public static CompiledTemplate compile(String source) {
+        if (source == null) {
+            source = "";
+        }
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+
+        int pos = 0;
+        while (true) {
+            int open = source.indexOf("{{", pos);
+            if (open < 0) {
+                literals.add(source.substring(pos));
+                slots.add(-1);
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unterminated placeholder at position " + open);
+            }
+            literals.add(source.substring(pos, open));
+            slots.add(Variable.fromPlaceholder(source.substring(open + 2, close).trim()).ordinal());
+            pos = close + 2;
+        }
+
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new CompiledTemplate(literals.toArray(new String[0]), slotArray, source.length() + 32);
+    }
+
+    /**
+     * Render the template for one recipient. Missing values render as "".
+     *
+     * @param values Values indexed by Variable ordinal (see Variable.newValues())
+     * @return Rendered text
+     */
+    public String render(String[] values) {
+        StringBuilder out = new StringBuilder(estimatedLength);
+        for (int i = 0; i < literals.length; i++) {
+            out.append(literals[i]);
+            int slot = slots[i];
+            if (slot >= 0 && values[slot] != null) {
+                out.append(values[slot]);
+            }
+        }
+        return out.toString();
+    }
+}
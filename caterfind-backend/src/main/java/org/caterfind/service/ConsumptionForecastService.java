@@ -0,0 +1,161 @@
+package org.caterfind.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.caterfind.dto.StockOutForecastDTO;
+import org.caterfind.entity.CalendarEvent;
+import org.caterfind.entity.InventoryForecast;
+import org.caterfind.entity.InventoryItem;
+import org.caterfind.repository.CalendarEventRepository;
+import org.caterfind.repository.InventoryForecastRepository;
+import org.caterfind.repository.InventoryItemRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * Consumption Forecast Service
+ *
+ * Estimates how fast each inventory item is used and when it will run out.
+ *
+ * Every stock decrease recorded in the ledger (edits and adjustments, not
+ * deletions) updates the item's row in inventory_forecasts with one upsert:
+ * the running sum decays with the configured half-life and the decrease is
+ * added. Recent usage therefore counts more than old usage, and nothing is
+ * ever re-scanned. The rate in units per day is
+ *   decayedConsumption * e^(-lambda * daysSinceLastConsumption) * lambda
+ * with lambda = ln 2 / half-life-days.
+ *
+ * The stock-out date is today + quantity / rate, compared against the
+ * caterer's upcoming calendar events.
+ */
+@Service
+public class ConsumptionForecastService {
+
+    private static final double SECONDS_PER_DAY = 86400.0;
+
+    @Autowired
+    private InventoryForecastRepository forecastRepository;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private CalendarEventRepository calendarEventRepository;
+
+    private final double lambda;
+
+    public ConsumptionForecastService(@Value("${inventory.forecast.half-life-days:14}") double halfLifeDays) {
+        this.lambda = Math.log(2) / Math.max(halfLifeDays, 0.1);
+    }
+
+    /**
+     * Fold a stock decrease into the item's running rate. Runs inside the
+     * caller's transaction (InventoryLedgerService.record).
+     *
+     * @param item   Item whose stock went down
+     * @param amount Quantity consumed (positive)
+     */
+    public void recordConsumption(InventoryItem item, BigDecimal amount) {
+        forecastRepository.addConsumption(item.getId(), item.getCatererId(), amount.doubleValue(),
+                LocalDateTime.now(), lambda);
+    }
+
+    /**
+     * Keep an item's rate in its own unit after the unit changed.
+     *
+     * @param itemId Item ID
+     * @param ratio  New units per old unit (e.g. 1000 for kg to g)
+     */
+    public void unitChanged(Long itemId, BigDecimal ratio) {
+        forecastRepository.rescale(itemId, ratio.doubleValue());
+    }
+
+    /**
+     * Drop the estimate of a deleted item.
+     *
+     * @param itemId Item ID
+     */
+    public void forget(Long itemId) {
+        forecastRepository.deleteByItemId(itemId);
+    }
+
+    /**
+     * Items predicted to run out on or before the caterer's Nth upcoming
+     * event, soonest first. Items with no recorded consumption are left out.
+     *
+     * @param catererId User ID of the caterer
+     * @param events    Number of upcoming events to look ahead
+     * @return Items at risk
+     */
+    public List<StockOutForecastDTO> getStockOutRisks(Long catererId, int events) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        List<CalendarEvent> upcoming = calendarEventRepository
+                .findByUserIdAndEventDateGreaterThanEqualOrderByEventDateAsc(catererId, today,
+                        PageRequest.of(0, Math.max(events, 1)));
+        if (upcoming.isEmpty()) {
+            return new ArrayList<>();
+        }
+        LocalDate horizon = upcoming.get(upcoming.size() - 1).getEventDate();
+
+        Map<Long, InventoryForecast> forecasts = forecastRepository.findByCatererId(catererId).stream()
+                .collect(Collectors.toMap(InventoryForecast::getItemId, Function.identity()));
+
+        List<StockOutForecastDTO> risks = new ArrayList<>();
+        for (InventoryItem item : inventoryItemRepository.findByCatererId(catererId)) {
+            InventoryForecast forecast = forecasts.get(item.getId());
+            if (forecast == null) {
+                continue;
+            }
+            double rate = dailyRate(forecast, now);
+            if (rate <= 0) {
+                continue;
+            }
+
+            double daysLeft = Math.max(item.getQuantity().doubleValue(), 0) / rate;
+            LocalDate stockOut = now.plusSeconds((long) Math.min(daysLeft * SECONDS_PER_DAY, Long.MAX_VALUE / 2))
+                    .toLocalDate();
+            if (stockOut.isAfter(horizon)) {
+                continue;
+            }
+
+            StockOutForecastDTO dto = new StockOutForecastDTO();
+            dto.setItemId(item.getId());
+            dto.setItemName(item.getItemName());
+            dto.setUnit(item.getUnit());
+            dto.setQuantity(item.getQuantity());
+            dto.setDailyConsumption(BigDecimal.valueOf(rate).setScale(2, RoundingMode.HALF_UP));
+            dto.setStockOutDate(stockOut);
+            for (CalendarEvent event : upcoming) {
+                if (event.getEventDate().isBefore(stockOut)) {
+                    dto.setEventsBeforeStockOut(dto.getEventsBeforeStockOut() + 1);
+                } else {
+                    dto.setFirstEventAtRisk(event.getEventDate());
+                    dto.setFirstEventHostName(event.getEventHostName());
+                    break;
+                }
+            }
+            risks.add(dto);
+        }
+        risks.sort(Comparator.comparing(StockOutForecastDTO::getStockOutDate));
+        return risks;
+    }
+
+    private double dailyRate(InventoryForecast forecast, LocalDateTime now) {
+        double ageDays = Math.max(Duration.between(forecast.getLastConsumptionAt(), now).getSeconds(), 0)
+                / SECONDS_PER_DAY;
+        return forecast.getDecayedConsumption() * Math.exp(-lambda * ageDays) * lambda;
+    }
+}
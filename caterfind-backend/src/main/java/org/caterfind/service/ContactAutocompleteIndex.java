@@ -0,0 +1,403 @@
+package org.caterfind.service;
+
+import org.caterfind.dto.ContactDTO;
+import org.caterfind.entity.Contact;
+import org.caterfind.entity.ContactLabel;
+import org.caterfind.repository.ContactRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Contact Autocomplete Index
+ *
+ * Type-ahead lookup for the contact pickers (broadcast recipients, dealer
+ * selection), so they do not have to download a caterer's whole contact
+ * list and filter it in the browser.
+ *
+ * Per caterer, every contact contributes a few keys - name words, phone
+ * digits (full and national number), email, label names - to one sorted
+ * String[] with a parallel array of owners. A prefix is answered with a
+ * binary search to the first key >= prefix and a scan while keys still
+ * start with it. Further query words must prefix-match one of the same
+ * contact's keys.
+ *
+ * Snapshots are immutable and replaced on write (copy-on-write, O(n) per
+ * change), so lookups never lock. A caterer's index is loaded with one
+ * query on first use and then maintained by ContactService. With
+ * contacts.autocomplete.reload-enabled all loaded indexes are dropped every
+ * contacts.autocomplete.reload-ms and reloaded on next use, which picks up
+ * contacts written by other backend nodes.
+ */
+@Service
+public class ContactAutocompleteIndex {
+
+    public static final int MAX_LIMIT = 50;
+
+    // Matching contacts ranked per lookup (bounds the latency of one-letter queries)
+    private static final int MAX_CANDIDATES = 500;
+
+    private static final Pattern PHONE_LIKE = Pattern.compile("[+(]?\\d[\\d\\s()\\-]*");
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Value("${contacts.autocomplete.reload-enabled:true}")
+    private boolean periodicReload;
+
+    private final Map<Long, Snapshot> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * Top contacts whose name, phone, email or label start with the query.
+     *
+     * @param catererId User ID of the caterer
+     * @param query     Text typed so far (empty: first contacts by name)
+     * @param labels    Only contacts with any of these labels (null/empty: all)
+     * @param limit     Maximum results (capped at MAX_LIMIT)
+     * @return Matches, name matches first, then alphabetical
+     */
+    public List<ContactDTO> suggest(Long catererId, String query, Collection<String> labels, int limit) {
+        Snapshot snapshot = indexes.computeIfAbsent(catererId, this::load);
+        int max = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        Set<String> labelFilter = labels == null ? Set.of()
+                : labels.stream().map(ContactAutocompleteIndex::normalize)
+                        .filter(label -> !label.isEmpty())
+                        .collect(Collectors.toSet());
+        List<String> words = words(query);
+
+        if (words.isEmpty()) {
+            List<ContactDTO> results = new ArrayList<>();
+            for (Entry entry : snapshot.byName) {
+                if (entry.hasAnyLabel(labelFilter)) {
+                    results.add(entry.toDTO());
+                    if (results.size() == max) {
+                        break;
+                    }
+                }
+            }
+            return results;
+        }
+
+        String first = words.get(0);
+        String phrase = String.join(" ", words);
+        Set<Entry> seen = new HashSet<>();
+        // Best max candidates so far, worst on top
+        PriorityQueue<Match> best = new PriorityQueue<>(max + 1, Comparator.reverseOrder());
+        // Only contacts passing the label and word filters count towards the cap, so
+        // thousands of non-matching contacts under a short prefix cannot hide a match
+        int candidates = 0;
+        for (int i = lowerBound(snapshot.keys, first); i < snapshot.keys.length
+                && snapshot.keys[i].startsWith(first) && candidates < MAX_CANDIDATES; i++) {
+            Entry entry = snapshot.owners[i];
+            if (!seen.add(entry)) {
+                continue;
+            }
+            if (entry.hasAnyLabel(labelFilter) && (words.size() == 1 || entry.matchesAll(words))) {
+                candidates++;
+                best.add(new Match(entry, entry.rank(phrase, first)));
+                if (best.size() > max) {
+                    best.poll();
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(best);
+        Collections.sort(matches);
+        return matches.stream().map(match -> match.entry.toDTO()).collect(Collectors.toList());
+    }
+
+    /**
+     * Add or replace a contact once the surrounding transaction commits.
+     * No-op for caterers whose index is not loaded.
+     */
+    public void contactSaved(Contact contact) {
+        Entry entry = new Entry(contact);
+        AfterCommit.run(() -> indexes.computeIfPresent(contact.getCatererId(),
+                (id, snapshot) -> snapshot.with(entry)));
+    }
+
+    /**
+     * Remove a contact once the surrounding transaction commits.
+     */
+    public void contactDeleted(Long catererId, Long contactId) {
+        AfterCommit.run(() -> indexes.computeIfPresent(catererId,
+                (id, snapshot) -> snapshot.without(contactId)));
+    }
+
+    /**
+     * Drop every loaded index, so the next lookup reloads it from the
+     * database (contacts.autocomplete.reload-enabled).
+     */
+    @Scheduled(initialDelayString = "${contacts.autocomplete.reload-ms:300000}",
+            fixedDelayString = "${contacts.autocomplete.reload-ms:300000}")
+    public void reload() {
+        if (periodicReload) {
+            indexes.clear();
+        }
+    }
+
+    private Snapshot load(Long catererId) {
+        return Snapshot.of(contactRepository.findWithLabelsByCatererId(catererId).stream()
+                .map(Entry::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Lower-case, accents stripped, runs of other characters collapsed to
+     * one space ("José O'Brien" -> "jose o brien").
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String plain = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return plain.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}@.]+", " ").trim();
+    }
+
+    private static List<String> words(String text) {
+        if (text != null && PHONE_LIKE.matcher(text).matches()) {
+            // "+91 98765-43210" is one number, not three words
+            return List.of(text.replaceAll("\\D", ""));
+        }
+        String normalized = normalize(text);
+        return normalized.isEmpty() ? List.of() : Arrays.asList(normalized.split(" "));
+    }
+
+    private static int lowerBound(String[] keys, String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * One caterer's contacts: sorted keys with their owners, and the
+     * contacts by name for empty queries.
+     */
+    private static final class Snapshot {
+        private final String[] keys;
+        private final Entry[] owners;
+        private final List<Entry> byName;
+
+        private Snapshot(String[] keys, Entry[] owners, List<Entry> byName) {
+            this.keys = keys;
+            this.owners = owners;
+            this.byName = byName;
+        }
+
+        static Snapshot of(List<Entry> entries) {
+            List<Object[]> pairs = new ArrayList<>();
+            for (Entry entry : entries) {
+                for (String key : entry.keys) {
+                    pairs.add(new Object[] { key, entry });
+                }
+            }
+            pairs.sort(Comparator.comparing(pair -> (String) pair[0]));
+            String[] keys = new String[pairs.size()];
+            Entry[] owners = new Entry[pairs.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = (String) pairs.get(i)[0];
+                owners[i] = (Entry) pairs.get(i)[1];
+            }
+            List<Entry> byName = new ArrayList<>(entries);
+            byName.sort(Comparator.comparing(entry -> entry.sortName));
+            return new Snapshot(keys, owners, List.copyOf(byName));
+        }
+
+        Snapshot with(Entry entry) {
+            Snapshot rest = without(entry.id);
+            String[] added = entry.keys.toArray(new String[0]);
+            Arrays.sort(added);
+
+            // Merge the contact's sorted keys into the remaining ones
+            int size = rest.keys.length + added.length;
+            String[] keys = new String[size];
+            Entry[] owners = new Entry[size];
+            int i = 0;
+            int j = 0;
+            for (int k = 0; k < size; k++) {
+                if (j >= added.length || (i < rest.keys.length && rest.keys[i].compareTo(added[j]) <= 0)) {
+                    keys[k] = rest.keys[i];
+                    owners[k] = rest.owners[i++];
+                } else {
+                    keys[k] = added[j++];
+                    owners[k] = entry;
+                }
+            }
+
+            List<Entry> byName = new ArrayList<>(rest.byName.size() + 1);
+            boolean placed = false;
+            for (Entry other : rest.byName) {
+                if (!placed && entry.sortName.compareTo(other.sortName) < 0) {
+                    byName.add(entry);
+                    placed = true;
+                }
+                byName.add(other);
+            }
+            if (!placed) {
+                byName.add(entry);
+            }
+            return new Snapshot(keys, owners, byName);
+        }
+
+        Snapshot without(Long contactId) {
+            int removed = 0;
+            for (Entry owner : owners) {
+                if (owner.id.equals(contactId)) {
+                    removed++;
+                }
+            }
+            if (removed == 0) {
+                return this;
+            }
+            String[] keys = new String[this.keys.length - removed];
+            Entry[] owners = new Entry[keys.length];
+            int k = 0;
+            for (int i = 0; i < this.keys.length; i++) {
+                if (!this.owners[i].id.equals(contactId)) {
+                    keys[k] = this.keys[i];
+                    owners[k++] = this.owners[i];
+                }
+            }
+            List<Entry> remaining = byName.stream()
+                    .filter(entry -> !entry.id.equals(contactId))
+                    .collect(Collectors.toList());
+            return new Snapshot(keys, owners, remaining);
+        }
+    }
+
+    /**
+     * A candidate with its rank, ordered best first.
+     */
+    private static final class Match implements Comparable<Match> {
+        private final Entry entry;
+        private final int rank;
+
+        Match(Entry entry, int rank) {
+            this.entry = entry;
+            this.rank = rank;
+        }
+
+        @Override
+        public int compareTo(Match other) {
+            int byRank = Integer.compare(rank, other.rank);
+            return byRank != 0 ? byRank : entry.sortName.compareTo(other.entry.sortName);
+        }
+    }
+
+    /**
+     * Immutable copy of what the picker shows for one contact.
+     */
+    private static final class Entry {
+        private final Long id;
+        private final String name;
+        private final String phone;
+        private final String email;
+        private final String preferredContactMethod;
+        private final List<String> labels;
+        private final String sortName;
+        private final List<String> nameWords;
+        private final Set<String> labelKeys;
+        private final Set<String> keys = new LinkedHashSet<>();
+
+        Entry(Contact contact) {
+            id = contact.getId();
+            name = contact.getName();
+            phone = contact.getPhone();
+            email = contact.getEmail();
+            preferredContactMethod = contact.getPreferredContactMethod().name();
+            labels = contact.getLabels().stream().map(ContactLabel::getLabelName).collect(Collectors.toList());
+            sortName = normalize(name);
+            nameWords = words(name);
+            labelKeys = labels.stream().map(ContactAutocompleteIndex::normalize).collect(Collectors.toSet());
+
+            keys.addAll(nameWords);
+            String digits = contact.getNormalizedPhone() != null ? contact.getNormalizedPhone() : phone;
+            digits = digits == null ? "" : digits.replaceAll("\\D", "");
+            if (!digits.isEmpty()) {
+                keys.add(digits);
+                if (digits.length() > 10) {
+                    // National number, so "98765..." matches "+9198765..."
+                    keys.add(digits.substring(digits.length() - 10));
+                }
+            }
+            if (email != null && !email.isBlank()) {
+                keys.add(email.trim().toLowerCase(Locale.ROOT));
+            }
+            keys.addAll(labelKeys);
+        }
+
+        boolean hasAnyLabel(Set<String> filter) {
+            if (filter.isEmpty()) {
+                return true;
+            }
+            for (String label : labelKeys) {
+                if (filter.contains(label)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean matchesAll(List<String> words) {
+            for (String word : words) {
+                boolean matched = false;
+                for (String key : keys) {
+                    if (key.startsWith(word)) {
+                        matched = true;
+                        break;
+                    }
+                }
+                if (!matched) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 0: name starts with the query, 1: a name word does, 2: phone,
+         * email or label match.
+         */
+        int rank(String phrase, String first) {
+            if (sortName.startsWith(phrase)) {
+                return 0;
+            }
+            for (String word : nameWords) {
+                if (word.startsWith(first)) {
+                    return 1;
+                }
+            }
+            return 2;
+        }
+
+        ContactDTO toDTO() {
+            return new ContactDTO(id, name, phone, email, preferredContactMethod, new ArrayList<>(labels));
+        }
+    }
+}
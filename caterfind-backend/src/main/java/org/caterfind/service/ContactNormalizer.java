@@ -0,0 +1,75 @@
+package org.caterfind.service;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Normalizes contact phone numbers and emails into comparable keys.
+ *
+ * - Phone: E.164 (e.g., "098765 43210" -> "+919876543210"). Numbers without
+ * a country code get app.phone.default-country-code.
+ * - Email: trimmed and lower-cased.
+ *
+ * Used for the per-caterer unique indexes on contacts, for collapsing
+ * duplicate broadcast recipients, and by SmsService before sending.
+ */
+@Service
+public class ContactNormalizer {
+
+    @Value("${app.phone.default-country-code:91}")
+    private String defaultCountryCode;
+
+    /**
+     * Normalize a phone number to E.164.
+     *
+     * @param phone Raw phone number as entered
+     * @return E.164 number, or null if empty or too short to be a phone number
+     */
+    public String normalizePhone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        String trimmed = phone.trim();
+        boolean international = trimmed.startsWith("+");
+
+        StringBuilder digits = new StringBuilder(trimmed.length());
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        String number = digits.toString();
+
+        if (!international && number.startsWith("00")) {
+            // International dialling prefix
+            number = number.substring(2);
+            international = true;
+        } else if (!international && number.startsWith("0")) {
+            // National trunk prefix
+            number = defaultCountryCode + number.substring(1);
+        } else if (!international && number.length() <= 10) {
+            number = defaultCountryCode + number;
+        }
+
+        if (number.length() < 8 || number.length() > 15) {
+            return null;
+        }
+        return "+" + number;
+    }
+
+    /**
+     * Normalize an email address.
+     *
+     * @param email Raw email as entered
+     * @return Trimmed, lower-cased email, or null if empty
+     */
+    public String normalizeEmail(String email) {
+        if (email == null || email.trim().isEmpty()) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
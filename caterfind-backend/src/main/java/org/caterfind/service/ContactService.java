@@ -1,15 +1,25 @@
 package org.caterfind.service;
 
 import org.caterfind.dto.ContactDTO;
+import org.caterfind.dto.CursorPageDTO;
+import org.caterfind.dto.DuplicateContactGroupDTO;
 import org.caterfind.entity.Contact;
 import org.caterfind.entity.ContactLabel;
 import org.caterfind.repository.ContactLabelRepository;
 import org.caterfind.repository.ContactRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -22,18 +32,54 @@ import java.util.stream.Collectors;
  * - A person can have multiple labels (e.g., "Chef" + "Staff")
  * - Labels: Staff, Chef, Helper, Supplier, Dealer
  * 
+ * Phone and email are stored normalized (E.164 / lower-case) alongside the
+ * raw values; a caterer cannot have two contacts with the same key.
+ * 
  * IMPORTANT: These are NOT client event contacts.
  * These are internal contacts for caterer coordination.
  */
 @Service
 public class ContactService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ContactService.class);
+
     @Autowired
     private ContactRepository contactRepository;
 
     @Autowired
     private ContactLabelRepository contactLabelRepository;
 
+    @Autowired
+    private ContactNormalizer contactNormalizer;
+
+    @Autowired
+    private CatererStatsService catererStatsService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private ContactAutocompleteIndex contactAutocompleteIndex;
+
+    @Autowired
+    private CursorListing cursorListing;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    // Fields of a listed contact (ContactDTO, plus createdAt)
+    private static final List<String> LIST_FIELDS = List.of(
+            "id", "name", "phone", "email", "preferredContactMethod", "labels", "createdAt");
+
+    private static final CursorListing.Resource<Contact> LISTING = new CursorListing.Resource<>(Contact.class, "catererId")
+            .column("name", "name")
+            .column("phone", "phone")
+            .column("email", "email")
+            .column("preferredContactMethod", "preferredContactMethod")
+            .column("createdAt", "createdAt")
+            .sortable("name")
+            .sortable("createdAt");
+
     /**
      * Get all contacts for a caterer.
      * Converts entities to DTOs with label names.
@@ -48,6 +94,51 @@ public class ContactService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * List one page of a caterer's contacts with only the requested fields.
+     * 
+     * @param catererId User ID of the caterer
+     * @param fields    Comma-separated fields (null: all)
+     * @param sort      name, createdAt or id; "-" prefix for descending
+     * @param cursor    nextCursor of the previous page (null: first page)
+     * @param limit     Page size
+     * @return Page of contacts and the next cursor
+     * @throws IllegalArgumentException for unknown fields, sort keys or cursors
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO listContacts(Long catererId, String fields, String sort, String cursor, int limit) {
+        List<String> requested = CursorListing.parseFields(fields, LIST_FIELDS);
+        List<String> columns = new ArrayList<>(requested);
+        columns.remove("labels");
+
+        CursorListing.Page page = cursorListing.list(LISTING, catererId, columns, sort, cursor, limit);
+
+        Map<Long, List<String>> labels = new HashMap<>();
+        if (requested.contains("labels") && !page.getRows().isEmpty()) {
+            List<Long> ids = page.getRows().stream().map(row -> (Long) row.get("id")).collect(Collectors.toList());
+            for (Object[] pair : contactRepository.findLabelNames(ids)) {
+                labels.computeIfAbsent((Long) pair[0], key -> new ArrayList<>()).add((String) pair[1]);
+            }
+        }
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Map<String, Object> row : page.getRows()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (String field : requested) {
+                if ("labels".equals(field)) {
+                    item.put(field, labels.getOrDefault((Long) row.get("id"), List.of()));
+                } else if ("preferredContactMethod".equals(field)) {
+                    Contact.ContactMethod method = (Contact.ContactMethod) row.get(field);
+                    item.put(field, method != null ? method.name() : null);
+                } else {
+                    item.put(field, row.get(field));
+                }
+            }
+            items.add(item);
+        }
+        return new CursorPageDTO(items, page.getNextCursor());
+    }
+
     /**
      * Get a single contact by ID.
      * 
@@ -67,6 +158,8 @@ public class ContactService {
      * @param catererId  User ID of the caterer
      * @param contactDTO Contact data
      * @return Created ContactDTO
+     * @throws IllegalStateException if the phone or email is already used by
+     *                               another contact of the caterer
      */
     public ContactDTO createContact(Long catererId, ContactDTO contactDTO) {
         Contact contact = new Contact();
@@ -74,6 +167,7 @@ public class ContactService {
         contact.setName(contactDTO.getName());
         contact.setPhone(contactDTO.getPhone());
         contact.setEmail(contactDTO.getEmail());
+        applyNormalizedKeys(contact);
         contact.setPreferredContactMethod(
                 Contact.ContactMethod.valueOf(contactDTO.getPreferredContactMethod()));
 
@@ -87,7 +181,11 @@ public class ContactService {
             contact.setLabels(labels);
         }
 
-        Contact saved = contactRepository.save(contact);
+        Contact saved = saveUnique(contact);
+        catererStatsService.contactsChanged(catererId, 1);
+        searchService.indexContact(saved);
+        contactAutocompleteIndex.contactSaved(saved);
+        collectionVersions.bump(CollectionVersions.CONTACTS, catererId);
         return convertToDTO(saved);
     }
 
@@ -97,6 +195,8 @@ public class ContactService {
      * @param contactId  Contact ID
      * @param contactDTO Updated contact data
      * @return Updated ContactDTO or null if not found
+     * @throws IllegalStateException if the phone or email is already used by
+     *                               another contact of the caterer
      */
     public ContactDTO updateContact(Long contactId, ContactDTO contactDTO) {
         return contactRepository.findById(contactId)
@@ -104,6 +204,7 @@ public class ContactService {
                     contact.setName(contactDTO.getName());
                     contact.setPhone(contactDTO.getPhone());
                     contact.setEmail(contactDTO.getEmail());
+                    applyNormalizedKeys(contact);
                     contact.setPreferredContactMethod(
                             Contact.ContactMethod.valueOf(contactDTO.getPreferredContactMethod()));
 
@@ -117,7 +218,10 @@ public class ContactService {
                         contact.setLabels(labels);
                     }
 
-                    Contact updated = contactRepository.save(contact);
+                    Contact updated = saveUnique(contact);
+                    searchService.indexContact(updated);
+                    contactAutocompleteIndex.contactSaved(updated);
+                    collectionVersions.bump(CollectionVersions.CONTACTS, updated.getCatererId());
                     return convertToDTO(updated);
                 })
                 .orElse(null);
@@ -129,12 +233,126 @@ public class ContactService {
      * @param contactId Contact ID
      * @return true if deleted, false if not found
      */
+    @Transactional
     public boolean deleteContact(Long contactId) {
-        if (contactRepository.existsById(contactId)) {
-            contactRepository.deleteById(contactId);
-            return true;
+        return contactRepository.findById(contactId)
+                .map(contact -> {
+                    contactRepository.delete(contact);
+                    catererStatsService.contactsChanged(contact.getCatererId(), -1);
+                    searchService.removeContact(contact.getId());
+                    contactAutocompleteIndex.contactDeleted(contact.getCatererId(), contact.getId());
+                    collectionVersions.bump(CollectionVersions.CONTACTS, contact.getCatererId());
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Type-ahead lookup for contact pickers, answered from memory.
+     * 
+     * @param catererId User ID of the caterer
+     * @param query     Prefix of a name word, phone number, email or label
+     * @param labels    Only contacts with any of these labels (optional)
+     * @param limit     Maximum results
+     * @return Best matches first
+     */
+    public List<ContactDTO> autocomplete(Long catererId, String query, List<String> labels, int limit) {
+        return contactAutocompleteIndex.suggest(catererId, query, labels, limit);
+    }
+
+    /**
+     * Find groups of a caterer's contacts sharing a phone or email.
+     * 
+     * Keys are recomputed from the raw values, so rows stored before
+     * normalization existed are covered too. One pass, O(n).
+     * 
+     * @param catererId User ID of the caterer
+     * @return Duplicate groups (phone groups first, then email groups)
+     */
+    public List<DuplicateContactGroupDTO> findDuplicates(Long catererId) {
+        Map<String, List<Contact>> byPhone = new LinkedHashMap<>();
+        Map<String, List<Contact>> byEmail = new LinkedHashMap<>();
+
+        for (Contact contact : contactRepository.findByCatererId(catererId)) {
+            String phone = contactNormalizer.normalizePhone(contact.getPhone());
+            String email = contactNormalizer.normalizeEmail(contact.getEmail());
+            if (phone != null) {
+                byPhone.computeIfAbsent(phone, key -> new ArrayList<>()).add(contact);
+            }
+            if (email != null) {
+                byEmail.computeIfAbsent(email, key -> new ArrayList<>()).add(contact);
+            }
+        }
+
+        List<DuplicateContactGroupDTO> groups = new ArrayList<>();
+        addDuplicateGroups(groups, "PHONE", byPhone);
+        addDuplicateGroups(groups, "EMAIL", byEmail);
+        return groups;
+    }
+
+    /**
+     * Fill normalized keys for contacts stored before they existed.
+     * Rows that would collide with an existing key are left as-is and show
+     * up in findDuplicates().
+     * 
+     * @return Number of contacts updated
+     */
+    public int backfillNormalizedKeys() {
+        int updated = 0;
+        for (Contact contact : contactRepository.findUnnormalized()) {
+            applyNormalizedKeys(contact);
+            try {
+                contactRepository.save(contact);
+                updated++;
+            } catch (DataIntegrityViolationException e) {
+                logger.warn("Contact {} duplicates another contact of caterer {}; not normalized",
+                        contact.getId(), contact.getCatererId());
+            }
+        }
+        return updated;
+    }
+
+    private void addDuplicateGroups(List<DuplicateContactGroupDTO> groups, String matchedOn,
+            Map<String, List<Contact>> byKey) {
+        for (Map.Entry<String, List<Contact>> entry : byKey.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                groups.add(new DuplicateContactGroupDTO(
+                        matchedOn,
+                        entry.getKey(),
+                        entry.getValue().stream().map(this::convertToDTO).collect(Collectors.toList())));
+            }
+        }
+    }
+
+    private void applyNormalizedKeys(Contact contact) {
+        contact.setNormalizedPhone(contactNormalizer.normalizePhone(contact.getPhone()));
+        contact.setNormalizedEmail(contactNormalizer.normalizeEmail(contact.getEmail()));
+    }
+
+    /**
+     * Save a contact after checking its normalized keys are free.
+     * The unique indexes still catch concurrent inserts.
+     */
+    private Contact saveUnique(Contact contact) {
+        if (contact.getNormalizedPhone() != null) {
+            contactRepository.findByCatererIdAndNormalizedPhone(contact.getCatererId(), contact.getNormalizedPhone())
+                    .filter(existing -> !existing.getId().equals(contact.getId()))
+                    .ifPresent(existing -> {
+                        throw new IllegalStateException("Phone number already used by contact " + existing.getName());
+                    });
+        }
+        if (contact.getNormalizedEmail() != null) {
+            contactRepository.findByCatererIdAndNormalizedEmail(contact.getCatererId(), contact.getNormalizedEmail())
+                    .filter(existing -> !existing.getId().equals(contact.getId()))
+                    .ifPresent(existing -> {
+                        throw new IllegalStateException("Email already used by contact " + existing.getName());
+                    });
+        }
+        try {
+            return contactRepository.save(contact);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Phone number or email already used by another contact");
         }
-        return false;
     }
 
     /**
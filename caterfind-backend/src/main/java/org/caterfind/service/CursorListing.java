@@ -0,0 +1,274 @@
+package org.caterfind.service;
+
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cursor Listing
+ *
+ * Keyset-paginated, sparse-column reads of one caterer's rows, shared by the
+ * contact, inventory and dish list endpoints.
+ *
+ * Only the requested columns (plus id and the sort column, which the cursor
+ * needs) are selected, as a JPA tuple query, so a page costs the same
+ * whether the caterer has 50 rows or 50,000 and TEXT columns nobody asked
+ * for are never read.
+ *
+ * Pages continue from an opaque cursor holding the last row's sort value
+ * and id: WHERE (sort, id) > (last sort, last id) ORDER BY sort, id.
+ * Every sort key is backed by an (owner, sort column) index.
+ */
+@Component
+public class CursorListing {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * What one entity exposes to listing: columns by API name and the ones
+     * it can be sorted by.
+     */
+    public static final class Resource<E> {
+        private final Class<E> entity;
+        private final String ownerPath;
+        private final Map<String, String> columns = new LinkedHashMap<>();
+        private final Set<String> sortKeys = new LinkedHashSet<>();
+
+        public Resource(Class<E> entity, String ownerPath) {
+            this.entity = entity;
+            this.ownerPath = ownerPath;
+            column("id", "id");
+            sortKeys.add("id");
+        }
+
+        /**
+         * @param name Field name in the API (as in the DTO)
+         * @param path Entity attribute, dotted for a to-one id (user.id)
+         */
+        public Resource<E> column(String name, String path) {
+            columns.put(name, path);
+            return this;
+        }
+
+        public Resource<E> sortable(String name) {
+            sortKeys.add(name);
+            return this;
+        }
+
+        public Set<String> getSortKeys() {
+            return sortKeys;
+        }
+    }
+
+    /**
+     * One page of rows (column name -> value) and the cursor of the next page.
+     */
+    public static final class Page {
+        private final List<Map<String, Object>> rows;
+        private final String nextCursor;
+
+        Page(List<Map<String, Object>> rows, String nextCursor) {
+            this.rows = rows;
+            this.nextCursor = nextCursor;
+        }
+
+        public List<Map<String, Object>> getRows() {
+            return rows;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+    }
+
+    /**
+     * Read one page.
+     *
+     * @param resource Entity description
+     * @param ownerId  Caterer whose rows are listed
+     * @param columns  Columns to select (id and the sort column are added)
+     * @param sort     Sort key, "-" prefix for descending (null: id)
+     * @param cursor   nextCursor of the previous page (null: first page)
+     * @param limit    Page size (capped at MAX_LIMIT)
+     * @return Rows in order, nextCursor null on the last page
+     * @throws IllegalArgumentException for unknown columns or sort keys, or a
+     *                                  cursor from a different sort
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <E> Page list(Resource<E> resource, Long ownerId, Collection<String> columns,
+            String sort, String cursor, int limit) {
+        String sortSpec = sort == null || sort.isBlank() ? "id" : sort.trim();
+        boolean descending = sortSpec.startsWith("-");
+        String sortKey = descending ? sortSpec.substring(1) : sortSpec;
+        if (!resource.sortKeys.contains(sortKey)) {
+            throw new IllegalArgumentException("sort must be one of " + resource.sortKeys
+                    + " (prefix with - for descending)");
+        }
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        selected.add(sortKey);
+        for (String column : columns) {
+            if (!resource.columns.containsKey(column)) {
+                throw new IllegalArgumentException("Unknown field: " + column);
+            }
+            selected.add(column);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(resource.entity);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String column : selected) {
+            selections.add(path(root, resource.columns.get(column)).alias(column));
+        }
+        query.multiselect(selections);
+
+        Path sortPath = path(root, resource.columns.get(sortKey));
+        Path<Long> idPath = root.get("id");
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.equal(path(root, resource.ownerPath), ownerId));
+
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decode(cursor);
+            if (!parts[0].equals(sortSpec)) {
+                throw new IllegalArgumentException("cursor belongs to sort=" + parts[0]);
+            }
+            Long lastId = Long.valueOf(parts[1]);
+            if ("id".equals(sortKey)) {
+                where.add(descending ? cb.lessThan(idPath, lastId) : cb.greaterThan(idPath, lastId));
+            } else {
+                Comparable lastValue = parse(parts[2], sortPath.getJavaType());
+                Expression<Comparable> sortExpr = sortPath;
+                where.add(cb.or(
+                        descending ? cb.lessThan(sortExpr, lastValue) : cb.greaterThan(sortExpr, lastValue),
+                        cb.and(cb.equal(sortPath, lastValue),
+                                descending ? cb.lessThan(idPath, lastId) : cb.greaterThan(idPath, lastId))));
+            }
+        }
+        query.where(where.toArray(new Predicate[0]));
+        if ("id".equals(sortKey)) {
+            query.orderBy(descending ? cb.desc(idPath) : cb.asc(idPath));
+        } else {
+            query.orderBy(descending ? cb.desc(sortPath) : cb.asc(sortPath),
+                    descending ? cb.desc(idPath) : cb.asc(idPath));
+        }
+
+        List<Tuple> tuples = entityManager.createQuery(query).setMaxResults(size + 1).getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < Math.min(tuples.size(), size); i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String column : selected) {
+                row.put(column, tuples.get(i).get(column));
+            }
+            rows.add(row);
+        }
+
+        String nextCursor = null;
+        if (tuples.size() > size) {
+            Map<String, Object> last = rows.get(rows.size() - 1);
+            nextCursor = encode(sortSpec, last.get("id"), last.get(sortKey));
+        }
+        return new Page(rows, nextCursor);
+    }
+
+    /**
+     * Parse a fields=a,b,c parameter.
+     *
+     * @param fields   Comma-separated field names (null/blank: defaults)
+     * @param defaults Fields returned when none are requested, in output order
+     * @return Requested fields, id first
+     * @throws IllegalArgumentException for a field not in defaults
+     */
+    public static List<String> parseFields(String fields, List<String> defaults) {
+        if (fields == null || fields.isBlank()) {
+            return defaults;
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!defaults.contains(name)) {
+                throw new IllegalArgumentException("Unknown field: " + name + " (allowed: " + defaults + ")");
+            }
+            requested.add(name);
+        }
+        return new ArrayList<>(requested);
+    }
+
+    private static Path<?> path(Root<?> root, String attribute) {
+        Path<?> path = root;
+        for (String part : attribute.split("\\.")) {
+            path = path.get(part);
+        }
+        return path;
+    }
+
+    private static String encode(String sortSpec, Object id, Object sortValue) {
+        String value = sortValue instanceof Enum ? ((Enum<?>) sortValue).name() : String.valueOf(sortValue);
+        String raw = sortSpec + "\n" + id + "\n" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\n", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Comparable parse(String value, Class<?> type) {
+        try {
+            if (type == String.class) {
+                return value;
+            } else if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            } else if (type == BigDecimal.class) {
+                return new BigDecimal(value);
+            } else if (type == Long.class) {
+                return Long.valueOf(value);
+            } else if (type.isEnum()) {
+                return Enum.valueOf((Class<Enum>) type, value);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        throw new IllegalStateException("Unsupported sort type " + type.getName());
+    }
+}
@@ -1,9 +1,7 @@
 package org.caterfind.service;
 
 import org.caterfind.dto.DashboardSummary;
-import org.caterfind.repository.ContactRepository;
-import org.caterfind.repository.InventoryItemRepository;
-import org.caterfind.repository.MessageRepository;
+import org.caterfind.entity.CatererStats;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -17,7 +15,7 @@ import org.springframework.stereotype.Service;
  * 
  * INTENTIONALLY EXCLUDED:
  * - NO charts or graphs
- * - NO analytics
+ * - NO analytics (time series are served by AnalyticsService)
  * - NO calendar or availability
  * 
  * Simple stat cards only.
@@ -26,32 +24,20 @@ import org.springframework.stereotype.Service;
 public class DashboardService {
 
     @Autowired
-    private ContactRepository contactRepository;
-
-    @Autowired
-    private InventoryItemRepository inventoryItemRepository;
-
-    @Autowired
-    private MessageRepository messageRepository;
+    private CatererStatsService catererStatsService;
 
     /**
      * Get dashboard summary statistics for a caterer.
      * 
-     * Aggregates counts from different repositories.
+     * Reads the caterer's materialized caterer_stats row instead of
+     * counting contacts, messages and low-stock items on every load.
      * 
      * @param catererId User ID of the caterer
      * @return DashboardSummary with stat counts
      */
     public DashboardSummary getDashboardSummary(Long catererId) {
-        // Count total contacts
-        long totalContacts = contactRepository.countByCatererId(catererId);
-
-        // Count low stock items (quantity < minThreshold)
-        long lowStockCount = inventoryItemRepository.countLowStockItemsByCatererId(catererId);
-
-        // Count total messages sent
-        long totalMessages = messageRepository.countByCatererId(catererId);
+        CatererStats stats = catererStatsService.getStats(catererId);
 
-        return new DashboardSummary(totalContacts, lowStockCount, totalMessages);
+        return new DashboardSummary(stats.getTotalContacts(), stats.getLowStockCount(), stats.getTotalMessages());
     }
 }
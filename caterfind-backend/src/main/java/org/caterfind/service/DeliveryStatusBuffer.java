@@ -0,0 +1,138 @@
+package org.caterfind.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
+
+import org.caterfind.entity.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Write-behind buffer for provider delivery receipts.
+ *
+ * Status callbacks only record the final state in memory, keyed by provider
+ * SID, and return immediately. A scheduled flush writes all pending states to
+ * the messages table in one JDBC batch.
+ *
+ * - Repeated callbacks for the same SID coalesce into one row update
+ * - Only SENT rows are updated, so a late or replayed callback can never
+ * overwrite a final DELIVERED/FAILED state
+ * - A callback that arrives before its message row is saved is retried on
+ * every flush for up to retention-minutes (at most max-pending / 2 of them
+ * are kept, so unmatched SIDs cannot grow the buffer without bound)
+ */
+@Service
+public class DeliveryStatusBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeliveryStatusBuffer.class);
+
+    private static final String UPDATE_SQL = "UPDATE messages SET status = ?, status_updated_at = ? "
+            + "WHERE provider_sid = ? AND status = 'SENT'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${messages.status.max-pending:5000}")
+    private int maxPending;
+
+    @Value("${messages.status.retention-minutes:15}")
+    private long retentionMinutes;
+
+    private final Map<String, PendingStatus> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Record the final delivery state of a message.
+     *
+     * @param providerSid Provider message/call SID
+     * @param status      DELIVERED or FAILED
+     */
+    public void record(String providerSid, Message.MessageStatus status) {
+        if (providerSid == null || providerSid.isEmpty()) {
+            return;
+        }
+        pending.put(providerSid, new PendingStatus(status, LocalDateTime.now()));
+
+        // Bound memory under a callback burst
+        if (pending.size() >= maxPending) {
+            flush();
+        }
+    }
+
+    /**
+     * Scheduled flush job
+     * Writes all buffered states to the messages table in one batch
+     */
+    @Scheduled(fixedDelayString = "${messages.status.flush-ms:2000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<String> sids = new ArrayList<>();
+        List<PendingStatus> states = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (String sid : new ArrayList<>(pending.keySet())) {
+            PendingStatus state = pending.remove(sid);
+            if (state == null) {
+                continue;
+            }
+            sids.add(sid);
+            states.add(state);
+            batch.add(new Object[] { state.status.name(), Timestamp.valueOf(state.receivedAt), sid });
+        }
+
+        try {
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            LocalDateTime keepAfter = LocalDateTime.now().minusMinutes(retentionMinutes);
+            int dropped = 0;
+            for (int i = 0; i < updated.length; i++) {
+                PendingStatus state = states.get(i);
+                // 0 rows: message row not saved yet (or already final), retry until it expires
+                if (updated[i] == 0) {
+                    if (state.receivedAt.isAfter(keepAfter) && pending.size() < maxPending / 2) {
+                        pending.putIfAbsent(sids.get(i), state);
+                    } else {
+                        dropped++;
+                    }
+                }
+            }
+            if (dropped > 0) {
+                logger.debug("Dropped {} delivery status update(s) with no matching SENT message", dropped);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to flush {} delivery status update(s)", batch.size(), e);
+            for (int i = 0; i < sids.size(); i++) {
+                pending.putIfAbsent(sids.get(i), states.get(i));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Buffered delivery state of one message.
+     */
+    private static class PendingStatus {
+        private final Message.MessageStatus status;
+        private final LocalDateTime receivedAt;
+
+        PendingStatus(Message.MessageStatus status, LocalDateTime receivedAt) {
+            this.status = status;
+            this.receivedAt = receivedAt;
+        }
+    }
+}
@@ -1,31 +1,141 @@
 package org.caterfind.service;
 
+import org.caterfind.dto.CursorPageDTO;
 import org.caterfind.dto.DishDTO;
 import org.caterfind.entity.Dish;
+import org.caterfind.entity.DishTag;
 import org.caterfind.entity.User;
 import org.caterfind.repository.DishRepository;
+import org.caterfind.repository.DishTagRepository;
 import org.caterfind.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class DishService {
 
+    private static final Logger logger = LoggerFactory.getLogger(DishService.class);
+
     @Autowired
     private DishRepository dishRepository;
 
+    @Autowired
+    private DishTagRepository dishTagRepository;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MenuPlanningService menuPlanningService;
+
+    @Autowired
+    private DishTagIndex dishTagIndex;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CursorListing cursorListing;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    // Fields of a listed dish (DishDTO)
+    private static final List<String> LIST_FIELDS = List.of(
+            "id", "userId", "name", "category", "imageUrl", "description", "type", "labels", "createdAt");
+
+    private static final CursorListing.Resource<Dish> LISTING = new CursorListing.Resource<>(Dish.class, "user.id")
+            .column("userId", "user.id")
+            .column("name", "name")
+            .column("category", "category")
+            .column("imageUrl", "imageUrl")
+            .column("description", "description")
+            .column("type", "type")
+            .column("createdAt", "createdAt")
+            .sortable("name")
+            .sortable("createdAt");
+
     public List<DishDTO> getDishesByUserId(Long userId) {
         return dishRepository.findByUserId(userId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * List one page of a caterer's dishes with only the requested fields
+     * (e.g. leave out description for a picker).
+     * 
+     * @param userId User ID of the caterer
+     * @param fields Comma-separated fields (null: all)
+     * @param sort   name, createdAt or id; "-" prefix for descending
+     * @param cursor nextCursor of the previous page (null: first page)
+     * @param limit  Page size
+     * @return Page of dishes and the next cursor
+     * @throws IllegalArgumentException for unknown fields, sort keys or cursors
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO listDishes(Long userId, String fields, String sort, String cursor, int limit) {
+        List<String> requested = CursorListing.parseFields(fields, LIST_FIELDS);
+        List<String> columns = new ArrayList<>(requested);
+        columns.remove("labels");
+
+        CursorListing.Page page = cursorListing.list(LISTING, userId, columns, sort, cursor, limit);
+
+        Map<Long, List<String>> labels = new HashMap<>();
+        if (requested.contains("labels") && !page.getRows().isEmpty()) {
+            List<Long> ids = page.getRows().stream().map(row -> (Long) row.get("id")).collect(Collectors.toList());
+            for (Object[] pair : dishRepository.findTagNames(ids)) {
+                labels.computeIfAbsent((Long) pair[0], key -> new ArrayList<>()).add((String) pair[1]);
+            }
+        }
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Map<String, Object> row : page.getRows()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (String field : requested) {
+                if ("labels".equals(field)) {
+                    // Same comma-separated form as DishDTO.labels
+                    item.put(field, String.join(",", labels.getOrDefault((Long) row.get("id"), List.of())));
+                } else {
+                    item.put(field, row.get(field));
+                }
+            }
+            items.add(item);
+        }
+        return new CursorPageDTO(items, page.getNextCursor());
+    }
+
+    /**
+     * IDs of a caterer's dishes carrying the given labels, answered from
+     * the in-memory tag index.
+     * 
+     * @param userId   User ID of the caterer
+     * @param labels   Comma-separated labels (case-insensitive)
+     * @param matchAll true: all labels (AND), false: any label (OR)
+     * @return Dish IDs in creation order
+     */
+    public List<Long> filterByLabels(Long userId, String labels, boolean matchAll) {
+        return dishTagIndex.filter(userId, parseLabels(labels).keySet(), matchAll);
+    }
+
+    @Transactional
     public DishDTO createDish(DishDTO dishDTO) {
         User user = userRepository.findById(dishDTO.getUserId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -37,12 +147,14 @@ public class DishService {
         dish.setImageUrl(dishDTO.getImageUrl());
         dish.setDescription(dishDTO.getDescription());
         dish.setType(dishDTO.getType());
-        dish.setLabels(dishDTO.getLabels());
+        dish.setTags(resolveTags(dishDTO.getLabels()));
 
         Dish savedDish = dishRepository.save(dish);
+        indexDish(savedDish);
         return convertToDTO(savedDish);
     }
 
+    @Transactional
     public DishDTO updateDish(Long id, DishDTO dishDTO) {
         Dish dish = dishRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Dish not found"));
@@ -52,14 +164,106 @@ public class DishService {
         dish.setImageUrl(dishDTO.getImageUrl());
         dish.setDescription(dishDTO.getDescription());
         dish.setType(dishDTO.getType());
-        dish.setLabels(dishDTO.getLabels());
+        dish.setTags(resolveTags(dishDTO.getLabels()));
 
         Dish updatedDish = dishRepository.save(dish);
+        indexDish(updatedDish);
         return convertToDTO(updatedDish);
     }
 
+    @Transactional
     public void deleteDish(Long id) {
-        dishRepository.deleteById(id);
+        Dish dish = dishRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Dish not found"));
+        menuPlanningService.dishDeleted(id);
+        dishRepository.delete(dish);
+        dishTagIndex.dishDeleted(dish.getUser().getId(), id);
+        searchService.removeDish(id);
+        collectionVersions.bump(CollectionVersions.DISHES, dish.getUser().getId());
+    }
+
+    /**
+     * Move labels of dishes saved before the tag table existed from the
+     * legacy comma-separated dishes.labels column into dish_tag_mapping.
+     * Migrated rows get labels = NULL, so this runs once per dish.
+     */
+    @Transactional
+    public void backfillTags() {
+        List<Map<String, Object>> rows;
+        try {
+            rows = jdbcTemplate.queryForList(
+                    "SELECT id, labels FROM dishes WHERE labels IS NOT NULL AND labels <> ''");
+        } catch (Exception e) {
+            // No legacy column (database created after the migration)
+            return;
+        }
+        for (Map<String, Object> row : rows) {
+            Long dishId = ((Number) row.get("id")).longValue();
+            dishRepository.findById(dishId).ifPresent(dish -> {
+                Set<DishTag> tags = new LinkedHashSet<>(dish.getTags());
+                tags.addAll(resolveTags((String) row.get("labels")));
+                dish.setTags(tags);
+                indexDish(dishRepository.save(dish));
+            });
+            jdbcTemplate.update("UPDATE dishes SET labels = NULL WHERE id = ?", dishId);
+        }
+        if (!rows.isEmpty()) {
+            logger.info("Migrated labels of {} dish(es) to dish_tags", rows.size());
+        }
+    }
+
+    /**
+     * Look up the tags for a comma-separated label string, creating the
+     * ones not in the dictionary yet.
+     */
+    private Set<DishTag> resolveTags(String labels) {
+        Map<String, String> names = parseLabels(labels);
+        Set<DishTag> tags = new LinkedHashSet<>();
+        if (names.isEmpty()) {
+            return tags;
+        }
+        Map<String, DishTag> existing = dishTagRepository.findByNormalizedNameIn(names.keySet()).stream()
+                .collect(Collectors.toMap(DishTag::getNormalizedName, tag -> tag));
+        for (Map.Entry<String, String> name : names.entrySet()) {
+            DishTag tag = existing.get(name.getKey());
+            tags.add(tag != null ? tag : dishTagRepository.save(new DishTag(name.getValue())));
+        }
+        return tags;
+    }
+
+    /**
+     * Split a comma-separated label string.
+     * 
+     * @return normalized name -> label as entered, duplicates and blanks dropped
+     */
+    private static Map<String, String> parseLabels(String labels) {
+        Map<String, String> names = new LinkedHashMap<>();
+        if (labels == null) {
+            return names;
+        }
+        for (String label : labels.split(",")) {
+            String name = label.trim();
+            if (!name.isEmpty()) {
+                if (name.length() > 50) {
+                    name = name.substring(0, 50);
+                }
+                names.putIfAbsent(DishTag.normalize(name), name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Hand a saved dish to the tag and search indexes (applied on commit).
+     */
+    private void indexDish(Dish dish) {
+        Collection<String> tags = new ArrayList<>();
+        for (DishTag tag : dish.getTags()) {
+            tags.add(tag.getNormalizedName());
+        }
+        dishTagIndex.dishSaved(dish.getUser().getId(), dish.getId(), tags);
+        searchService.indexDish(dish);
+        collectionVersions.bump(CollectionVersions.DISHES, dish.getUser().getId());
     }
 
     private DishDTO convertToDTO(Dish dish) {
@@ -71,7 +275,9 @@ public class DishService {
         dto.setImageUrl(dish.getImageUrl());
         dto.setDescription(dish.getDescription());
         dto.setType(dish.getType());
-        dto.setLabels(dish.getLabels());
+        dto.setLabels(dish.getTags().stream()
+                .map(DishTag::getName)
+                .collect(Collectors.joining(",")));
         dto.setCreatedAt(dish.getCreatedAt());
         return dto;
     }
@@ -0,0 +1,176 @@
+package org.caterfind.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dish Tag Index
+ *
+ * In-memory tag -> dish bitmaps per caterer, so label filters over a dish
+ * library ("spicy AND jain", "jain OR gluten-free") are answered without a
+ * database round trip.
+ *
+ * Every dish of a caterer gets a bit position; each tag (by normalized name)
+ * has a BitSet of the positions carrying it. AND/OR filters are BitSet
+ * and/or over those sets, a few machine words per 64 dishes.
+ *
+ * A caterer's index is loaded with one query on first use and then kept up
+ * to date by DishService after each committed create, update and delete.
+ * Positions of deleted dishes are left as holes; when holes outnumber live
+ * dishes the index is dropped and rebuilt on the next filter.
+ */
+@Service
+public class DishTagIndex {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, CatererIndex> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * Dishes of a caterer carrying the given tags.
+     *
+     * @param catererId User ID of the caterer
+     * @param tags      Normalized tag names
+     * @param matchAll  true: every tag must be present (AND), false: any (OR)
+     * @return Dish IDs in creation order
+     */
+    public List<Long> filter(Long catererId, Collection<String> tags, boolean matchAll) {
+        return indexes.computeIfAbsent(catererId, this::load).match(tags, matchAll);
+    }
+
+    /**
+     * Record a dish's current tags once the surrounding transaction commits.
+     * No-op for caterers whose index is not loaded.
+     */
+    public void dishSaved(Long catererId, Long dishId, Collection<String> tags) {
+        List<String> snapshot = new ArrayList<>(tags);
+        AfterCommit.run(() -> indexes.computeIfPresent(catererId, (id, index) -> {
+            index.put(dishId, snapshot);
+            return index;
+        }));
+    }
+
+    /**
+     * Remove a dish once the surrounding transaction commits.
+     */
+    public void dishDeleted(Long catererId, Long dishId) {
+        AfterCommit.run(() -> indexes.computeIfPresent(catererId,
+                (id, index) -> index.remove(dishId) ? null : index));
+    }
+
+    private CatererIndex load(Long catererId) {
+        CatererIndex index = new CatererIndex();
+        Map<Long, List<String>> tagsByDish = new HashMap<>();
+        List<Long> dishIds = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT d.id, t.normalized_name FROM dishes d "
+                        + "LEFT JOIN dish_tag_mapping m ON m.dish_id = d.id "
+                        + "LEFT JOIN dish_tags t ON t.id = m.tag_id "
+                        + "WHERE d.user_id = ? ORDER BY d.id",
+                rs -> {
+                    Long dishId = rs.getLong(1);
+                    List<String> tags = tagsByDish.get(dishId);
+                    if (tags == null) {
+                        tags = new ArrayList<>();
+                        tagsByDish.put(dishId, tags);
+                        dishIds.add(dishId);
+                    }
+                    String tag = rs.getString(2);
+                    if (tag != null) {
+                        tags.add(tag);
+                    }
+                },
+                catererId);
+        for (Long dishId : dishIds) {
+            index.put(dishId, tagsByDish.get(dishId));
+        }
+        return index;
+    }
+
+    /**
+     * One caterer's bitmaps.
+     */
+    private static final class CatererIndex {
+        // Bit position -> dish ID (null once deleted)
+        private final List<Long> dishIds = new ArrayList<>();
+        private final Map<Long, Integer> positions = new HashMap<>();
+        private final Map<String, BitSet> byTag = new HashMap<>();
+        private final BitSet live = new BitSet();
+
+        synchronized void put(Long dishId, Collection<String> tags) {
+            Integer position = positions.get(dishId);
+            if (position == null) {
+                position = dishIds.size();
+                dishIds.add(dishId);
+                positions.put(dishId, position);
+                live.set(position);
+            } else {
+                clear(position);
+            }
+            for (String tag : tags) {
+                byTag.computeIfAbsent(tag, key -> new BitSet()).set(position);
+            }
+        }
+
+        /**
+         * @return true if the index has become mostly holes and should be rebuilt
+         */
+        synchronized boolean remove(Long dishId) {
+            Integer position = positions.remove(dishId);
+            if (position == null) {
+                return false;
+            }
+            dishIds.set(position, null);
+            live.clear(position);
+            clear(position);
+            int holes = dishIds.size() - positions.size();
+            return holes > 64 && holes > positions.size();
+        }
+
+        synchronized List<Long> match(Collection<String> tags, boolean matchAll) {
+            BitSet result;
+            if (tags.isEmpty()) {
+                result = (BitSet) live.clone();
+            } else if (matchAll) {
+                result = (BitSet) live.clone();
+                for (String tag : tags) {
+                    BitSet dishes = byTag.get(tag);
+                    if (dishes == null) {
+                        return List.of();
+                    }
+                    result.and(dishes);
+                }
+            } else {
+                result = new BitSet();
+                for (String tag : tags) {
+                    BitSet dishes = byTag.get(tag);
+                    if (dishes != null) {
+                        result.or(dishes);
+                    }
+                }
+            }
+
+            List<Long> matches = new ArrayList<>(result.cardinality());
+            for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+                matches.add(dishIds.get(i));
+            }
+            return matches;
+        }
+
+        private void clear(int position) {
+            for (BitSet dishes : byTag.values()) {
+                dishes.clear(position);
+            }
+        }
+    }
+}
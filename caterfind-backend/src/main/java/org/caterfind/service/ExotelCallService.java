@@ -8,6 +8,11 @@ import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
@@ -16,6 +21,8 @@ import org.springframework.stereotype.Service;
 @ConditionalOnProperty(name = "app.calling.provider", havingValue = "exotel")
 public class ExotelCallService implements VoiceCallService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ExotelCallService.class);
+
     @Value("${exotel.sid}")
     private String sid;
 
@@ -40,16 +47,27 @@ public class ExotelCallService implements VoiceCallService {
     @Value("${exotel.appletId:}")
     private String appletId;
 
+    // Base URL Exotel posts call status updates to (see StatusCallbackController)
+    @Value("${exotel.callbackUrl:${twilio.callbackUrl}}")
+    private String callbackUrl;
+
+    // Shared secret StatusCallbackController expects on /status/exotel
+    @Value("${exotel.callbackToken:}")
+    private String callbackToken;
+
     private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     @Override
-    public void makeCall(String to, String message) throws Exception {
+    public String makeCall(String to, String message) throws Exception {
         // Exotel API Endpoint
         String hostname = subdomain;
         if (!hostname.contains(".")) {
             hostname = hostname + ".exotel.com";
         }
-        String url = String.format("https://%s/v1/Accounts/%s/Calls/connect", hostname, sid);
+        // .json suffix makes Exotel answer with JSON instead of XML
+        String url = String.format("https://%s/v1/Accounts/%s/Calls/connect.json", hostname, sid);
 
         // Prepare Form Data
         StringBuilder formData = new StringBuilder();
@@ -57,6 +75,9 @@ public class ExotelCallService implements VoiceCallService {
         formData.append("&To=").append(URLEncoder.encode(callerId, StandardCharsets.UTF_8));
         formData.append("&CallerId=").append(URLEncoder.encode(callerId, StandardCharsets.UTF_8));
         formData.append("&CallType=").append("trans");
+        formData.append("&StatusCallback=")
+                .append(URLEncoder.encode(callbackUrl + "/status/exotel?token="
+                        + URLEncoder.encode(callbackToken, StandardCharsets.UTF_8), StandardCharsets.UTF_8));
 
         // If appletId is provided, use it as the flow to connect to
         if (appletId != null && !appletId.isEmpty()) {
@@ -88,10 +109,12 @@ public class ExotelCallService implements VoiceCallService {
         HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
 
         if (response.statusCode() >= 200 && response.statusCode() < 300) {
-            // Call initiated successfully
+            // Call initiated successfully; the Sid matches later status callbacks
+            JsonNode callSid = objectMapper.readTree(response.body()).path("Call").path("Sid");
+            return callSid.isMissingNode() ? null : callSid.asText();
         } else {
-            System.err.println("❌ Failed to initiate Exotel call. Status: " + response.statusCode());
-            System.err.println("Response: " + response.body());
+            logger.error("Failed to initiate Exotel call. Status: {}, response: {}",
+                    response.statusCode(), response.body());
             throw new RuntimeException("Exotel API failed with status: " + response.statusCode());
         }
     }
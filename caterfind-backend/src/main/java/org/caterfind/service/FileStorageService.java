@@ -7,6 +7,9 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.UUID;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -26,6 +29,9 @@ public class FileStorageService {
     @Value("${file.upload-dir:uploads/images}")
     private String uploadDir;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     /**
      * Store uploaded file and return the URL path
      * 
@@ -60,6 +66,8 @@ public class FileStorageService {
         // Copy file to the target location
         Path targetLocation = uploadPath.resolve(newFilename);
         Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        DistributionSummary.builder("caterfind.upload.size").baseUnit("bytes").tag("kind", "image")
+                .register(meterRegistry).record(file.getSize());
 
         // Return URL path (relative to server)
         return "/uploads/images/" + newFilename;
@@ -0,0 +1,546 @@
+package org.caterfind.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.caterfind.dto.InventoryImportResult;
+import org.caterfind.entity.Contact;
+import org.caterfind.entity.InventoryItem;
+import org.caterfind.entity.MeasurementUnit;
+import org.caterfind.repository.ContactRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+/**
+ * Inventory Bulk Service
+ *
+ * Streaming CSV/XLSX import and export of a caterer's inventory, so
+ * onboarding hundreds of items is one upload instead of one POST per item.
+ *
+ * Import reads one row at a time (CSV line by line, XLSX through POI's SAX
+ * sheet reader), validates it, and buffers at most batch-size rows. Each full
+ * batch resolves its dealer names with one contact query and is written with
+ * a single JDBC batch insert, followed by a second batch with the rows'
+ * INITIAL ledger movements. The whole import is one transaction: a file that
+ * fails to read halfway imports nothing. Export streams rows from a forward-only MySQL
+ * cursor straight to the response (XLSX through a sliding-window
+ * SXSSFWorkbook). Memory use does not grow with the file size.
+ *
+ * Columns (header row required, any order, case-insensitive):
+ * itemName, category, quantity, unit, minThreshold, dealerName, dealerPhone
+ */
+@Service
+public class InventoryBulkService {
+
+    public static final List<String> COLUMNS = List.of(
+            "itemName", "category", "quantity", "unit", "minThreshold", "dealerName", "dealerPhone");
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    // quantity and min_threshold are DECIMAL(10, 2)
+    private static final BigDecimal MAX_QUANTITY = new BigDecimal("99999999.99");
+
+    private static final String INSERT_SQL = "INSERT INTO inventory_items (caterer_id, item_name, category, quantity, "
+            + "unit, min_threshold, base_unit, unit_factor, base_quantity, base_min_threshold, "
+            + "dealer_contact_id, dealer_name, dealer_phone, version, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String MOVEMENT_SQL = "INSERT INTO inventory_movements "
+            + "(item_id, caterer_id, delta, reason, note, created_at) VALUES (?, ?, ?, 'INITIAL', 'Imported', ?)";
+
+    private static final String EXPORT_SQL = "SELECT i.item_name, i.category, i.quantity, i.unit, i.min_threshold, "
+            + "COALESCE(c.name, i.dealer_name), COALESCE(c.phone, i.dealer_phone) "
+            + "FROM inventory_items i LEFT JOIN contacts c ON c.id = i.dealer_contact_id "
+            + "WHERE i.caterer_id = ? ORDER BY i.id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private CatererStatsService catererStatsService;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${inventory.import.batch-size:500}")
+    private int batchSize;
+
+    // Forward-only cursor: MySQL streams rows instead of buffering the result set
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public InventoryBulkService(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Import inventory items from an uploaded CSV or XLSX file.
+     *
+     * Valid rows are inserted; invalid rows are skipped and reported. If the
+     * file cannot be read to the end, nothing is imported.
+     *
+     * @param catererId User ID of the caterer
+     * @param file      Uploaded .csv or .xlsx file
+     * @return Counts and the first row errors
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the format or header is invalid
+     */
+    @Transactional(rollbackFor = IOException.class)
+    public InventoryImportResult importItems(Long catererId, MultipartFile file) throws IOException {
+        String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        ImportBatch batch = new ImportBatch(catererId);
+        DistributionSummary.builder("caterfind.upload.size").baseUnit("bytes").tag("kind", "inventory-import")
+                .register(meterRegistry).record(file.getSize());
+
+        if (name.endsWith(".xlsx")) {
+            // POI needs random access to the zip: spool to disk, not memory
+            File spooled = File.createTempFile("inventory-import", ".xlsx");
+            try {
+                file.transferTo(spooled);
+                readXlsx(spooled, batch);
+            } finally {
+                spooled.delete();
+            }
+        } else if (name.endsWith(".csv")) {
+            try (Reader reader = new BufferedReader(
+                    new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+                readCsv(reader, batch);
+            }
+        } else {
+            throw new IllegalArgumentException("Only .csv and .xlsx files are supported");
+        }
+        batch.flush();
+
+        if (batch.result.getImported() > 0) {
+            catererStatsService.refresh(catererId);
+            collectionVersions.bump(CollectionVersions.INVENTORY, catererId);
+        }
+        return batch.result;
+    }
+
+    /**
+     * Write a caterer's inventory as CSV.
+     *
+     * @param catererId User ID of the caterer
+     * @param out       Response stream
+     */
+    public void exportCsv(Long catererId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", COLUMNS));
+        writer.write("\r\n");
+        streamingJdbcTemplate.query(EXPORT_SQL, rs -> {
+            try {
+                for (int i = 1; i <= COLUMNS.size(); i++) {
+                    if (i > 1) {
+                        writer.write(',');
+                    }
+                    writer.write(csvEscape(rs.getString(i)));
+                }
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new IllegalStateException("Export aborted: " + e.getMessage(), e);
+            }
+        }, catererId);
+        writer.flush();
+    }
+
+    /**
+     * Write a caterer's inventory as XLSX.
+     *
+     * @param catererId User ID of the caterer
+     * @param out       Response stream
+     */
+    public void exportXlsx(Long catererId, OutputStream out) throws IOException {
+        // Keeps 100 rows in memory; older rows are flushed to a temp file
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        try {
+            Sheet sheet = workbook.createSheet("Inventory");
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                header.createCell(i).setCellValue(COLUMNS.get(i));
+            }
+            int[] rowIndex = { 1 };
+            streamingJdbcTemplate.query(EXPORT_SQL, rs -> {
+                Row row = sheet.createRow(rowIndex[0]++);
+                row.createCell(0).setCellValue(rs.getString(1));
+                row.createCell(1).setCellValue(rs.getString(2));
+                row.createCell(2).setCellValue(rs.getBigDecimal(3).doubleValue());
+                row.createCell(3).setCellValue(rs.getString(4));
+                row.createCell(4).setCellValue(rs.getBigDecimal(5).doubleValue());
+                row.createCell(5).setCellValue(rs.getString(6));
+                row.createCell(6).setCellValue(rs.getString(7));
+            }, catererId);
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void readXlsx(File file, ImportBatch batch) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            XSSFReader reader = new XSSFReader(pkg);
+            try (InputStream sheet = reader.getSheetsData().next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        reader.getStylesTable(), null, strings, new XlsxRowHandler(batch), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Could not read XLSX file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read CSV records one at a time (RFC 4180: quoted fields, "" escapes,
+     * line breaks inside quotes).
+     */
+    private void readCsv(Reader reader, ImportBatch batch) throws IOException {
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean any = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (inQuotes) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        inQuotes = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                record.add(field.toString());
+                field.setLength(0);
+                batch.accept(record);
+                record = new ArrayList<>();
+                any = false;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (any) {
+            record.add(field.toString());
+            batch.accept(record);
+        }
+    }
+
+    private static String csvEscape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Adapts POI's SAX cell callbacks to whole rows.
+     */
+    private static class XlsxRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final ImportBatch batch;
+        private final List<String> cells = new ArrayList<>();
+
+        XlsxRowHandler(ImportBatch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            batch.accept(new ArrayList<>(cells));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // Empty cells are not reported: pad up to this column
+            int column = new CellReference(cellReference).getCol();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue);
+        }
+    }
+
+    /**
+     * Validated row waiting for its batch insert.
+     */
+    private static class ParsedRow {
+        String itemName;
+        InventoryItem.ItemCategory category;
+        BigDecimal quantity;
+        String unit;
+        MeasurementUnit measurementUnit;
+        BigDecimal minThreshold;
+        String dealerName;
+        String dealerPhone;
+    }
+
+    /**
+     * Validates rows as they stream in and inserts them batch-size at a time.
+     */
+    private class ImportBatch {
+        private final Long catererId;
+        private final InventoryImportResult result = new InventoryImportResult();
+        private final List<ParsedRow> pending = new ArrayList<>();
+        private int[] columnIndex; // COLUMNS position -> file column, -1 if absent
+        private int rowNumber;
+
+        ImportBatch(Long catererId) {
+            this.catererId = catererId;
+        }
+
+        void accept(List<String> cells) {
+            rowNumber++;
+            if (columnIndex == null) {
+                readHeader(cells);
+                return;
+            }
+            if (cells.stream().allMatch(cell -> cell == null || cell.trim().isEmpty())) {
+                return;
+            }
+
+            try {
+                pending.add(parse(cells));
+            } catch (IllegalArgumentException e) {
+                result.setRejected(result.getRejected() + 1);
+                if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                    result.getErrors().add("Row " + rowNumber + ": " + e.getMessage());
+                }
+            }
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (columnIndex == null) {
+                throw new IllegalArgumentException("File is empty; expected a header row: " + String.join(",", COLUMNS));
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            // Resolve all dealer names of this batch with one query
+            Set<String> dealerNames = new HashSet<>();
+            for (ParsedRow row : pending) {
+                if (row.dealerName != null) {
+                    dealerNames.add(row.dealerName);
+                }
+            }
+            Map<String, Long> dealerIds = new HashMap<>();
+            if (!dealerNames.isEmpty()) {
+                for (Contact contact : contactRepository.findByCatererIdAndNameIn(catererId, dealerNames)) {
+                    dealerIds.putIfAbsent(contact.getName().toLowerCase(Locale.ROOT), contact.getId());
+                }
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> args = new ArrayList<>(pending.size());
+            for (ParsedRow row : pending) {
+                Long dealerId = row.dealerName != null ? dealerIds.get(row.dealerName.toLowerCase(Locale.ROOT)) : null;
+                args.add(new Object[] { catererId, row.itemName, row.category.name(), row.quantity, row.unit,
+                        row.minThreshold, row.measurementUnit.getBaseUnit(), row.measurementUnit.getFactor(),
+                        row.measurementUnit.toBase(row.quantity), row.measurementUnit.toBase(row.minThreshold),
+                        dealerId, row.dealerName, row.dealerPhone, now, now });
+            }
+            List<Long> ids = insertItems(args);
+
+            // Opening balances for exactly these rows (zero quantities have none, as in the ledger)
+            List<Object[]> movements = new ArrayList<>(pending.size());
+            for (int i = 0; i < pending.size(); i++) {
+                BigDecimal quantity = pending.get(i).quantity;
+                if (quantity.signum() != 0) {
+                    movements.add(new Object[] { ids.get(i), catererId, quantity, now });
+                }
+            }
+            jdbcTemplate.batchUpdate(MOVEMENT_SQL, movements);
+
+            result.setImported(result.getImported() + pending.size());
+            pending.clear();
+        }
+
+        /**
+         * Batch insert that also returns the generated item IDs, in row order.
+         */
+        private List<Long> insertItems(List<Object[]> rows) {
+            return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL,
+                        Statement.RETURN_GENERATED_KEYS)) {
+                    for (Object[] row : rows) {
+                        for (int i = 0; i < row.length; i++) {
+                            statement.setObject(i + 1, row[i]);
+                        }
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    List<Long> ids = new ArrayList<>(rows.size());
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            ids.add(keys.getLong(1));
+                        }
+                    }
+                    if (ids.size() != rows.size()) {
+                        throw new IllegalStateException("Expected " + rows.size() + " generated IDs, got "
+                                + ids.size());
+                    }
+                    return ids;
+                }
+            });
+        }
+
+        private void readHeader(List<String> cells) {
+            columnIndex = new int[COLUMNS.size()];
+            Arrays.fill(columnIndex, -1);
+            for (int i = 0; i < cells.size(); i++) {
+                String header = cells.get(i) == null ? "" : cells.get(i).trim();
+                for (int c = 0; c < COLUMNS.size(); c++) {
+                    if (COLUMNS.get(c).equalsIgnoreCase(header)) {
+                        columnIndex[c] = i;
+                    }
+                }
+            }
+            for (String required : List.of("itemName", "category", "quantity", "unit")) {
+                if (columnIndex[COLUMNS.indexOf(required)] < 0) {
+                    throw new IllegalArgumentException("Missing column '" + required + "'. Expected header: "
+                            + String.join(",", COLUMNS));
+                }
+            }
+        }
+
+        private ParsedRow parse(List<String> cells) {
+            ParsedRow row = new ParsedRow();
+            row.itemName = value(cells, "itemName");
+            if (row.itemName == null) {
+                throw new IllegalArgumentException("itemName is required");
+            }
+            if (row.itemName.length() > 255) {
+                throw new IllegalArgumentException("itemName is longer than 255 characters");
+            }
+
+            String category = value(cells, "category");
+            try {
+                row.category = InventoryItem.ItemCategory.valueOf(
+                        category == null ? "" : category.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown category '" + category + "'");
+            }
+
+            row.unit = value(cells, "unit");
+            row.measurementUnit = MeasurementUnit.resolve(row.unit);
+            if (row.measurementUnit == null) {
+                throw new IllegalArgumentException("unknown unit '" + row.unit + "'");
+            }
+
+            row.quantity = decimal(cells, "quantity", null);
+            row.minThreshold = decimal(cells, "minThreshold", BigDecimal.ZERO);
+            row.dealerName = value(cells, "dealerName");
+            row.dealerPhone = value(cells, "dealerPhone");
+            return row;
+        }
+
+        private String value(List<String> cells, String column) {
+            int index = columnIndex[COLUMNS.indexOf(column)];
+            if (index < 0 || index >= cells.size() || cells.get(index) == null) {
+                return null;
+            }
+            String value = cells.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private BigDecimal decimal(List<String> cells, String column, BigDecimal defaultValue) {
+            String value = value(cells, column);
+            if (value == null) {
+                if (defaultValue != null) {
+                    return defaultValue;
+                }
+                throw new IllegalArgumentException(column + " is required");
+            }
+            try {
+                BigDecimal number = new BigDecimal(value.replace(",", ""));
+                if (number.signum() < 0) {
+                    throw new IllegalArgumentException(column + " cannot be negative");
+                }
+                if (number.setScale(2, RoundingMode.HALF_UP).compareTo(MAX_QUANTITY) > 0) {
+                    throw new IllegalArgumentException(column + " is larger than " + MAX_QUANTITY.toPlainString());
+                }
+                return number;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " is not a number: '" + value + "'");
+            }
+        }
+    }
+}
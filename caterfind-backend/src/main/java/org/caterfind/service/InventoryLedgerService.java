@@ -0,0 +1,192 @@
+package org.caterfind.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.caterfind.dto.InventoryMovementDTO;
+import org.caterfind.entity.InventoryItem;
+import org.caterfind.entity.InventoryMovement;
+import org.caterfind.entity.InventorySnapshot;
+import org.caterfind.entity.MeasurementUnit;
+import org.caterfind.repository.InventoryMovementRepository;
+import org.caterfind.repository.InventorySnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Inventory Ledger Service
+ *
+ * Append-only history of stock movements (inventory_movements). Callers
+ * record a movement in the same transaction that changes
+ * inventory_items.quantity, which remains the snapshot every hot read uses.
+ *
+ * Movements older than the retention period are periodically compacted into
+ * per-item snapshots and deleted, so the ledger stays small. Quantity as of
+ * any time = latest snapshot at or before it + newer movements up to it;
+ * for times before the retention window this resolves to the compaction
+ * run that covers them.
+ *
+ * Deltas are in the item's unit at the time. A unit change records a
+ * UNIT_CHANGE movement that restates the quantity in the new unit, so the
+ * replay stays equal to the stored quantity and the change itself is never
+ * mistaken for consumption.
+ */
+@Service
+public class InventoryLedgerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryLedgerService.class);
+
+    @Autowired
+    private InventoryMovementRepository movementRepository;
+
+    @Autowired
+    private InventorySnapshotRepository snapshotRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ConsumptionForecastService consumptionForecastService;
+
+    @Value("${inventory.ledger.retention.days:90}")
+    private int retentionDays;
+
+    /**
+     * Append a movement. No-op for a zero delta. Decreases also feed the
+     * consumption forecast.
+     *
+     * @param item   Item whose quantity changed
+     * @param delta  Signed change
+     * @param reason Why it changed
+     * @param note   Optional free text
+     */
+    @Transactional
+    public void record(InventoryItem item, BigDecimal delta, InventoryMovement.Reason reason, String note) {
+        if (delta == null || delta.signum() == 0) {
+            return;
+        }
+        movementRepository.save(new InventoryMovement(item.getId(), item.getCatererId(), delta, reason, note));
+
+        if (reason == InventoryMovement.Reason.DELETED) {
+            consumptionForecastService.forget(item.getId());
+        } else if (delta.signum() < 0 && reason != InventoryMovement.Reason.UNIT_CHANGE) {
+            consumptionForecastService.recordConsumption(item, delta.negate());
+        }
+    }
+
+    /**
+     * Restate an item's previous quantity in its new unit, before an edit's
+     * delta is taken.
+     *
+     * If the unit is unchanged this is a no-op. Between registry units of one
+     * dimension (2 kg -> g) the previous quantity is converted, a UNIT_CHANGE
+     * movement records the restatement and the consumption rate is rescaled;
+     * an edit from 2 kg to 2000 g then has a zero delta. Otherwise (a
+     * different dimension or a unit outside the registry) there is no
+     * conversion: the whole change is a UNIT_CHANGE and the rate is dropped.
+     *
+     * @param item             Item as saved, with its new unit and quantity
+     * @param previousQuantity Quantity before the edit
+     * @param previousUnit     Unit before the edit
+     * @return Previous quantity in the new unit, to subtract from the new one
+     */
+    @Transactional
+    public BigDecimal restateForUnitChange(InventoryItem item, BigDecimal previousQuantity, String previousUnit) {
+        MeasurementUnit from = MeasurementUnit.resolve(previousUnit);
+        MeasurementUnit to = MeasurementUnit.resolve(item.getUnit());
+        boolean sameUnit = from != null || to != null ? from == to
+                : spelling(previousUnit).equals(spelling(item.getUnit()));
+        if (sameUnit) {
+            return previousQuantity;
+        }
+
+        String note = previousUnit + " -> " + item.getUnit();
+        if (from != null && to != null && from.getDimension() == to.getDimension()) {
+            BigDecimal ratio = from.getFactor().divide(to.getFactor(), MathContext.DECIMAL64);
+            BigDecimal restated = previousQuantity.multiply(ratio).setScale(2, RoundingMode.HALF_UP);
+            record(item, restated.subtract(previousQuantity), InventoryMovement.Reason.UNIT_CHANGE, note);
+            consumptionForecastService.unitChanged(item.getId(), ratio);
+            return restated;
+        }
+        record(item, item.getQuantity().subtract(previousQuantity), InventoryMovement.Reason.UNIT_CHANGE, note);
+        consumptionForecastService.forget(item.getId());
+        return item.getQuantity();
+    }
+
+    private static String spelling(String unit) {
+        return unit == null ? "" : unit.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Most recent movements of an item, newest first.
+     *
+     * @param itemId Item ID
+     * @param limit  Maximum number of movements
+     * @return Movement DTOs
+     */
+    public List<InventoryMovementDTO> getRecentMovements(Long itemId, int limit) {
+        return movementRepository.findByItemIdOrderByIdDesc(itemId, PageRequest.of(0, limit))
+                .stream()
+                .map(m -> new InventoryMovementDTO(m.getId(), m.getDelta(), m.getReason().name(), m.getNote(),
+                        m.getCreatedAt()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Replay an item's quantity as of a point in time.
+     *
+     * @param itemId Item ID
+     * @param asOf   Point in time
+     * @return Quantity at that time (zero before the item existed)
+     */
+    public BigDecimal getQuantityAsOf(Long itemId, LocalDateTime asOf) {
+        InventorySnapshot snapshot = snapshotRepository
+                .findFirstByItemIdAndAsOfLessThanEqualOrderByAsOfDesc(itemId, asOf)
+                .orElse(null);
+        BigDecimal base = snapshot != null ? snapshot.getQuantity() : BigDecimal.ZERO;
+        Long afterId = snapshot != null ? snapshot.getLastMovementId() : 0L;
+        return base.add(movementRepository.sumDeltas(itemId, afterId, asOf));
+    }
+
+    /**
+     * Give items created before the ledger existed an opening balance.
+     *
+     * @return Number of items backfilled
+     */
+    @Transactional
+    public int backfillOpeningBalances() {
+        return movementRepository.backfillOpeningBalances();
+    }
+
+    /**
+     * Scheduled compaction job
+     * Folds movements older than the retention period into snapshots
+     */
+    @Scheduled(cron = "${inventory.ledger.compaction.cron:0 45 2 * * ?}")
+    @Transactional
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays).truncatedTo(ChronoUnit.DAYS);
+        try {
+            int snapshots = snapshotRepository.compactBefore(cutoff);
+            int deleted = movementRepository.deleteCompacted(cutoff);
+            meterRegistry.counter("caterfind.cleanup.deleted", "job", "inventory-movements").increment(deleted);
+            logger.info("Inventory ledger compaction completed. {} snapshots, {} movements folded",
+                    snapshots, deleted);
+        } catch (Exception e) {
+            logger.error("Error during inventory ledger compaction", e);
+        }
+    }
+}
@@ -1,14 +1,28 @@
 package org.caterfind.service;
 
+import org.caterfind.dto.CursorPageDTO;
 import org.caterfind.dto.InventoryDTO;
 import org.caterfind.entity.Contact;
 import org.caterfind.entity.InventoryItem;
+import org.caterfind.entity.InventoryMovement;
+import org.caterfind.entity.MeasurementUnit;
 import org.caterfind.repository.ContactRepository;
 import org.caterfind.repository.InventoryItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -35,17 +49,171 @@ public class InventoryService {
     @Autowired
     private ContactRepository contactRepository;
 
+    @Autowired
+    private CatererStatsService catererStatsService;
+
+    @Autowired
+    private CatererEventBus catererEventBus;
+
+    @Autowired
+    private InventoryLedgerService inventoryLedgerService;
+
+    @Autowired
+    private MenuPlanningService menuPlanningService;
+
+    @Autowired
+    private CursorListing cursorListing;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private JsonArrayStreamer jsonArrayStreamer;
+
+    // Fields of a listed item (InventoryDTO, plus createdAt/updatedAt)
+    private static final List<String> LIST_FIELDS = List.of(
+            "id", "itemName", "category", "quantity", "unit", "minThreshold", "dealerContactId",
+            "dealerName", "dealerPhone", "isLowStock", "baseUnit", "baseQuantity", "version",
+            "reorderedAt", "createdAt", "updatedAt");
+
+    private static final String STREAM_SELECT = "SELECT i.id, i.item_name, i.category, i.quantity, i.unit, "
+            + "i.min_threshold, i.dealer_contact_id, i.dealer_name, i.dealer_phone, i.version, i.reordered_at, "
+            + "i.base_unit, i.base_quantity, c.id AS contact_id, c.name AS contact_name, "
+            + "c.phone AS contact_phone, c.email AS contact_email "
+            + "FROM inventory_items i LEFT JOIN contacts c ON c.id = i.dealer_contact_id "
+            + "WHERE i.caterer_id = ? ";
+    private static final String STREAM_FIRST_SQL = STREAM_SELECT + "ORDER BY i.id LIMIT ?";
+    private static final String STREAM_AFTER_SQL = STREAM_SELECT + "AND i.id > ? ORDER BY i.id LIMIT ?";
+
+    private static final CursorListing.Resource<InventoryItem> LISTING = new CursorListing.Resource<>(
+            InventoryItem.class, "catererId")
+            .column("itemName", "itemName")
+            .column("category", "category")
+            .column("quantity", "quantity")
+            .column("unit", "unit")
+            .column("minThreshold", "minThreshold")
+            .column("dealerContactId", "dealerContactId")
+            .column("dealerName", "dealerName")
+            .column("dealerPhone", "dealerPhone")
+            .column("baseUnit", "baseUnit")
+            .column("baseQuantity", "baseQuantity")
+            .column("version", "version")
+            .column("reorderedAt", "reorderedAt")
+            .column("createdAt", "createdAt")
+            .column("updatedAt", "updatedAt")
+            .sortable("itemName")
+            .sortable("createdAt");
+
     /**
-     * Get all inventory items for a caterer.
+     * Write all inventory items of a caterer as a JSON array of InventoryDTOs,
+     * streamed in pages by id. Dealer contacts are joined in the same query
+     * instead of being loaded per item.
      * 
      * @param catererId User ID of the caterer
-     * @return List of InventoryDTOs
+     * @param out       Response stream
      */
-    public List<InventoryDTO> getAllInventory(Long catererId) {
-        List<InventoryItem> items = inventoryItemRepository.findByCatererId(catererId);
-        return items.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public void streamInventory(Long catererId, OutputStream out) throws IOException {
+        jsonArrayStreamer.write(out, STREAM_FIRST_SQL, STREAM_AFTER_SQL,
+                dto -> new Object[] { dto.getId() }, (rs, rowNum) -> {
+            String dealerName = rs.getString("dealer_name");
+            String dealerPhone = rs.getString("dealer_phone");
+            // Linked contact is the source of truth, as in convertToDTO()
+            if (rs.getObject("contact_id") != null) {
+                dealerName = rs.getString("contact_name");
+                dealerPhone = rs.getString("contact_phone");
+                if (dealerPhone == null || dealerPhone.isEmpty()) {
+                    dealerPhone = rs.getString("contact_email");
+                }
+            }
+            BigDecimal quantity = rs.getBigDecimal("quantity");
+            BigDecimal minThreshold = rs.getBigDecimal("min_threshold");
+            InventoryDTO dto = new InventoryDTO(
+                    rs.getLong("id"),
+                    rs.getString("item_name"),
+                    rs.getString("category"),
+                    quantity,
+                    rs.getString("unit"),
+                    minThreshold,
+                    rs.getObject("dealer_contact_id", Long.class),
+                    dealerName,
+                    dealerPhone,
+                    quantity.compareTo(minThreshold) <= 0);
+            dto.setVersion(rs.getLong("version"));
+            dto.setReorderedAt(rs.getObject("reordered_at", LocalDateTime.class));
+            dto.setBaseUnit(rs.getString("base_unit"));
+            dto.setBaseQuantity(rs.getBigDecimal("base_quantity"));
+            return dto;
+        }, catererId);
+    }
+
+    /**
+     * List one page of a caterer's inventory with only the requested fields.
+     * 
+     * @param catererId User ID of the caterer
+     * @param fields    Comma-separated fields (null: all)
+     * @param sort      itemName, createdAt or id; "-" prefix for descending
+     * @param cursor    nextCursor of the previous page (null: first page)
+     * @param limit     Page size
+     * @return Page of items and the next cursor
+     * @throws IllegalArgumentException for unknown fields, sort keys or cursors
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO listInventory(Long catererId, String fields, String sort, String cursor, int limit) {
+        List<String> requested = CursorListing.parseFields(fields, LIST_FIELDS);
+        boolean lowStock = requested.contains("isLowStock");
+        boolean dealer = requested.contains("dealerName") || requested.contains("dealerPhone");
+
+        List<String> columns = new ArrayList<>(requested);
+        columns.remove("isLowStock");
+        if (lowStock) {
+            columns.add("quantity");
+            columns.add("minThreshold");
+        }
+        if (dealer) {
+            columns.add("dealerContactId");
+            columns.add("dealerName");
+            columns.add("dealerPhone");
+        }
+
+        CursorListing.Page page = cursorListing.list(LISTING, catererId, columns, sort, cursor, limit);
+
+        // Linked dealer contacts override the stored name/phone (as in convertToDTO)
+        Map<Long, Contact> dealers = new HashMap<>();
+        if (dealer) {
+            List<Long> contactIds = page.getRows().stream()
+                    .map(row -> (Long) row.get("dealerContactId"))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .collect(Collectors.toList());
+            if (!contactIds.isEmpty()) {
+                for (Contact contact : contactRepository.findAllById(contactIds)) {
+                    dealers.put(contact.getId(), contact);
+                }
+            }
+        }
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Map<String, Object> row : page.getRows()) {
+            Contact contact = dealer ? dealers.get((Long) row.get("dealerContactId")) : null;
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (String field : requested) {
+                Object value = row.get(field);
+                if ("isLowStock".equals(field)) {
+                    value = ((BigDecimal) row.get("quantity")).compareTo((BigDecimal) row.get("minThreshold")) <= 0;
+                } else if ("category".equals(field)) {
+                    value = ((InventoryItem.ItemCategory) value).name();
+                } else if ("dealerName".equals(field) && contact != null) {
+                    value = contact.getName();
+                } else if ("dealerPhone".equals(field) && contact != null) {
+                    value = contact.getPhone() != null && !contact.getPhone().isEmpty()
+                            ? contact.getPhone()
+                            : contact.getEmail();
+                }
+                item.put(field, value);
+            }
+            items.add(item);
+        }
+        return new CursorPageDTO(items, page.getNextCursor());
     }
 
     /**
@@ -80,8 +248,11 @@ public class InventoryService {
      * @param catererId    User ID of the caterer
      * @param inventoryDTO Inventory data
      * @return Created InventoryDTO
+     * @throws IllegalArgumentException if the unit is not in the registry
      */
+    @Transactional
     public InventoryDTO createInventoryItem(Long catererId, InventoryDTO inventoryDTO) {
+        requireKnownUnit(inventoryDTO.getUnit());
         InventoryItem item = new InventoryItem();
         item.setCatererId(catererId);
         item.setItemName(inventoryDTO.getItemName());
@@ -94,19 +265,47 @@ public class InventoryService {
         item.setDealerPhone(inventoryDTO.getDealerPhone());
 
         InventoryItem saved = inventoryItemRepository.save(item);
-        return convertToDTO(saved);
+        inventoryLedgerService.record(saved, saved.getQuantity(), InventoryMovement.Reason.INITIAL, null);
+        return afterQuantityChange(saved, false);
     }
 
     /**
-     * Update an existing inventory item.
+     * Update an existing inventory item (full edit).
+     * 
+     * Optimistically locked: if inventoryDTO carries a version, it must match
+     * the stored one, and a concurrent write between load and commit also
+     * fails. Use adjustQuantity() for relative stock changes.
+     * 
+     * The registry is only enforced when the unit changes: items kept with a
+     * free-text legacy unit by backfillNormalizedQuantities() stay editable
+     * as long as that unit is sent back unchanged.
      * 
      * @param itemId       Item ID
      * @param inventoryDTO Updated inventory data
      * @return Updated InventoryDTO or null if not found
+     * @throws ObjectOptimisticLockingFailureException if the item was changed
+     *                                                 since it was read
+     * @throws IllegalArgumentException                if the unit is changed to
+     *                                                 one not in the registry, or
+     *                                                 to another base unit while
+     *                                                 recipes or upcoming events
+     *                                                 use the item
      */
+    @Transactional
     public InventoryDTO updateInventoryItem(Long itemId, InventoryDTO inventoryDTO) {
         return inventoryItemRepository.findById(itemId)
                 .map(item -> {
+                    if (inventoryDTO.getVersion() != null && !inventoryDTO.getVersion().equals(item.getVersion())) {
+                        throw new ObjectOptimisticLockingFailureException(InventoryItem.class, itemId);
+                    }
+                    if (!sameUnitSpelling(item.getUnit(), inventoryDTO.getUnit())) {
+                        requireKnownUnit(inventoryDTO.getUnit());
+                        // Recipes and reservations hold amounts in the item's base unit
+                        menuPlanningService.itemUnitChanged(itemId, item.getUnit(), inventoryDTO.getUnit());
+                    }
+                    boolean wasLowStock = item.getIsLowStock();
+                    BigDecimal previousQuantity = item.getQuantity();
+                    String previousUnit = item.getUnit();
                     item.setItemName(inventoryDTO.getItemName());
                     item.setCategory(InventoryItem.ItemCategory.valueOf(inventoryDTO.getCategory()));
                     item.setQuantity(inventoryDTO.getQuantity());
@@ -117,23 +316,136 @@ public class InventoryService {
                     item.setDealerPhone(inventoryDTO.getDealerPhone());
 
                     InventoryItem updated = inventoryItemRepository.save(item);
-                    return convertToDTO(updated);
+                    // Difference in the new unit: a pure unit change (2 kg -> 2000 g) is no stock movement
+                    BigDecimal before = inventoryLedgerService.restateForUnitChange(updated, previousQuantity,
+                            previousUnit);
+                    inventoryLedgerService.record(updated, updated.getQuantity().subtract(before),
+                            InventoryMovement.Reason.EDIT, null);
+                    return afterQuantityChange(updated, wasLowStock);
                 })
                 .orElse(null);
     }
 
+    /**
+     * Apply a relative stock change atomically
+     * (UPDATE ... SET quantity = quantity + delta), so parallel adjustments
+     * from several devices never lose an update.
+     * 
+     * @param itemId Item ID
+     * @param delta  Signed change (negative for usage)
+     * @param note   Optional note for the movement ledger
+     * @return Updated InventoryDTO or null if not found
+     * @throws IllegalStateException if the change would make quantity negative
+     */
+    @Transactional
+    public InventoryDTO adjustQuantity(Long itemId, BigDecimal delta, String note) {
+        if (inventoryItemRepository.adjustQuantity(itemId, delta, LocalDateTime.now()) == 0) {
+            if (!inventoryItemRepository.existsById(itemId)) {
+                return null;
+            }
+            throw new IllegalStateException("Insufficient stock for this adjustment");
+        }
+
+        // Row is locked by our UPDATE until commit, so this read is exact
+        InventoryItem item = inventoryItemRepository.findById(itemId).orElseThrow();
+        boolean wasLowStock = item.getQuantity().subtract(delta).compareTo(item.getMinThreshold()) <= 0;
+        inventoryLedgerService.record(item, delta, InventoryMovement.Reason.ADJUSTMENT, note);
+        return afterQuantityChange(item, wasLowStock);
+    }
+
+    /**
+     * Claim low-stock items for an automatic reorder (see ReorderEngine).
+     * Each claim is a conditional UPDATE, so with several backend nodes an
+     * item is claimed by exactly one of them.
+     * 
+     * @param items  Candidate items
+     * @param cutoff Items reordered before this may be claimed again
+     * @return Items this call claimed
+     */
+    @Transactional
+    public List<InventoryItem> claimForReorder(List<InventoryItem> items, LocalDateTime cutoff) {
+        LocalDateTime now = LocalDateTime.now();
+        List<InventoryItem> claimed = items.stream()
+                .filter(item -> inventoryItemRepository.claimReorder(item.getId(), now, cutoff) == 1)
+                .collect(Collectors.toList());
+        claimed.stream().map(InventoryItem::getCatererId).distinct()
+                .forEach(catererId -> collectionVersions.bump(CollectionVersions.INVENTORY, catererId));
+        return claimed;
+    }
+
+    /**
+     * Release reorder claims after a failed send.
+     * 
+     * @param catererId User ID of the caterer owning the items
+     * @param itemIds   Item IDs
+     */
+    @Transactional
+    public void releaseReorder(Long catererId, List<Long> itemIds) {
+        if (!itemIds.isEmpty()) {
+            inventoryItemRepository.releaseReorder(itemIds);
+            collectionVersions.bump(CollectionVersions.INVENTORY, catererId);
+        }
+    }
+
     /**
      * Delete an inventory item.
      * 
      * @param itemId Item ID
      * @return true if deleted, false if not found
      */
+    @Transactional
     public boolean deleteInventoryItem(Long itemId) {
-        if (inventoryItemRepository.existsById(itemId)) {
-            inventoryItemRepository.deleteById(itemId);
-            return true;
+        return inventoryItemRepository.findById(itemId)
+                .map(item -> {
+                    inventoryItemRepository.delete(item);
+                    menuPlanningService.itemDeleted(item.getId());
+                    inventoryLedgerService.record(item, item.getQuantity().negate(),
+                            InventoryMovement.Reason.DELETED, null);
+                    catererStatsService.lowStockChanged(item.getCatererId(), item.getIsLowStock(), false);
+                    collectionVersions.bump(CollectionVersions.INVENTORY, item.getCatererId());
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Normalize quantities of items created before the base-unit columns
+     * existed. One UPDATE per registry unit, no per-row conversion.
+     * 
+     * @return Number of items normalized
+     */
+    @Transactional
+    public int backfillNormalizedQuantities() {
+        int updated = 0;
+        for (MeasurementUnit unit : MeasurementUnit.values()) {
+            updated += inventoryItemRepository.backfillNormalizedUnit(unit.getAliases(), unit.getBaseUnit(),
+                    unit.getFactor());
+        }
+        return updated + inventoryItemRepository.backfillUnregisteredUnits();
+    }
+
+    private void requireKnownUnit(String unit) {
+        if (MeasurementUnit.resolve(unit) == null) {
+            throw new IllegalArgumentException("Unknown unit '" + unit + "'");
+        }
+    }
+
+    private static boolean sameUnitSpelling(String stored, String requested) {
+        return stored != null && requested != null && stored.trim().equalsIgnoreCase(requested.trim());
+    }
+
+    /**
+     * Update dashboard counters and notify live clients after a quantity or
+     * threshold change.
+     */
+    private InventoryDTO afterQuantityChange(InventoryItem item, boolean wasLowStock) {
+        catererStatsService.lowStockChanged(item.getCatererId(), wasLowStock, item.getIsLowStock());
+        collectionVersions.bump(CollectionVersions.INVENTORY, item.getCatererId());
+        InventoryDTO dto = convertToDTO(item);
+        if (wasLowStock != item.getIsLowStock()) {
+            catererEventBus.publish(item.getCatererId(), CatererEventBus.LOW_STOCK, dto);
         }
-        return false;
+        return dto;
     }
 
     /**
@@ -159,7 +471,7 @@ public class InventoryService {
             }
         }
 
-        return new InventoryDTO(
+        InventoryDTO dto = new InventoryDTO(
                 item.getId(),
                 item.getItemName(),
                 item.getCategory().name(),
@@ -171,5 +483,10 @@ public class InventoryService {
                 dealerPhone,
                 item.getIsLowStock() // Computed: quantity < minThreshold
         );
+        dto.setVersion(item.getVersion());
+        dto.setReorderedAt(item.getReorderedAt());
+        dto.setBaseUnit(item.getBaseUnit());
+        dto.setBaseQuantity(item.getBaseQuantity());
+        return dto;
     }
 }
@@ -0,0 +1,92 @@
+package org.caterfind.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * JSON Array Streamer
+ *
+ * Writes a query result as a JSON array straight to the response, one
+ * keyset page at a time: each page is a separate LIMIT query on a pooled
+ * connection that goes back to the pool before the page is written, so the
+ * full list is never held in memory and a slow client never holds a
+ * connection while it reads.
+ *
+ * Every query gets the caller's arguments, then (after the first page) the
+ * sort key of the last row written, then the page size. Rows are
+ * serialized with the application's ObjectMapper, so the output is the same
+ * as returning the List of DTOs. If a page fails part-way the array is left
+ * unterminated, so the client sees invalid JSON rather than a well-formed
+ * but truncated list.
+ *
+ * Pages are separate reads, not one snapshot: a row written during the
+ * download may or may not appear, but no row is listed twice or skipped
+ * as long as its sort key does not change. Exports that need a single
+ * consistent cursor (InventoryBulkService) keep their own streaming query.
+ */
+@Component
+public class JsonArrayStreamer {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${streaming.page-size:500}")
+    private int pageSize;
+
+    /**
+     * Run a keyset-paged query and write its rows as a JSON array.
+     *
+     * @param out           Response stream (left open)
+     * @param firstPageSql  Query for the first page, ending in LIMIT ?
+     * @param nextPageSql   Query for the rows after a sort key, ending in LIMIT ?
+     * @param keyOf         Sort key parameters of a written row, in nextPageSql order
+     * @param mapper        Row to DTO
+     * @param args          Query parameters that precede the sort key
+     * @throws IOException if the client disconnects
+     */
+    public <T> void write(OutputStream out, String firstPageSql, String nextPageSql,
+            Function<T, Object[]> keyOf, RowMapper<T> mapper, Object... args) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Never append the closing "]" on the way out of a failed query
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartArray();
+            List<T> page = jdbcTemplate.query(firstPageSql, mapper, withLimit(args));
+            while (true) {
+                for (T row : page) {
+                    generator.writeObject(row);
+                }
+                if (page.size() < pageSize) {
+                    break;
+                }
+                // Hand this page to the client before asking the pool for the next one
+                generator.flush();
+                Object[] key = keyOf.apply(page.get(page.size() - 1));
+                Object[] nextArgs = Arrays.copyOf(args, args.length + key.length);
+                System.arraycopy(key, 0, nextArgs, args.length, key.length);
+                page = jdbcTemplate.query(nextPageSql, mapper, withLimit(nextArgs));
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private Object[] withLimit(Object[] args) {
+        Object[] withLimit = Arrays.copyOf(args, args.length + 1);
+        withLimit[args.length] = pageSize;
+        return withLimit;
+    }
+}
@@ -0,0 +1,442 @@
+package org.caterfind.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.caterfind.dto.DishIngredientDTO;
+import org.caterfind.dto.MenuQuoteDTO;
+import org.caterfind.dto.MenuRequest;
+import org.caterfind.dto.MenuRequirementDTO;
+import org.caterfind.entity.CalendarEvent;
+import org.caterfind.entity.Dish;
+import org.caterfind.entity.DishIngredient;
+import org.caterfind.entity.InventoryItem;
+import org.caterfind.entity.MeasurementUnit;
+import org.caterfind.entity.StockReservation;
+import org.caterfind.repository.CalendarEventRepository;
+import org.caterfind.repository.DishIngredientRepository;
+import org.caterfind.repository.DishRepository;
+import org.caterfind.repository.InventoryItemRepository;
+import org.caterfind.repository.StockReservationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Menu Planning Service
+ *
+ * Links dishes to inventory through per-guest recipes (dish_ingredients) and
+ * answers "can we cook this menu for N guests?":
+ * - quote: expand a menu into required inventory and flag shortfalls
+ * - reserve: the same, then set the stock aside for a calendar event
+ *
+ * Each dish's recipe is cached as parallel arrays (item IDs, base quantity
+ * per guest) and evicted when the recipe changes. Expanding a menu is one
+ * pass over those arrays summing per-guest amounts per item, a single
+ * multiplication by the guest count per item, and two queries: the items'
+ * stock and the stock already reserved by other upcoming events. All
+ * arithmetic is in base units (see MeasurementUnit).
+ */
+@Service
+public class MenuPlanningService {
+
+    @Autowired
+    private DishRepository dishRepository;
+
+    @Autowired
+    private DishIngredientRepository dishIngredientRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private CalendarEventRepository calendarEventRepository;
+
+    // dishId -> compiled recipe
+    private final Map<Long, Bom> bomCache = new ConcurrentHashMap<>();
+
+    /**
+     * Get a dish's recipe.
+     *
+     * @param dishId Dish ID
+     * @return Ingredients
+     */
+    public List<DishIngredientDTO> getIngredients(Long dishId) {
+        List<DishIngredient> ingredients = dishIngredientRepository.findByDishIdOrderById(dishId);
+        Map<Long, String> names = inventoryItemRepository
+                .findAllById(ingredients.stream().map(DishIngredient::getItemId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(InventoryItem::getId, InventoryItem::getItemName));
+        return ingredients.stream()
+                .map(i -> new DishIngredientDTO(i.getItemId(), names.get(i.getItemId()), i.getQuantityPerGuest(),
+                        i.getUnit()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Replace a dish's recipe.
+     *
+     * @param dishId      Dish ID
+     * @param ingredients Ingredients; each unit must measure the same thing as
+     *                    the item's unit (mass, volume or count)
+     * @return Saved ingredients
+     * @throws IllegalArgumentException if the dish, an item or a unit is invalid
+     */
+    @Transactional
+    public List<DishIngredientDTO> setIngredients(Long dishId, List<DishIngredientDTO> ingredients) {
+        Dish dish = dishRepository.findById(dishId)
+                .orElseThrow(() -> new IllegalArgumentException("Dish not found"));
+        Long catererId = dish.getUser().getId();
+
+        Map<Long, InventoryItem> items = inventoryItemRepository
+                .findAllById(ingredients.stream().map(DishIngredientDTO::getItemId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(InventoryItem::getId, Function.identity()));
+
+        List<DishIngredient> rows = new ArrayList<>();
+        Set<Long> seen = new LinkedHashSet<>();
+        for (DishIngredientDTO dto : ingredients) {
+            InventoryItem item = items.get(dto.getItemId());
+            if (item == null || !item.getCatererId().equals(catererId)) {
+                throw new IllegalArgumentException("Unknown inventory item " + dto.getItemId());
+            }
+            if (!seen.add(item.getId())) {
+                throw new IllegalArgumentException("Item '" + item.getItemName() + "' is listed twice");
+            }
+            if (dto.getQuantityPerGuest() == null || dto.getQuantityPerGuest().signum() <= 0) {
+                throw new IllegalArgumentException("quantityPerGuest must be positive for '" + item.getItemName() + "'");
+            }
+            String unit = dto.getUnit() != null && !dto.getUnit().trim().isEmpty() ? dto.getUnit().trim()
+                    : item.getUnit();
+            rows.add(new DishIngredient(dishId, item.getId(), dto.getQuantityPerGuest(), unit,
+                    toItemBase(item, dto.getQuantityPerGuest(), unit)));
+        }
+
+        dishIngredientRepository.deleteByDishId(dishId);
+        dishIngredientRepository.flush();
+        dishIngredientRepository.saveAll(rows);
+        evictAfterCommit(dishId);
+        return getIngredients(dishId);
+    }
+
+    /**
+     * Expand a menu into required inventory without reserving anything.
+     *
+     * @param catererId User ID of the caterer
+     * @param request   Dishes and guest count
+     * @return Requirements with shortfalls
+     * @throws IllegalArgumentException if a dish is unknown or guests < 1
+     */
+    public MenuQuoteDTO quote(Long catererId, MenuRequest request) {
+        return evaluate(expand(catererId, request), request.getGuests(), null);
+    }
+
+    /**
+     * Expand a menu and reserve the stock against a calendar event, replacing
+     * the event's previous reservation. Shortfalls are reserved too (and
+     * flagged), so the gap stays visible until it is restocked.
+     *
+     * The menu's inventory rows are locked before availability is computed,
+     * so concurrent reservations sharing an item run one after the other and
+     * the second sees the first one's reservation. READ COMMITTED makes the
+     * reads after the lock see rows committed while waiting for it (under
+     * MySQL's default REPEATABLE READ they would read the snapshot taken by
+     * the earlier event and recipe lookups).
+     *
+     * @param catererId User ID of the caterer
+     * @param eventId   Calendar event ID
+     * @param request   Dishes and guest count
+     * @return Reserved requirements with shortfalls
+     * @throws IllegalArgumentException if the event or a dish is unknown
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public MenuQuoteDTO reserve(Long catererId, Long eventId, MenuRequest request) {
+        CalendarEvent event = calendarEventRepository.findById(eventId)
+                .filter(e -> e.getUserId().equals(catererId))
+                .orElseThrow(() -> new IllegalArgumentException("Event not found"));
+
+        Map<Long, BigDecimal> required = expand(catererId, request);
+        if (!required.isEmpty()) {
+            inventoryItemRepository.lockByIds(required.keySet());
+        }
+        MenuQuoteDTO quote = evaluate(required, request.getGuests(), event.getId());
+
+        stockReservationRepository.deleteByEventId(event.getId());
+        stockReservationRepository.flush();
+        stockReservationRepository.saveAll(quote.getRequirements().stream()
+                .map(r -> new StockReservation(catererId, event.getId(), r.getItemId(), required.get(r.getItemId())))
+                .collect(Collectors.toList()));
+        return quote;
+    }
+
+    /**
+     * Current reservation of an event, re-checked against today's stock.
+     *
+     * @param eventId Calendar event ID
+     * @return Reserved requirements with shortfalls (empty if none)
+     */
+    public MenuQuoteDTO getReservation(Long eventId) {
+        Map<Long, BigDecimal> required = new HashMap<>();
+        for (StockReservation reservation : stockReservationRepository.findByEventIdOrderById(eventId)) {
+            required.put(reservation.getItemId(), reservation.getBaseQuantity());
+        }
+        return evaluate(required, 0, eventId);
+    }
+
+    /**
+     * Release an event's reserved stock.
+     *
+     * @param eventId Calendar event ID
+     */
+    @Transactional
+    public void releaseReservation(Long eventId) {
+        stockReservationRepository.deleteByEventId(eventId);
+    }
+
+    /**
+     * Remove the recipe of a deleted dish.
+     *
+     * @param dishId Dish ID
+     */
+    @Transactional
+    public void dishDeleted(Long dishId) {
+        dishIngredientRepository.deleteByDishId(dishId);
+        evictAfterCommit(dishId);
+    }
+
+    /**
+     * Remove a deleted item from recipes and reservations.
+     *
+     * @param itemId Inventory item ID
+     */
+    @Transactional
+    public void itemDeleted(Long itemId) {
+        if (dishIngredientRepository.deleteByItemId(itemId) > 0) {
+            evictAfterCommit(null);
+        }
+        stockReservationRepository.deleteByItemId(itemId);
+    }
+
+    /**
+     * Check an item's unit edit against the recipes and reservations that
+     * hold its amounts in the item's base unit. Edits within the same base
+     * unit (kg -> g) leave them valid. A new base unit (kg -> pieces, or a
+     * legacy "packets" moving to kg) would make quotes compare grams with
+     * pieces, so it is refused while recipes or upcoming reservations use
+     * the item; reservations of past events are dropped.
+     *
+     * @param itemId  Inventory item ID
+     * @param oldUnit Unit before the edit
+     * @param newUnit Unit after the edit
+     * @throws IllegalArgumentException if recipes or upcoming events use the item
+     */
+    @Transactional
+    public void itemUnitChanged(Long itemId, String oldUnit, String newUnit) {
+        if (baseUnit(oldUnit).equals(baseUnit(newUnit))) {
+            return;
+        }
+        long recipeLines = dishIngredientRepository.countByItemId(itemId);
+        if (recipeLines > 0) {
+            throw new IllegalArgumentException("Cannot change the unit from " + oldUnit + " to " + newUnit
+                    + ": the item is used in " + recipeLines + " recipe line(s). Remove it from those recipes first.");
+        }
+        long events = stockReservationRepository.countUpcomingEventsByItemId(itemId, LocalDate.now());
+        if (events > 0) {
+            throw new IllegalArgumentException("Cannot change the unit from " + oldUnit + " to " + newUnit
+                    + ": stock is reserved for " + events + " upcoming event(s). Release those reservations first.");
+        }
+        stockReservationRepository.deleteByItemId(itemId);
+    }
+
+    /**
+     * Sum the per-guest base quantity of every item over all dishes of the
+     * menu, then scale by the guest count.
+     *
+     * @return itemId -> required base quantity
+     */
+    private Map<Long, BigDecimal> expand(Long catererId, MenuRequest request) {
+        if (request.getGuests() < 1) {
+            throw new IllegalArgumentException("guests must be at least 1");
+        }
+        if (request.getDishIds() == null || request.getDishIds().isEmpty()) {
+            throw new IllegalArgumentException("dishIds must not be empty");
+        }
+
+        Set<Long> dishIds = new LinkedHashSet<>(request.getDishIds());
+        Map<Long, Bom> boms = loadBoms(dishIds);
+
+        Map<Long, BigDecimal> perGuest = new HashMap<>();
+        for (Long dishId : dishIds) {
+            Bom bom = boms.get(dishId);
+            if (bom == null || !bom.catererId.equals(catererId)) {
+                throw new IllegalArgumentException("Unknown dish " + dishId);
+            }
+            for (int i = 0; i < bom.itemIds.length; i++) {
+                perGuest.merge(bom.itemIds[i], bom.basePerGuest[i], BigDecimal::add);
+            }
+        }
+
+        BigDecimal guests = BigDecimal.valueOf(request.getGuests());
+        perGuest.replaceAll((itemId, amount) -> amount.multiply(guests));
+        return perGuest;
+    }
+
+    /**
+     * Compare required base quantities with available stock.
+     *
+     * @param excludeEventId Event whose own reservation does not count
+     *                       against availability (null for none)
+     */
+    private MenuQuoteDTO evaluate(Map<Long, BigDecimal> required, int guests, Long excludeEventId) {
+        MenuQuoteDTO quote = new MenuQuoteDTO();
+        quote.setEventId(excludeEventId);
+        quote.setGuests(guests);
+        quote.setFulfillable(true);
+        if (required.isEmpty()) {
+            return quote;
+        }
+
+        Map<Long, BigDecimal> reserved = new HashMap<>();
+        for (Object[] row : stockReservationRepository.sumReservedByItem(required.keySet(), LocalDate.now(),
+                excludeEventId != null ? excludeEventId : -1L)) {
+            reserved.put(((Number) row[0]).longValue(), new BigDecimal(row[1].toString()));
+        }
+
+        for (InventoryItem item : inventoryItemRepository.findAllById(required.keySet())) {
+            BigDecimal factor = item.getUnitFactor() != null ? item.getUnitFactor() : BigDecimal.ONE;
+            BigDecimal stock = item.getBaseQuantity() != null ? item.getBaseQuantity()
+                    : item.getQuantity().multiply(factor);
+            BigDecimal available = stock.subtract(reserved.getOrDefault(item.getId(), BigDecimal.ZERO))
+                    .max(BigDecimal.ZERO);
+            BigDecimal needed = required.get(item.getId());
+            BigDecimal shortfall = needed.subtract(available).max(BigDecimal.ZERO);
+
+            MenuRequirementDTO requirement = new MenuRequirementDTO();
+            requirement.setItemId(item.getId());
+            requirement.setItemName(item.getItemName());
+            requirement.setUnit(item.getUnit());
+            requirement.setRequired(needed.divide(factor, 2, RoundingMode.UP));
+            requirement.setAvailable(available.divide(factor, 2, RoundingMode.DOWN));
+            requirement.setShortfall(shortfall.divide(factor, 2, RoundingMode.UP));
+            quote.getRequirements().add(requirement);
+            if (shortfall.signum() > 0) {
+                quote.setFulfillable(false);
+            }
+        }
+        quote.getRequirements().sort(Comparator.comparing(MenuRequirementDTO::getItemName));
+        return quote;
+    }
+
+    /**
+     * Cached recipes of the given dishes; misses are loaded with one query
+     * for the dishes and one for all their ingredients.
+     */
+    private Map<Long, Bom> loadBoms(Set<Long> dishIds) {
+        Map<Long, Bom> boms = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long dishId : dishIds) {
+            Bom bom = bomCache.get(dishId);
+            if (bom != null) {
+                boms.put(dishId, bom);
+            } else {
+                missing.add(dishId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return boms;
+        }
+
+        Map<Long, List<DishIngredient>> ingredients = dishIngredientRepository.findByDishIdIn(missing).stream()
+                .collect(Collectors.groupingBy(DishIngredient::getDishId));
+        for (Dish dish : dishRepository.findAllById(missing)) {
+            List<DishIngredient> lines = ingredients.getOrDefault(dish.getId(), List.of());
+            Bom bom = new Bom(dish.getUser().getId(), lines);
+            bomCache.put(dish.getId(), bom);
+            boms.put(dish.getId(), bom);
+        }
+        return boms;
+    }
+
+    /**
+     * Convert a per-guest amount in the given unit to the item's base unit.
+     */
+    private BigDecimal toItemBase(InventoryItem item, BigDecimal quantity, String unit) {
+        MeasurementUnit itemUnit = MeasurementUnit.resolve(item.getUnit());
+        MeasurementUnit recipeUnit = MeasurementUnit.resolve(unit);
+        if (itemUnit == null) {
+            // Unregistered item unit is its own base unit
+            if (!unit.equalsIgnoreCase(item.getUnit().trim())) {
+                throw new IllegalArgumentException("'" + item.getItemName() + "' is measured in " + item.getUnit());
+            }
+            return quantity;
+        }
+        if (recipeUnit == null || recipeUnit.getDimension() != itemUnit.getDimension()) {
+            throw new IllegalArgumentException("Unit '" + unit + "' cannot measure '" + item.getItemName()
+                    + "' (stocked in " + item.getUnit() + ")");
+        }
+        return recipeUnit.toBase(quantity);
+    }
+
+    /**
+     * Unit that recipe and reservation amounts of an item are kept in: the
+     * registry base unit, or the item's own unit when unregistered.
+     */
+    private static String baseUnit(String unit) {
+        MeasurementUnit registered = MeasurementUnit.resolve(unit);
+        if (registered != null) {
+            return registered.getBaseUnit();
+        }
+        return unit == null ? "" : unit.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Drop cached recipes once the change is committed, so a concurrent
+     * quote cannot re-cache the old version. null evicts everything.
+     */
+    private void evictAfterCommit(Long dishId) {
+        Runnable evict = () -> {
+            if (dishId != null) {
+                bomCache.remove(dishId);
+            } else {
+                bomCache.clear();
+            }
+        };
+        evict.run();
+        AfterCommit.run(evict);
+    }
+
+    /**
+     * A dish's recipe compiled to parallel arrays.
+     */
+    private static final class Bom {
+        private final Long catererId;
+        private final Long[] itemIds;
+        private final BigDecimal[] basePerGuest;
+
+        Bom(Long catererId, List<DishIngredient> lines) {
+            this.catererId = catererId;
+            this.itemIds = new Long[lines.size()];
+            this.basePerGuest = new BigDecimal[lines.size()];
+            for (int i = 0; i < lines.size(); i++) {
+                itemIds[i] = lines.get(i).getItemId();
+                basePerGuest[i] = lines.get(i).getBasePerGuest();
+            }
+        }
+    }
+}
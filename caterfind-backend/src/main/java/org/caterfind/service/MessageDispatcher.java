@@ -0,0 +1,236 @@
+package org.caterfind.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Message Dispatcher
+ *
+ * Every provider request (SMS, email, call) runs on a fixed pool of dispatch
+ * workers, split into two priority lanes:
+ * - TRANSACTIONAL: reorders and one-off calls, someone is waiting on them
+ * - BULK: broadcast recipients
+ *
+ * The TRANSACTIONAL lane has reserved workers that BULK tasks never occupy,
+ * so an urgent reorder starts as soon as it is submitted even while a large
+ * broadcast is draining. When both lanes are backlogged, the shared workers
+ * are handed out by smooth weighted round-robin using the lane weights.
+ */
+@Service
+public class MessageDispatcher {
+
+    public enum Lane {
+        TRANSACTIONAL,
+        BULK
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+
+    private final Lane[] lanes = Lane.values();
+    private final List<ArrayDeque<FutureTask<?>>> queues = new ArrayList<>();
+    private final int[] running = new int[lanes.length];
+    private final int[] weights = new int[lanes.length];
+    private final int[] currentWeights = new int[lanes.length];
+    private final int totalWeight;
+
+    private final int workerCount;
+    private final int bulkLimit;
+    private final List<Thread> workers = new ArrayList<>();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public MessageDispatcher(
+            @Value("${messages.dispatch.workers:8}") int workerCount,
+            @Value("${messages.dispatch.transactional.reserved:2}") int reserved,
+            @Value("${messages.dispatch.transactional.weight:4}") int transactionalWeight,
+            @Value("${messages.dispatch.bulk.weight:1}") int bulkWeight) {
+        this.workerCount = Math.max(workerCount, 2);
+        this.bulkLimit = Math.max(this.workerCount - Math.max(reserved, 1), 1);
+        this.weights[Lane.TRANSACTIONAL.ordinal()] = Math.max(transactionalWeight, 1);
+        this.weights[Lane.BULK.ordinal()] = Math.max(bulkWeight, 1);
+        this.totalWeight = weights[0] + weights[1];
+        for (int i = 0; i < lanes.length; i++) {
+            queues.add(new ArrayDeque<>());
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Lane lane : lanes) {
+            String tag = lane.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("caterfind.dispatch.queued", this, dispatcher -> dispatcher.queued(lane))
+                    .description("Provider requests waiting for a dispatch worker")
+                    .tag("lane", tag).register(meterRegistry);
+            Gauge.builder("caterfind.dispatch.running", this, dispatcher -> dispatcher.inFlight(lane))
+                    .description("Provider requests in flight")
+                    .tag("lane", tag).register(meterRegistry);
+        }
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "message-dispatch-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * Queue a provider request on a lane.
+     *
+     * @param lane Priority lane
+     * @param task Provider request
+     * @return Future completed when the request has run
+     */
+    public <T> Future<T> submit(Lane lane, Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        lock.lock();
+        try {
+            queues.get(lane.ordinal()).addLast(future);
+            workAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+        return future;
+    }
+
+    /**
+     * Run a provider request on a lane and wait for its result.
+     *
+     * @param lane Priority lane
+     * @param task Provider request
+     * @return Result of the task
+     * @throws Exception the exception thrown by the task
+     */
+    public <T> T execute(Lane lane, Callable<T> task) throws Exception {
+        return await(submit(lane, task));
+    }
+
+    /**
+     * Wait for a submitted request, rethrowing the task's own exception.
+     *
+     * @param future Future returned by submit()
+     * @return Result of the task
+     * @throws Exception the exception thrown by the task
+     */
+    public static <T> T await(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            FutureTask<?> task;
+            int lane;
+            lock.lock();
+            try {
+                while ((lane = nextLane()) < 0) {
+                    workAvailable.await();
+                }
+                task = queues.get(lane).pollFirst();
+                running[lane]++;
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                task.run();
+            } finally {
+                lock.lock();
+                try {
+                    running[lane]--;
+                    // A freed BULK slot may unblock a waiting worker
+                    workAvailable.signal();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Pick the lane to serve next (caller holds the lock).
+     *
+     * @return Lane ordinal, or -1 if no lane has runnable work
+     */
+    private int nextLane() {
+        int chosen = -1;
+        int eligibleCount = 0;
+        for (int i = 0; i < lanes.length; i++) {
+            if (isEligible(i)) {
+                eligibleCount++;
+                chosen = i;
+            }
+        }
+        if (eligibleCount < 2) {
+            return chosen;
+        }
+
+        // Smooth weighted round-robin: both lanes backlogged
+        chosen = 0;
+        for (int i = 0; i < lanes.length; i++) {
+            currentWeights[i] += weights[i];
+            if (currentWeights[i] > currentWeights[chosen]) {
+                chosen = i;
+            }
+        }
+        currentWeights[chosen] -= totalWeight;
+        return chosen;
+    }
+
+    private int queued(Lane lane) {
+        lock.lock();
+        try {
+            return queues.get(lane.ordinal()).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int inFlight(Lane lane) {
+        lock.lock();
+        try {
+            return running[lane.ordinal()];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isEligible(int lane) {
+        if (queues.get(lane).isEmpty()) {
+            return false;
+        }
+        return lanes[lane] != Lane.BULK || running[lane] < bulkLimit;
+    }
+}
@@ -1,14 +1,31 @@
 package org.caterfind.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.caterfind.dto.MessageDTO;
 import org.caterfind.dto.MessageRequest;
+import org.caterfind.dto.ReorderRequest;
 import org.caterfind.entity.Contact;
 import org.caterfind.entity.Message;
+import org.caterfind.repository.CalendarEventRepository;
 import org.caterfind.repository.ContactRepository;
 import org.caterfind.repository.MessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -34,6 +51,25 @@ import org.springframework.stereotype.Service;
 @Service
 public class MessageService {
 
+    private static final Logger logger = LoggerFactory.getLogger(MessageService.class);
+
+    private static final String DEFAULT_SUBJECT = "Message from Caterer";
+
+    // Progress events published per broadcast (plus the final one)
+    private static final int PROGRESS_UPDATES = 20;
+
+    private static final CompiledTemplate REORDER_SUBJECT = CompiledTemplate.compile("Reorder Request: {{contactName}}");
+
+    private static final String HISTORY_SELECT = "SELECT m.id, m.contact_id, m.recipient_name, m.message_text, "
+            + "m.contact_method, m.sent_at, m.status, c.id AS linked_contact_id, c.name AS contact_name "
+            + "FROM messages m LEFT JOIN contacts c ON c.id = m.contact_id "
+            + "WHERE m.caterer_id = ? ";
+    // Newest first; id breaks ties between messages sent in the same instant
+    private static final String HISTORY_FIRST_SQL = HISTORY_SELECT
+            + "ORDER BY m.sent_at DESC, m.id DESC LIMIT ?";
+    private static final String HISTORY_AFTER_SQL = HISTORY_SELECT
+            + "AND (m.sent_at < ? OR (m.sent_at = ? AND m.id < ?)) ORDER BY m.sent_at DESC, m.id DESC LIMIT ?";
+
     @Autowired
     private MessageRepository messageRepository;
 
@@ -49,77 +85,276 @@ public class MessageService {
     @Autowired
     private VoiceCallService callService;
 
+    @Autowired
+    private MessageTemplateService messageTemplateService;
+
+    @Autowired
+    private CalendarEventRepository calendarEventRepository;
+
+    @Autowired
+    private ContactNormalizer contactNormalizer;
+
+    @Autowired
+    private MessageDispatcher messageDispatcher;
+
+    @Autowired
+    private CatererStatsService catererStatsService;
+
+    @Autowired
+    private CatererEventBus catererEventBus;
+
+    @Autowired
+    private JsonArrayStreamer jsonArrayStreamer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     /**
      * Send broadcast message to multiple contacts.
      * 
+     * Recipients are loaded in one query and collapsed on their normalized
+     * phone/email first, so a person saved under several contacts gets the
+     * message once. Sends run on the BULK dispatch lane, so they never hold
+     * up reorders on the TRANSACTIONAL lane.
+     * 
      * For each contact:
      * 1. Check preferred contact method (EMAIL, SMS, or CALL)
-     * 2. Call appropriate service
-     * 3. Log message in database
+     * 2. Render the template for the contact (if templateId is set)
+     * 3. Call appropriate service
+     * 4. Log message in database
+     * 
+     * Each message row is saved by the worker as soon as its send completes,
+     * so a provider callback finds the row (and its SID) in the database
+     * within moments, sentAt is the actual send time, and a crash mid-broadcast
+     * keeps the audit rows of everything already sent.
      * 
      * @param catererId User ID of the caterer
      * @param request   Message request with contact IDs and message text
      * @return Number of messages sent
      */
     public int sendBroadcastMessage(Long catererId, MessageRequest request) {
-        int sentCount = 0;
-
-        // Iterate through each contact ID
-        for (Long contactId : request.getContactIds()) {
-            Contact contact = contactRepository.findById(contactId).orElse(null);
-            if (contact == null) {
-                continue;
+        // Compile (or fetch cached) template and fill the shared values once
+        MessageTemplateService.Compiled template = null;
+        String[] values = CompiledTemplate.Variable.newValues();
+        if (request.getTemplateId() != null) {
+            template = messageTemplateService.getCompiled(request.getTemplateId(), catererId);
+            if (template == null) {
+                return 0;
             }
+            values[CompiledTemplate.Variable.ITEM.ordinal()] = request.getItem();
+            values[CompiledTemplate.Variable.QUANTITY.ordinal()] = request.getQuantity();
+            if (request.getCalendarEventId() != null) {
+                calendarEventRepository.findById(request.getCalendarEventId())
+                        .filter(event -> event.getUserId().equals(catererId))
+                        .ifPresent(event -> {
+                            values[CompiledTemplate.Variable.EVENT_DATE.ordinal()] = event.getEventDate().toString();
+                            values[CompiledTemplate.Variable.VENUE.ordinal()] = event.getLocation();
+                        });
+            }
+        }
 
-            // Check if contact belongs to this caterer
-            if (!contact.getCatererId().equals(catererId)) {
-                continue;
+        // Queue each distinct recipient on the BULK lane
+        List<Future<Message>> deliveries = new ArrayList<>();
+        for (Contact contact : resolveRecipients(catererId, request.getContactIds())) {
+            // Personalise per recipient
+            String messageText = request.getMessageText();
+            String subject = DEFAULT_SUBJECT;
+            if (template != null) {
+                values[CompiledTemplate.Variable.CONTACT_NAME.ordinal()] = contact.getName();
+                messageText = template.getBody().render(values);
+                if (template.getSubject() != null) {
+                    subject = template.getSubject().render(values);
+                }
             }
 
-            boolean sent = false;
-            Message.ContactMethod method = Message.ContactMethod.EMAIL;
+            String text = messageText;
+            String emailSubject = subject;
+            deliveries.add(messageDispatcher.submit(MessageDispatcher.Lane.BULK,
+                    () -> deliver(catererId, contact, emailSubject, text)));
+        }
 
-            // Send via preferred contact method
+        // Collect results, reporting progress to the caterer's live stream
+        String broadcastId = UUID.randomUUID().toString();
+        int total = deliveries.size();
+        int progressStep = Math.max(1, total / PROGRESS_UPDATES);
+        int sent = 0;
+        for (int i = 0; i < total; i++) {
             try {
-                if (contact.getPreferredContactMethod() == Contact.ContactMethod.EMAIL) {
-                    sent = emailService.sendEmail(
-                            contact.getEmail(),
-                            "Message from Caterer",
-                            request.getMessageText());
-                    method = Message.ContactMethod.EMAIL;
-                } else if (contact.getPreferredContactMethod() == Contact.ContactMethod.SMS) {
-                    sent = smsService.sendSms(
-                            contact.getPhone(),
-                            request.getMessageText());
-                    method = Message.ContactMethod.SMS;
-                } else if (contact.getPreferredContactMethod() == Contact.ContactMethod.CALL) {
-                    callService.makeCall(
-                            contact.getPhone(),
-                            request.getMessageText());
-                    sent = true; // Assuming no exception means success for now
-                    method = Message.ContactMethod.CALL;
+                if (MessageDispatcher.await(deliveries.get(i)) != null) {
+                    sent++;
                 }
             } catch (Exception e) {
-                System.err.println(
-                        "❌ Failed to send message via " + contact.getPreferredContactMethod() + ": " + e.getMessage());
-                sent = false;
+                logger.warn("Failed to send message: {}", e.getMessage());
+            }
+            if ((i + 1) % progressStep == 0 && i + 1 < total) {
+                publishProgress(catererId, broadcastId, total, i + 1, sent, false);
             }
+        }
 
-            // Log message in database
-            if (sent) {
-                Message message = new Message();
-                message.setCatererId(catererId);
-                message.setContactId(contactId);
-                message.setMessageText(request.getMessageText());
-                message.setContactMethod(method);
-                message.setStatus(Message.MessageStatus.SENT);
+        // Rows are already saved by the workers; the reconciler fixes the counter if we crash before this
+        if (sent > 0) {
+            catererStatsService.messagesLogged(catererId, sent);
+        }
+        publishProgress(catererId, broadcastId, total, total, sent, true);
+
+        return sent;
+    }
+
+    private void publishProgress(Long catererId, String broadcastId, int total, int completed, int sent,
+            boolean done) {
+        Map<String, Object> progress = new HashMap<>();
+        progress.put("broadcastId", broadcastId);
+        progress.put("total", total);
+        progress.put("sent", sent);
+        progress.put("failed", completed - sent);
+        progress.put("done", done);
+        catererEventBus.publish(catererId, CatererEventBus.MESSAGE_PROGRESS, progress);
+    }
 
-                messageRepository.save(message);
-                sentCount++;
+    /**
+     * Send one broadcast message via the contact's preferred method and log
+     * it. Runs on a dispatch worker.
+     * 
+     * @return Saved Message log entry, or null if it was not sent
+     */
+    private Message deliver(Long catererId, Contact contact, String subject, String messageText) {
+        boolean sent = false;
+        String providerSid = null;
+        Message.ContactMethod method = Message.ContactMethod.EMAIL;
+
+        // Send via preferred contact method
+        long start = System.nanoTime();
+        try {
+            if (contact.getPreferredContactMethod() == Contact.ContactMethod.EMAIL) {
+                sent = emailService.sendEmail(
+                        contact.getEmail(),
+                        subject,
+                        messageText);
+                method = Message.ContactMethod.EMAIL;
+            } else if (contact.getPreferredContactMethod() == Contact.ContactMethod.SMS) {
+                providerSid = smsService.sendSms(
+                        phoneFor(contact),
+                        messageText);
+                sent = providerSid != null;
+                method = Message.ContactMethod.SMS;
+            } else if (contact.getPreferredContactMethod() == Contact.ContactMethod.CALL) {
+                // Accepted by the provider; the status callback reports the outcome
+                providerSid = callService.makeCall(
+                        phoneFor(contact),
+                        messageText);
+                sent = true;
+                method = Message.ContactMethod.CALL;
             }
+        } catch (Exception e) {
+            logger.warn("Failed to send message via {}: {}", contact.getPreferredContactMethod(), e.getMessage());
+            sent = false;
         }
+        recordSend(contact.getPreferredContactMethod().name(), MessageDispatcher.Lane.BULK, sent, start);
 
-        return sentCount;
+        if (!sent) {
+            return null;
+        }
+        Message message = new Message();
+        message.setCatererId(catererId);
+        message.setContactId(contact.getId());
+        message.setMessageText(messageText);
+        message.setContactMethod(method);
+        message.setStatus(Message.MessageStatus.SENT);
+        message.setProviderSid(providerSid);
+        return messageRepository.save(message);
+    }
+
+    /**
+     * Load the requested contacts in one query and drop duplicates in O(n).
+     * 
+     * A contact is skipped if it does not belong to the caterer, if its ID
+     * was already listed, or if an earlier recipient has the same normalized
+     * key for its channel (email for EMAIL, phone for SMS/CALL).
+     * 
+     * @param catererId  User ID of the caterer
+     * @param contactIds Requested contact IDs, in order
+     * @return Distinct recipients in request order
+     */
+    private List<Contact> resolveRecipients(Long catererId, List<Long> contactIds) {
+        Map<Long, Contact> byId = new HashMap<>();
+        for (Contact contact : contactRepository.findAllById(new LinkedHashSet<>(contactIds))) {
+            byId.put(contact.getId(), contact);
+        }
+
+        Set<String> seenKeys = new HashSet<>();
+        List<Contact> recipients = new ArrayList<>();
+        for (Long contactId : contactIds) {
+            // remove() also drops repeated IDs
+            Contact contact = byId.remove(contactId);
+            if (contact == null || !contact.getCatererId().equals(catererId)) {
+                continue;
+            }
+            String key = recipientKey(contact);
+            if (key != null && !seenKeys.add(key)) {
+                continue;
+            }
+            recipients.add(contact);
+        }
+        return recipients;
+    }
+
+    private String recipientKey(Contact contact) {
+        if (contact.getPreferredContactMethod() == Contact.ContactMethod.EMAIL) {
+            String email = contact.getNormalizedEmail() != null ? contact.getNormalizedEmail()
+                    : contactNormalizer.normalizeEmail(contact.getEmail());
+            return email != null ? "EMAIL:" + email : null;
+        }
+        String phone = phoneFor(contact);
+        return phone != null ? "PHONE:" + phone : null;
+    }
+
+    /**
+     * Record one provider send as caterfind.messages.send{channel, lane, outcome}.
+     */
+    private void recordSend(String channel, MessageDispatcher.Lane lane, boolean sent, long startNanos) {
+        meterRegistry.timer("caterfind.messages.send",
+                "channel", channel.toLowerCase(Locale.ROOT),
+                "lane", lane.name().toLowerCase(Locale.ROOT),
+                "outcome", sent ? "sent" : "failed")
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private String phoneFor(Contact contact) {
+        return contact.getNormalizedPhone() != null ? contact.getNormalizedPhone()
+                : contactNormalizer.normalizePhone(contact.getPhone());
+    }
+
+    /**
+     * Send reorder message from a ReorderRequest.
+     * Renders the request's template if templateId is set, otherwise sends
+     * messageText as-is.
+     * 
+     * @param catererId Caterer ID
+     * @param request   Reorder request details
+     * @return true if sent
+     */
+    public boolean sendReorderMessage(Long catererId, ReorderRequest request) {
+        String[] values = CompiledTemplate.Variable.newValues();
+        values[CompiledTemplate.Variable.CONTACT_NAME.ordinal()] = request.getDealerName();
+        values[CompiledTemplate.Variable.ITEM.ordinal()] = request.getItemName();
+        values[CompiledTemplate.Variable.QUANTITY.ordinal()] = request.getQuantity();
+
+        String messageText = request.getMessageText();
+        String subject = REORDER_SUBJECT.render(values);
+        if (request.getTemplateId() != null) {
+            MessageTemplateService.Compiled template = messageTemplateService.getCompiled(
+                    request.getTemplateId(), catererId);
+            if (template == null) {
+                return false;
+            }
+            messageText = template.getBody().render(values);
+            if (template.getSubject() != null) {
+                subject = template.getSubject().render(values);
+            }
+        }
+
+        return sendReorder(catererId, request.getDealerName(), request.getDealerPhone(),
+                request.getDealerContactId(), subject, messageText);
     }
 
     /**
@@ -129,12 +364,14 @@ public class MessageService {
      * @param dealerName  Dealer Name
      * @param dealerPhone Dealer Phone
      * @param contactId   Optional Contact ID (if linked)
+     * @param subject     Email subject (EMAIL dealers only)
      * @param messageText Message content
      * @return true if sent
      */
-    public boolean sendReorderMessage(Long catererId, String dealerName, String dealerPhone, Long contactId,
-            String messageText) {
+    private boolean sendReorder(Long catererId, String dealerName, String dealerPhone, Long contactId,
+            String subject, String messageText) {
         boolean sent = false;
+        String providerSid = null;
         Message.ContactMethod method = Message.ContactMethod.SMS; // Default to SMS
 
         // 1. Determine method and recipient details
@@ -159,33 +396,44 @@ public class MessageService {
             }
         }
 
-        // 2. Send Message
+        // 2. Send Message on the TRANSACTIONAL lane (never queued behind broadcasts)
+        String email = recipientEmail;
+        String phone = recipientPhone;
+        Message.ContactMethod sendMethod = method;
+        long start = System.nanoTime();
         try {
-            if (method == Message.ContactMethod.EMAIL) {
-                if (recipientEmail != null && !recipientEmail.isEmpty()) {
-                    sent = emailService.sendEmail(recipientEmail, "Reorder Request: " + dealerName, messageText);
+            if (sendMethod == Message.ContactMethod.EMAIL) {
+                if (email != null && !email.isEmpty()) {
+                    sent = messageDispatcher.execute(MessageDispatcher.Lane.TRANSACTIONAL,
+                            () -> emailService.sendEmail(email, subject, messageText));
                 } else {
                     return false;
                 }
-            } else if (method == Message.ContactMethod.CALL) {
-                if (recipientPhone != null && !recipientPhone.isEmpty()) {
-                    callService.makeCall(recipientPhone, messageText);
+            } else if (sendMethod == Message.ContactMethod.CALL) {
+                if (phone != null && !phone.isEmpty()) {
+                    String callPhone = contactNormalizer.normalizePhone(phone);
+                    providerSid = messageDispatcher.execute(MessageDispatcher.Lane.TRANSACTIONAL,
+                            () -> callService.makeCall(callPhone != null ? callPhone : phone, messageText));
                     sent = true;
                 } else {
                     return false;
                 }
             } else {
                 // SMS
-                if (recipientPhone != null && !recipientPhone.isEmpty()) {
-                    sent = smsService.sendSms(recipientPhone, messageText);
+                if (phone != null && !phone.isEmpty()) {
+                    providerSid = messageDispatcher.execute(MessageDispatcher.Lane.TRANSACTIONAL,
+                            () -> smsService.sendSms(phone, messageText));
+                    sent = providerSid != null;
                 } else {
                     return false;
                 }
             }
         } catch (Exception e) {
-            System.err.println("❌ Failed to send reorder message: " + e.getMessage());
+            logger.warn("Failed to send reorder message: {}", e.getMessage());
+            recordSend(sendMethod.name(), MessageDispatcher.Lane.TRANSACTIONAL, false, start);
             return false;
         }
+        recordSend(sendMethod.name(), MessageDispatcher.Lane.TRANSACTIONAL, sent, start);
 
         // 3. Log message
         if (sent) {
@@ -194,6 +442,7 @@ public class MessageService {
             message.setMessageText(messageText);
             message.setContactMethod(method);
             message.setStatus(Message.MessageStatus.SENT);
+            message.setProviderSid(providerSid);
 
             // Set recipient info
             if (contactId != null) {
@@ -204,6 +453,7 @@ public class MessageService {
             message.setRecipientPhone(recipientPhone);
 
             messageRepository.save(message);
+            catererStatsService.messagesLogged(catererId, 1);
         }
 
         return sent;
@@ -216,34 +466,33 @@ public class MessageService {
      * This is for audit/logging purposes only.
      * NOT an inbox or chat interface.
      * 
+     * Written as a JSON array of MessageDTOs streamed in pages; contact
+     * names come from a join, not a lookup per message.
+     * 
      * @param catererId User ID of the caterer
-     * @return List of MessageDTOs
+     * @param out       Response stream
      */
-    public List<MessageDTO> getMessageHistory(Long catererId) {
-        List<Message> messages = messageRepository.findByCatererIdOrderBySentAtDesc(catererId);
-
-        return messages.stream()
-                .map(message -> {
-                    // Get contact name for display
-                    String contactName = "Unknown";
-
-                    if (message.getContactId() != null) {
-                        contactName = contactRepository.findById(message.getContactId())
-                                .map(Contact::getName)
-                                .orElse(message.getRecipientName() != null ? message.getRecipientName()
-                                        : "Unknown Contact");
-                    } else if (message.getRecipientName() != null) {
-                        contactName = message.getRecipientName();
-                    }
-
-                    return new MessageDTO(
-                            message.getId(),
-                            contactName,
-                            message.getMessageText(),
-                            message.getContactMethod().name(),
-                            message.getSentAt(),
-                            message.getStatus().name());
-                })
-                .collect(Collectors.toList());
+    public void streamMessageHistory(Long catererId, OutputStream out) throws IOException {
+        jsonArrayStreamer.write(out, HISTORY_FIRST_SQL, HISTORY_AFTER_SQL,
+                dto -> new Object[] { dto.getSentAt(), dto.getSentAt(), dto.getId() }, (rs, rowNum) -> {
+            // Get contact name for display
+            String recipientName = rs.getString("recipient_name");
+            String contactName = "Unknown";
+
+            if (rs.getObject("contact_id") != null) {
+                contactName = rs.getObject("linked_contact_id") != null ? rs.getString("contact_name")
+                        : recipientName != null ? recipientName : "Unknown Contact";
+            } else if (recipientName != null) {
+                contactName = recipientName;
+            }
+
+            return new MessageDTO(
+                    rs.getLong("id"),
+                    contactName,
+                    rs.getString("message_text"),
+                    rs.getString("contact_method"),
+                    rs.getObject("sent_at", LocalDateTime.class),
+                    rs.getString("status"));
+        }, catererId);
     }
 }
@@ -0,0 +1,173 @@
+package org.caterfind.service;
+
+import org.caterfind.dto.MessageTemplateDTO;
+import org.caterfind.entity.MessageTemplate;
+import org.caterfind.repository.MessageTemplateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Service for server-side message templates.
+ *
+ * Templates are validated and compiled when saved. Compiled templates are
+ * cached by template ID together with the row's updatedAt, so a send only
+ * recompiles when the template changed (also when edited on another node).
+ */
+@Service
+public class MessageTemplateService {
+
+    @Autowired
+    private MessageTemplateRepository messageTemplateRepository;
+
+    private final Map<Long, Compiled> compiledCache = new ConcurrentHashMap<>();
+
+    /**
+     * Get all templates of a caterer.
+     *
+     * @param catererId User ID of the caterer
+     * @return List of MessageTemplateDTOs
+     */
+    public List<MessageTemplateDTO> getTemplates(Long catererId) {
+        return messageTemplateRepository.findByCatererIdOrderByNameAsc(catererId)
+                .stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Create a template. Throws IllegalArgumentException for unknown placeholders.
+     *
+     * @param catererId User ID of the caterer
+     * @param dto       Template data
+     * @return Created MessageTemplateDTO
+     */
+    public MessageTemplateDTO createTemplate(Long catererId, MessageTemplateDTO dto) {
+        validate(dto);
+
+        MessageTemplate template = new MessageTemplate();
+        template.setCatererId(catererId);
+        template.setName(dto.getName());
+        template.setSubject(dto.getSubject());
+        template.setBody(dto.getBody());
+
+        return convertToDTO(messageTemplateRepository.save(template));
+    }
+
+    /**
+     * Update a template. Throws IllegalArgumentException for unknown placeholders.
+     *
+     * @param catererId User ID of the caterer (ownership check)
+     * @param id        Template ID
+     * @param dto       Updated template data
+     * @return Updated MessageTemplateDTO or null if not found or not owned by the caterer
+     */
+    public MessageTemplateDTO updateTemplate(Long catererId, Long id, MessageTemplateDTO dto) {
+        validate(dto);
+
+        return messageTemplateRepository.findByIdAndCatererId(id, catererId)
+                .map(template -> {
+                    template.setName(dto.getName());
+                    template.setSubject(dto.getSubject());
+                    template.setBody(dto.getBody());
+                    compiledCache.remove(id);
+                    return convertToDTO(messageTemplateRepository.save(template));
+                })
+                .orElse(null);
+    }
+
+    /**
+     * Delete a template.
+     *
+     * @param catererId User ID of the caterer (ownership check)
+     * @param id        Template ID
+     * @return true if deleted, false if not found or not owned by the caterer
+     */
+    public boolean deleteTemplate(Long catererId, Long id) {
+        return messageTemplateRepository.findByIdAndCatererId(id, catererId)
+                .map(template -> {
+                    messageTemplateRepository.delete(template);
+                    compiledCache.remove(id);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Get the compiled form of a caterer's template.
+     * One primary-key lookup per call; compilation only on first use or change.
+     *
+     * @param templateId Template ID
+     * @param catererId  User ID of the caterer (ownership check)
+     * @return Compiled template, or null if not found or not owned by the caterer
+     */
+    public Compiled getCompiled(Long templateId, Long catererId) {
+        MessageTemplate template = messageTemplateRepository.findByIdAndCatererId(templateId, catererId)
+                .orElse(null);
+        if (template == null) {
+            return null;
+        }
+
+        Compiled cached = compiledCache.get(templateId);
+        if (cached != null && Objects.equals(cached.version, template.getUpdatedAt())) {
+            return cached;
+        }
+        Compiled compiled = new Compiled(
+                template.getSubject() != null ? CompiledTemplate.compile(template.getSubject()) : null,
+                CompiledTemplate.compile(template.getBody()),
+                template.getUpdatedAt());
+        compiledCache.put(templateId, compiled);
+        return compiled;
+    }
+
+    private void validate(MessageTemplateDTO dto) {
+        if (dto.getName() == null || dto.getName().trim().isEmpty()) {
+            throw new IllegalArgumentException("Template name is required");
+        }
+        if (dto.getBody() == null || dto.getBody().trim().isEmpty()) {
+            throw new IllegalArgumentException("Template body is required");
+        }
+        CompiledTemplate.compile(dto.getSubject());
+        CompiledTemplate.compile(dto.getBody());
+    }
+
+    private MessageTemplateDTO convertToDTO(MessageTemplate template) {
+        return new MessageTemplateDTO(
+                template.getId(),
+                template.getName(),
+                template.getSubject(),
+                template.getBody());
+    }
+
+    /**
+     * Compiled subject and body of one template version.
+     */
+    public static final class Compiled {
+        private final CompiledTemplate subject;
+        private final CompiledTemplate body;
+        private final LocalDateTime version;
+
+        Compiled(CompiledTemplate subject, CompiledTemplate body, LocalDateTime version) {
+            this.subject = subject;
+            this.body = body;
+            this.version = version;
+        }
+
+        /**
+         * @return Compiled subject, or null if the template has none
+         */
+        public CompiledTemplate getSubject() {
+            return subject;
+        }
+
+        public CompiledTemplate getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package org.caterfind.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+/**
+ * In-process fake of the SMS, email and voice providers, for load tests.
+ *
+ * Active when any of app.calling.provider, app.sms.provider or
+ * app.email.provider is "simulated". Each channel (sms, email, call) is
+ * configured under simulator.{channel}.*:
+ * - latency.distribution: fixed, uniform, exponential or lognormal
+ * - latency.mean-ms: mean latency of a send
+ * - latency.sigma: spread of the lognormal distribution
+ * - error-rate: probability (0..1) that a send fails
+ * - rate-limit-per-second: sends above this rate get a simulated 429 (0 = off)
+ *
+ * Every attempt is counted and the most recent ones are recorded, see
+ * SimulatorController. Set simulator.seed for a reproducible run.
+ */
+@Service
+@ConditionalOnExpression("'${app.calling.provider:twilio}' == 'simulated' "
+        + "or '${app.sms.provider:twilio}' == 'simulated' "
+        + "or '${app.email.provider:smtp}' == 'simulated'")
+public class ProviderSimulator {
+
+    public static final String SMS = "sms";
+    public static final String EMAIL = "email";
+    public static final String CALL = "call";
+
+    private final Map<String, Channel> channels = new LinkedHashMap<>();
+    private final Deque<Map<String, Object>> recordedSends = new ArrayDeque<>();
+    private final int maxRecorded;
+    private final Random random;
+
+    public ProviderSimulator(Environment env,
+            @Value("${simulator.max-recorded:10000}") int maxRecorded,
+            @Value("${simulator.seed:}") Long seed) {
+        this.maxRecorded = maxRecorded;
+        this.random = seed != null ? new Random(seed) : new Random();
+        for (String name : List.of(SMS, EMAIL, CALL)) {
+            channels.put(name, new Channel(name, env));
+        }
+    }
+
+    /**
+     * Simulate one provider request: sleep for a sampled latency, then
+     * succeed, fail, or reject with 429.
+     *
+     * @param channel sms, email or call
+     * @param to      Recipient
+     * @return Fake provider SID
+     * @throws SimulatedProviderException on a simulated failure or 429
+     */
+    public String send(String channel, String to) {
+        Channel config = channels.get(channel);
+        config.attempts.incrementAndGet();
+
+        if (!config.tryAcquire()) {
+            config.throttled.incrementAndGet();
+            record(channel, to, "THROTTLED", 0);
+            throw new SimulatedProviderException(429, "429 Too Many Requests (simulated " + channel + ")");
+        }
+
+        long latencyMs = sampleLatency(config);
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        config.totalLatencyMs.addAndGet(latencyMs);
+
+        if (nextDouble() < config.errorRate) {
+            config.failed.incrementAndGet();
+            record(channel, to, "FAILED", latencyMs);
+            throw new SimulatedProviderException(500, "Simulated " + channel + " provider error");
+        }
+
+        config.sent.incrementAndGet();
+        record(channel, to, "SENT", latencyMs);
+        return "SIM" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    /**
+     * Per-channel counters.
+     *
+     * @return channel -> { attempts, sent, failed, throttled, avgLatencyMs }
+     */
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        for (Channel channel : channels.values()) {
+            Map<String, Object> counters = new LinkedHashMap<>();
+            long completed = channel.sent.get() + channel.failed.get();
+            counters.put("attempts", channel.attempts.get());
+            counters.put("sent", channel.sent.get());
+            counters.put("failed", channel.failed.get());
+            counters.put("throttled", channel.throttled.get());
+            counters.put("avgLatencyMs", completed == 0 ? 0 : channel.totalLatencyMs.get() / completed);
+            stats.put(channel.name, counters);
+        }
+        return stats;
+    }
+
+    /**
+     * Most recent sends, oldest first.
+     *
+     * @param limit Maximum number of sends to return
+     * @return Recorded sends
+     */
+    public List<Map<String, Object>> getRecordedSends(int limit) {
+        synchronized (recordedSends) {
+            List<Map<String, Object>> all = new ArrayList<>(recordedSends);
+            return all.subList(Math.max(0, all.size() - limit), all.size());
+        }
+    }
+
+    /**
+     * Clear counters and recorded sends between load-test runs.
+     */
+    public void reset() {
+        for (Channel channel : channels.values()) {
+            channel.attempts.set(0);
+            channel.sent.set(0);
+            channel.failed.set(0);
+            channel.throttled.set(0);
+            channel.totalLatencyMs.set(0);
+        }
+        synchronized (recordedSends) {
+            recordedSends.clear();
+        }
+    }
+
+    private void record(String channel, String to, String outcome, long latencyMs) {
+        Map<String, Object> send = new LinkedHashMap<>();
+        send.put("channel", channel);
+        send.put("to", to);
+        send.put("outcome", outcome);
+        send.put("latencyMs", latencyMs);
+        send.put("at", LocalDateTime.now());
+        synchronized (recordedSends) {
+            if (recordedSends.size() >= maxRecorded) {
+                recordedSends.removeFirst();
+            }
+            recordedSends.addLast(send);
+        }
+    }
+
+    private long sampleLatency(Channel config) {
+        double mean = config.meanLatencyMs;
+        switch (config.distribution) {
+            case "uniform":
+                return Math.round(nextDouble() * 2 * mean);
+            case "exponential":
+                return Math.round(-mean * Math.log(1 - nextDouble()));
+            case "lognormal":
+                // mu chosen so that the distribution's mean equals mean-ms
+                double mu = Math.log(Math.max(mean, 1)) - config.sigma * config.sigma / 2;
+                return Math.round(Math.exp(mu + config.sigma * nextGaussian()));
+            default:
+                return Math.round(mean);
+        }
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private double nextGaussian() {
+        synchronized (random) {
+            return random.nextGaussian();
+        }
+    }
+
+    /**
+     * Simulated provider failure; statusCode is 429 when rate limited.
+     */
+    public static class SimulatedProviderException extends RuntimeException {
+        private final int statusCode;
+
+        public SimulatedProviderException(int statusCode, String message) {
+            super(message);
+            this.statusCode = statusCode;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+    }
+
+    /**
+     * Configuration and counters of one simulated channel.
+     */
+    private static class Channel {
+        private final String name;
+        private final String distribution;
+        private final double meanLatencyMs;
+        private final double sigma;
+        private final double errorRate;
+        private final int rateLimitPerSecond;
+
+        private final AtomicLong attempts = new AtomicLong();
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong throttled = new AtomicLong();
+        private final AtomicLong totalLatencyMs = new AtomicLong();
+
+        // Fixed one-second window for the rate limit
+        private long windowStart;
+        private int windowCount;
+
+        Channel(String name, Environment env) {
+            String prefix = "simulator." + name + ".";
+            this.name = name;
+            this.distribution = env.getProperty(prefix + "latency.distribution", "lognormal");
+            this.meanLatencyMs = env.getProperty(prefix + "latency.mean-ms", Double.class, 100.0);
+            this.sigma = env.getProperty(prefix + "latency.sigma", Double.class, 0.5);
+            this.errorRate = env.getProperty(prefix + "error-rate", Double.class, 0.0);
+            this.rateLimitPerSecond = env.getProperty(prefix + "rate-limit-per-second", Integer.class, 0);
+        }
+
+        synchronized boolean tryAcquire() {
+            if (rateLimitPerSecond <= 0) {
+                return true;
+            }
+            long now = System.currentTimeMillis();
+            if (now - windowStart >= 1000) {
+                windowStart = now;
+                windowCount = 0;
+            }
+            return ++windowCount <= rateLimitPerSecond;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package org.caterfind.service;
+
+import org.caterfind.dto.ReorderRequest;
+import org.caterfind.entity.Contact;
+import org.caterfind.entity.InventoryItem;
+import org.caterfind.repository.ContactRepository;
+import org.caterfind.repository.InventoryItemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reorder Engine
+ *
+ * Sends reorder messages to dealers automatically when items run low, one
+ * consolidated message per dealer instead of one per item.
+ *
+ * Each run only looks at items whose updated_at moved past the previous
+ * run's watermark (idx_inventory_updated_at), so the cost does not grow with
+ * the size of the inventory. Items are grouped per caterer by
+ * dealer_contact_id (or by the manual dealer phone) and sent through
+ * MessageService on the TRANSACTIONAL lane.
+ *
+ * Debounce, so a flapping quantity does not spam suppliers:
+ * - settle: an item must stay unchanged for settle-minutes before it is
+ *   considered; if it is back above threshold by then, nothing is sent
+ * - cooldown: an item reordered automatically is not reordered again for
+ *   cooldown-hours (inventory_items.reordered_at)
+ *
+ * Items are claimed with a conditional UPDATE before sending, so several
+ * backend nodes never reorder the same item twice. Failed sends release
+ * their claims and are retried on the next runs, up to max-retries times.
+ */
+@Service
+public class ReorderEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReorderEngine.class);
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private MessageService messageService;
+
+    @Value("${inventory.reorder.enabled:false}")
+    private boolean enabled;
+
+    @Value("${inventory.reorder.settle-minutes:10}")
+    private long settleMinutes;
+
+    @Value("${inventory.reorder.cooldown-hours:24}")
+    private long cooldownHours;
+
+    @Value("${inventory.reorder.initial-lookback-hours:24}")
+    private long initialLookbackHours;
+
+    @Value("${inventory.reorder.max-retries:3}")
+    private int maxRetries;
+
+    // updated_at up to which items have been examined
+    private LocalDateTime watermark;
+
+    // Items whose send failed -> failed attempts so far, retried on the next run
+    private final Map<Long, Integer> retryAttempts = new ConcurrentHashMap<>();
+
+    /**
+     * Scheduled reorder run
+     * Picks up items that went low since the last run and messages their dealers
+     */
+    @Scheduled(fixedDelayString = "${inventory.reorder.poll-ms:60000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.minusMinutes(settleMinutes);
+        LocalDateTime cutoff = now.minusHours(cooldownHours);
+        if (watermark == null) {
+            watermark = until.minusHours(initialLookbackHours);
+        }
+        if (!until.isAfter(watermark)) {
+            return;
+        }
+
+        try {
+            Map<Long, InventoryItem> candidates = new LinkedHashMap<>();
+            for (InventoryItem item : inventoryItemRepository.findReorderCandidates(watermark, until, cutoff)) {
+                candidates.put(item.getId(), item);
+            }
+            if (!retryAttempts.isEmpty()) {
+                List<Long> retries = new ArrayList<>(retryAttempts.keySet());
+                for (InventoryItem item : inventoryItemRepository.findAllById(retries)) {
+                    candidates.putIfAbsent(item.getId(), item);
+                }
+            }
+            watermark = until;
+
+            List<InventoryItem> claimed = inventoryService.claimForReorder(
+                    new ArrayList<>(candidates.values()), cutoff);
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            int messages = 0;
+            for (List<InventoryItem> group : groupByDealer(claimed).values()) {
+                if (sendGroup(group)) {
+                    messages++;
+                }
+            }
+            logger.info("Reorder engine: {} item(s) reordered in {} message(s)", claimed.size(), messages);
+        } catch (Exception e) {
+            logger.error("Reorder run failed", e);
+        }
+    }
+
+    /**
+     * Group items per caterer and dealer. Items without any dealer are left
+     * out (their claim still starts the cooldown, so they are not re-read).
+     */
+    private Map<String, List<InventoryItem>> groupByDealer(List<InventoryItem> items) {
+        Map<String, List<InventoryItem>> groups = new LinkedHashMap<>();
+        for (InventoryItem item : items) {
+            String dealerKey;
+            if (item.getDealerContactId() != null) {
+                dealerKey = "contact:" + item.getDealerContactId();
+            } else if (item.getDealerPhone() != null && !item.getDealerPhone().isEmpty()) {
+                dealerKey = "phone:" + item.getDealerPhone();
+            } else {
+                continue;
+            }
+            groups.computeIfAbsent(item.getCatererId() + "/" + dealerKey, key -> new ArrayList<>()).add(item);
+        }
+        return groups;
+    }
+
+    private boolean sendGroup(List<InventoryItem> items) {
+        InventoryItem first = items.get(0);
+        String dealerName = first.getDealerName();
+        if (first.getDealerContactId() != null) {
+            Contact contact = contactRepository.findById(first.getDealerContactId()).orElse(null);
+            if (contact != null) {
+                dealerName = contact.getName();
+            }
+        }
+        if (dealerName == null || dealerName.isEmpty()) {
+            dealerName = "Supplier";
+        }
+
+        StringBuilder text = new StringBuilder("Hello ").append(dealerName)
+                .append(", please send the following items:");
+        for (InventoryItem item : items) {
+            text.append("\n- ").append(item.getItemName())
+                    .append(" (").append(format(item.getQuantity())).append(' ').append(item.getUnit())
+                    .append(" left, minimum ").append(format(item.getMinThreshold())).append(' ')
+                    .append(item.getUnit()).append(')');
+        }
+        text.append("\nThank you.");
+
+        ReorderRequest request = new ReorderRequest(dealerName, first.getDealerPhone(),
+                first.getDealerContactId(), text.toString());
+        request.setItemName(items.stream().map(InventoryItem::getItemName).collect(Collectors.joining(", ")));
+
+        List<Long> itemIds = items.stream().map(InventoryItem::getId).collect(Collectors.toList());
+        boolean sent;
+        try {
+            sent = messageService.sendReorderMessage(first.getCatererId(), request);
+        } catch (Exception e) {
+            logger.error("Reorder to {} failed", dealerName, e);
+            sent = false;
+        }
+        if (sent) {
+            itemIds.forEach(retryAttempts::remove);
+            return true;
+        }
+
+        inventoryService.releaseReorder(first.getCatererId(), itemIds);
+        for (Long itemId : itemIds) {
+            if (retryAttempts.merge(itemId, 1, Integer::sum) > maxRetries) {
+                // Dealer unreachable (e.g. no email on file): wait for the next change
+                retryAttempts.remove(itemId);
+            }
+        }
+        return false;
+    }
+
+    private static String format(BigDecimal value) {
+        return value.stripTrailingZeros().toPlainString();
+    }
+}
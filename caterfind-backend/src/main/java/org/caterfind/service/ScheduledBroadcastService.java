@@ -0,0 +1,225 @@
+package org.caterfind.service;
+
+import org.caterfind.dto.ScheduledBroadcastDTO;
+import org.caterfind.entity.CalendarEvent;
+import org.caterfind.entity.ScheduledBroadcast;
+import org.caterfind.repository.CalendarEventRepository;
+import org.caterfind.repository.ScheduledBroadcastRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Service for scheduled and recurring broadcast messages.
+ *
+ * Features:
+ * - One-off broadcasts at a send-at timestamp
+ * - Cron recurrence (Spring cron format)
+ * - Recurrence tied to the caterer's CalendarEvent dates
+ *
+ * Sending itself is done by BroadcastScheduler through MessageService,
+ * so scheduled broadcasts are logged exactly like manual ones.
+ */
+@Service
+public class ScheduledBroadcastService {
+
+    @Autowired
+    private ScheduledBroadcastRepository scheduledBroadcastRepository;
+
+    @Autowired
+    private CalendarEventRepository calendarEventRepository;
+
+    /**
+     * Create a scheduled broadcast and compute its first run.
+     *
+     * @param catererId User ID of the caterer
+     * @param dto       Schedule data
+     * @return Created ScheduledBroadcastDTO
+     */
+    public ScheduledBroadcastDTO createScheduledBroadcast(Long catererId, ScheduledBroadcastDTO dto) {
+        if (dto.getContactIds() == null || dto.getContactIds().isEmpty()) {
+            throw new IllegalArgumentException("At least one contact is required");
+        }
+        if (dto.getMessageText() == null || dto.getMessageText().trim().isEmpty()) {
+            throw new IllegalArgumentException("Message text is required");
+        }
+
+        ScheduledBroadcast.RecurrenceType type = dto.getRecurrenceType() == null
+                ? ScheduledBroadcast.RecurrenceType.NONE
+                : ScheduledBroadcast.RecurrenceType.valueOf(dto.getRecurrenceType());
+        LocalDateTime now = LocalDateTime.now();
+
+        ScheduledBroadcast broadcast = new ScheduledBroadcast();
+        broadcast.setCatererId(catererId);
+        broadcast.setMessageText(dto.getMessageText());
+        broadcast.setContactIdList(dto.getContactIds());
+        broadcast.setRecurrenceType(type);
+
+        switch (type) {
+            case CRON:
+                if (dto.getCronExpression() == null || !CronExpression.isValidExpression(dto.getCronExpression())) {
+                    throw new IllegalArgumentException("Invalid cron expression");
+                }
+                broadcast.setCronExpression(dto.getCronExpression());
+                broadcast.setNextRunAt(CronExpression.parse(dto.getCronExpression()).next(now));
+                break;
+            case EACH_EVENT:
+                broadcast.setEventOffsetMinutes(
+                        dto.getEventOffsetMinutes() != null ? dto.getEventOffsetMinutes() : 0);
+                armForNextEvent(broadcast, LocalDate.now().minusDays(1), now);
+                break;
+            default:
+                if (dto.getSendAt() == null || dto.getSendAt().isBefore(now)) {
+                    throw new IllegalArgumentException("Send time must be in the future");
+                }
+                broadcast.setNextRunAt(dto.getSendAt());
+                break;
+        }
+
+        return convertToDTO(scheduledBroadcastRepository.save(broadcast));
+    }
+
+    /**
+     * Get all scheduled broadcasts of a caterer.
+     *
+     * @param catererId User ID of the caterer
+     * @return List of ScheduledBroadcastDTOs
+     */
+    public List<ScheduledBroadcastDTO> getScheduledBroadcasts(Long catererId) {
+        return scheduledBroadcastRepository.findByCatererIdOrderByNextRunAtAsc(catererId)
+                .stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Cancel a scheduled broadcast. The row is kept for history.
+     *
+     * @param catererId User ID of the caterer
+     * @param id        Scheduled broadcast ID
+     * @return true if cancelled, false if not found or owned by another caterer
+     */
+    public boolean cancelScheduledBroadcast(Long catererId, Long id) {
+        return scheduledBroadcastRepository.findByIdAndCatererId(id, catererId)
+                .map(broadcast -> {
+                    broadcast.setStatus(ScheduledBroadcast.ScheduleStatus.CANCELLED);
+                    scheduledBroadcastRepository.save(broadcast);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Claim a batch of due broadcasts for this node.
+     *
+     * The rows are locked with FOR UPDATE SKIP LOCKED and advanced to their
+     * next run (or completed) in the same transaction, so once this commits no
+     * other node can pick up the same run.
+     *
+     * @param batchSize Maximum number of broadcasts to claim
+     * @return Claimed broadcasts, to be sent by the caller
+     */
+    @Transactional
+    public List<ScheduledBroadcast> claimDueBroadcasts(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ScheduledBroadcast> due = scheduledBroadcastRepository.lockDueBroadcasts(now, batchSize);
+
+        for (ScheduledBroadcast broadcast : due) {
+            LocalDateTime runAt = broadcast.getNextRunAt();
+            broadcast.setLastRunAt(now);
+
+            switch (broadcast.getRecurrenceType()) {
+                case CRON:
+                    // Skip missed runs instead of replaying them
+                    broadcast.setNextRunAt(CronExpression.parse(broadcast.getCronExpression()).next(now));
+                    break;
+                case EACH_EVENT:
+                    LocalDate eventDate = runAt.minusMinutes(broadcast.getEventOffsetMinutes()).toLocalDate();
+                    armForNextEvent(broadcast, eventDate, now);
+                    break;
+                default:
+                    broadcast.setNextRunAt(null);
+                    broadcast.setStatus(ScheduledBroadcast.ScheduleStatus.COMPLETED);
+                    break;
+            }
+        }
+
+        scheduledBroadcastRepository.saveAll(due);
+        return due;
+    }
+
+    /**
+     * Re-arm event-tied broadcasts of a caterer after its calendar changed.
+     * Called when an event is created or deleted.
+     *
+     * @param catererId User ID of the caterer
+     */
+    @Transactional
+    public void rescheduleEventBroadcasts(Long catererId) {
+        LocalDateTime now = LocalDateTime.now();
+        for (ScheduledBroadcast broadcast : scheduledBroadcastRepository.findByCatererIdOrderByNextRunAtAsc(catererId)) {
+            if (broadcast.getStatus() == ScheduledBroadcast.ScheduleStatus.ACTIVE
+                    && broadcast.getRecurrenceType() == ScheduledBroadcast.RecurrenceType.EACH_EVENT) {
+                // Never re-send for an event day that already had its run
+                LocalDate after = broadcast.getLastRunAt() != null
+                        ? broadcast.getLastRunAt().minusMinutes(broadcast.getEventOffsetMinutes()).toLocalDate()
+                        : LocalDate.now().minusDays(1);
+                armForNextEvent(broadcast, after, now);
+                scheduledBroadcastRepository.save(broadcast);
+            }
+        }
+    }
+
+    /**
+     * Point nextRunAt at the first event after the given date whose run time
+     * has not passed yet. Leaves nextRunAt empty when no such event exists;
+     * the broadcast stays ACTIVE and is re-armed when an event is added.
+     */
+    private void armForNextEvent(ScheduledBroadcast broadcast, LocalDate afterDate, LocalDateTime now) {
+        LocalDate cursor = afterDate;
+        broadcast.setNextRunAt(null);
+        broadcast.setCalendarEventId(null);
+
+        while (true) {
+            Optional<CalendarEvent> next = calendarEventRepository
+                    .findFirstByUserIdAndEventDateAfterOrderByEventDateAsc(broadcast.getCatererId(), cursor);
+            if (next.isEmpty()) {
+                return;
+            }
+            CalendarEvent event = next.get();
+            LocalDateTime runAt = event.getEventDate().atStartOfDay()
+                    .plusMinutes(broadcast.getEventOffsetMinutes());
+            if (!runAt.isBefore(now)) {
+                broadcast.setNextRunAt(runAt);
+                broadcast.setCalendarEventId(event.getId());
+                return;
+            }
+            cursor = event.getEventDate();
+        }
+    }
+
+    /**
+     * Convert ScheduledBroadcast entity to ScheduledBroadcastDTO.
+     */
+    private ScheduledBroadcastDTO convertToDTO(ScheduledBroadcast broadcast) {
+        ScheduledBroadcastDTO dto = new ScheduledBroadcastDTO();
+        dto.setId(broadcast.getId());
+        dto.setContactIds(broadcast.getContactIdList());
+        dto.setMessageText(broadcast.getMessageText());
+        dto.setRecurrenceType(broadcast.getRecurrenceType().name());
+        dto.setCronExpression(broadcast.getCronExpression());
+        dto.setEventOffsetMinutes(broadcast.getEventOffsetMinutes());
+        dto.setCalendarEventId(broadcast.getCalendarEventId());
+        dto.setNextRunAt(broadcast.getNextRunAt());
+        dto.setLastRunAt(broadcast.getLastRunAt());
+        dto.setStatus(broadcast.getStatus().name());
+        return dto;
+    }
+}
@@ -0,0 +1,427 @@
+package org.caterfind.service;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.caterfind.dto.SearchHitDTO;
+import org.caterfind.dto.SearchResultDTO;
+import org.caterfind.entity.CateringProfile;
+import org.caterfind.entity.Contact;
+import org.caterfind.entity.Dish;
+import org.caterfind.entity.DishTag;
+import org.caterfind.repository.CateringProfileRepository;
+import org.caterfind.repository.ContactRepository;
+import org.caterfind.repository.DishRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Search Service
+ *
+ * Full-text search over caterer profiles, dishes and contacts, backed by an
+ * in-process Lucene index held in memory.
+ *
+ * Indexed text:
+ * - CATERER: business name; description, area, city
+ * - DISH: name; description, category, labels
+ * - CONTACT: name; email, plus phone digits for number lookups
+ *
+ * Matching is typo-tolerant: every query word must match a word of the
+ * document exactly, within 1-2 edits (by word length), or - for the last
+ * word, as the user is still typing - as a prefix. Name matches rank above
+ * matches in the other text (BM25).
+ *
+ * The index is built from the database at startup and kept current by the
+ * services' write paths, which hand over a document after their
+ * transaction commits. With search.rebuild-enabled it is also rebuilt every
+ * search.rebuild-ms, which picks up writes made by other backend nodes; a
+ * single node can turn that off.
+ *
+ * A rebuild reads the database without holding the index lock, so writes
+ * committed meanwhile are not delayed. They are applied to the live index
+ * straight away and also recorded, then replayed on top of the rebuilt
+ * documents, since the rebuild's read may predate them.
+ */
+@Service
+public class SearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    public static final String CATERER = "CATERER";
+    public static final String DISH = "DISH";
+    public static final String CONTACT = "CONTACT";
+
+    public static final int MAX_PAGE_SIZE = 50;
+
+    // Deepest hit a page may reach (page * size)
+    private static final int MAX_RESULT_WINDOW = 1000;
+
+    @Autowired
+    private CateringProfileRepository cateringProfileRepository;
+
+    @Autowired
+    private DishRepository dishRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Value("${search.rebuild-enabled:true}")
+    private boolean periodicRebuild;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // Updates applied while a rebuild reads the database (null: no rebuild running)
+    private List<PendingUpdate> replayLog;
+
+    public SearchService() throws IOException {
+        writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+
+    /**
+     * Search caterer profiles (all caterers).
+     */
+    public SearchResultDTO searchCaterers(String query, int page, int size) {
+        return search(CATERER, null, query, page, size);
+    }
+
+    /**
+     * Search one caterer's dish library.
+     */
+    public SearchResultDTO searchDishes(Long catererId, String query, int page, int size) {
+        return search(DISH, catererId, query, page, size);
+    }
+
+    /**
+     * Search one caterer's contacts (name, email or phone digits).
+     */
+    public SearchResultDTO searchContacts(Long catererId, String query, int page, int size) {
+        return search(CONTACT, catererId, query, page, size);
+    }
+
+    // ========== Write path hooks ==========
+
+    public void indexCaterer(CateringProfile profile) {
+        Document doc = catererDocument(profile);
+        AfterCommit.run(() -> update(CATERER, profile.getUser().getId(), doc));
+    }
+
+    public void indexDish(Dish dish) {
+        Document doc = dishDocument(dish);
+        AfterCommit.run(() -> update(DISH, dish.getId(), doc));
+    }
+
+    public void removeDish(Long dishId) {
+        AfterCommit.run(() -> update(DISH, dishId, null));
+    }
+
+    public void indexContact(Contact contact) {
+        Document doc = contactDocument(contact);
+        AfterCommit.run(() -> update(CONTACT, contact.getId(), doc));
+    }
+
+    public void removeContact(Long contactId) {
+        AfterCommit.run(() -> update(CONTACT, contactId, null));
+    }
+
+    /**
+     * Periodic rebuild (search.rebuild-enabled). The startup build is run by
+     * DatabaseSchemaFixer, after the backfills.
+     */
+    @Scheduled(initialDelayString = "${search.rebuild-ms:3600000}",
+            fixedDelayString = "${search.rebuild-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void scheduledRebuild() {
+        if (periodicRebuild) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Re-read everything searchable from the database into the index.
+     * Readers keep seeing the previous index until the rebuild is complete,
+     * and writes are not held up by the database read.
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (this) {
+            if (replayLog != null) {
+                logger.info("Search index rebuild already running, skipped");
+                return;
+            }
+            replayLog = new ArrayList<>();
+        }
+        long start = System.currentTimeMillis();
+        try {
+            // Read everything first, so a database error leaves the index intact
+            List<Document> docs = new ArrayList<>();
+            for (CateringProfile profile : cateringProfileRepository.findAll()) {
+                docs.add(catererDocument(profile));
+            }
+            for (Dish dish : dishRepository.findAllWithTags()) {
+                docs.add(dishDocument(dish));
+            }
+            for (Contact contact : contactRepository.findAll()) {
+                docs.add(contactDocument(contact));
+            }
+
+            int replayed;
+            synchronized (this) {
+                writer.deleteAll();
+                writer.addDocuments(docs);
+                for (PendingUpdate pending : replayLog) {
+                    apply(pending.type, pending.id, pending.doc);
+                }
+                replayed = replayLog.size();
+                searcherManager.maybeRefresh();
+            }
+            logger.info("Search index rebuilt: {} document(s), {} replayed update(s) in {} ms",
+                    docs.size(), replayed, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Search index rebuild failed", e);
+        } finally {
+            synchronized (this) {
+                replayLog = null;
+            }
+        }
+    }
+
+    // ========== Internals ==========
+
+    private SearchResultDTO search(String type, Long ownerId, String text, int page, int size) {
+        page = Math.max(page, 0);
+        size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String queryText = text == null ? "" : text.trim();
+        Query query = buildQuery(type, ownerId, queryText);
+        if (query == null || (page + 1) * size > MAX_RESULT_WINDOW) {
+            return new SearchResultDTO(queryText, 0, page, size, List.of());
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query, (page + 1) * size);
+                StoredFields stored = searcher.storedFields();
+                List<SearchHitDTO> hits = new ArrayList<>();
+                for (int i = page * size; i < top.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = top.scoreDocs[i];
+                    Document doc = stored.document(scoreDoc.doc);
+                    hits.add(new SearchHitDTO(type,
+                            doc.getField("id").numericValue().longValue(),
+                            doc.get("title"),
+                            doc.get("subtitle"),
+                            scoreDoc.score));
+                }
+                return new SearchResultDTO(queryText, top.totalHits.value, page, size, hits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * One MUST clause per query word (any of: exact, fuzzy, prefix on the
+     * last word, phone digits), filtered to the type and owner.
+     */
+    private Query buildQuery(String type, Long ownerId, String text) {
+        List<String> words = analyze(text);
+        if (words.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term("type", type)), BooleanClause.Occur.FILTER);
+        if (ownerId != null) {
+            query.add(new TermQuery(new Term("owner", ownerId.toString())), BooleanClause.Occur.FILTER);
+        }
+
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            boolean last = i == words.size() - 1;
+            BooleanQuery.Builder alternatives = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term("name", word)), 3f), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term("body", word)), BooleanClause.Occur.SHOULD);
+            int edits = word.length() < 4 ? 0 : word.length() < 8 ? 1 : 2;
+            if (edits > 0) {
+                alternatives
+                        .add(new BoostQuery(new FuzzyQuery(new Term("name", word), edits, 1), 1.5f),
+                                BooleanClause.Occur.SHOULD)
+                        .add(new BoostQuery(new FuzzyQuery(new Term("body", word), edits, 1), 0.5f),
+                                BooleanClause.Occur.SHOULD);
+            }
+            if (last && word.length() >= 2) {
+                alternatives
+                        .add(new BoostQuery(new PrefixQuery(new Term("name", word)), 2f), BooleanClause.Occur.SHOULD)
+                        .add(new BoostQuery(new PrefixQuery(new Term("body", word)), 0.5f),
+                                BooleanClause.Occur.SHOULD);
+            }
+            if (CONTACT.equals(type) && word.length() >= 3 && word.chars().allMatch(Character::isDigit)) {
+                alternatives.add(new BoostQuery(new PrefixQuery(new Term("phone", word)), 3f),
+                        BooleanClause.Occur.SHOULD);
+            }
+            query.add(alternatives.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        try (TokenStream tokens = analyzer.tokenStream("body", text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken() && words.size() < 10) {
+                words.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    private static Document catererDocument(CateringProfile profile) {
+        Long userId = profile.getUser().getId();
+        return document(CATERER, userId, userId, profile.getBusinessName(),
+                join(profile.getArea(), profile.getCity()),
+                join(profile.getDescription(), profile.getArea(), profile.getCity()));
+    }
+
+    private static Document dishDocument(Dish dish) {
+        String labels = dish.getTags().stream().map(DishTag::getName).collect(Collectors.joining(" "));
+        return document(DISH, dish.getId(), dish.getUser().getId(), dish.getName(),
+                dish.getCategory(),
+                join(dish.getDescription(), dish.getCategory(), labels));
+    }
+
+    private static Document contactDocument(Contact contact) {
+        Document doc = document(CONTACT, contact.getId(), contact.getCatererId(), contact.getName(),
+                contact.getPhone() != null ? contact.getPhone() : contact.getEmail(),
+                contact.getEmail());
+        String phone = contact.getNormalizedPhone() != null ? contact.getNormalizedPhone() : contact.getPhone();
+        String digits = phone != null ? phone.replaceAll("\\D", "") : "";
+        if (!digits.isEmpty()) {
+            doc.add(new StringField("phone", digits, Field.Store.NO));
+            if (digits.length() > 10) {
+                // National number, so "98765..." matches "+9198765..."
+                doc.add(new StringField("phone", digits.substring(digits.length() - 10), Field.Store.NO));
+            }
+        }
+        return doc;
+    }
+
+    private static Document document(String type, Long id, Long ownerId, String name, String subtitle,
+            String body) {
+        Document doc = new Document();
+        doc.add(new StringField("key", type + ":" + id, Field.Store.NO));
+        doc.add(new StringField("type", type, Field.Store.NO));
+        doc.add(new StringField("owner", String.valueOf(ownerId), Field.Store.NO));
+        doc.add(new StoredField("id", id));
+        doc.add(new StoredField("title", name != null ? name : ""));
+        if (subtitle != null) {
+            doc.add(new StoredField("subtitle", subtitle));
+        }
+        if (name != null) {
+            doc.add(new TextField("name", name, Field.Store.NO));
+        }
+        if (body != null) {
+            doc.add(new TextField("body", body, Field.Store.NO));
+        }
+        return doc;
+    }
+
+    /**
+     * Replace (or, with doc == null, delete) a document and make it visible.
+     */
+    private synchronized void update(String type, Long id, Document doc) {
+        if (replayLog != null) {
+            replayLog.add(new PendingUpdate(type, id, doc));
+        }
+        try {
+            apply(type, id, doc);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            logger.error("Search index update failed for {}:{}", type, id, e);
+        }
+    }
+
+    private void apply(String type, Long id, Document doc) throws IOException {
+        Term key = new Term("key", type + ":" + id);
+        if (doc != null) {
+            writer.updateDocument(key, doc);
+        } else {
+            writer.deleteDocuments(key);
+        }
+    }
+
+    private static String join(String... parts) {
+        StringBuilder text = new StringBuilder();
+        for (String part : parts) {
+            if (part != null && !part.isBlank()) {
+                if (text.length() > 0) {
+                    text.append(", ");
+                }
+                text.append(part);
+            }
+        }
+        return text.length() > 0 ? text.toString() : null;
+    }
+
+    /**
+     * An index update made during a rebuild (doc null: delete).
+     */
+    private static final class PendingUpdate {
+        private final String type;
+        private final Long id;
+        private final Document doc;
+
+        private PendingUpdate(String type, Long id, Document doc) {
+            this.type = type;
+            this.id = id;
+            this.doc = doc;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.caterfind.service;
+
+import org.caterfind.entity.Message;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Simulated voice provider for load tests (app.calling.provider=simulated).
+ *
+ * Failures and simulated 429s are thrown like a real provider error, so the
+ * caller's error handling is exercised too.
+ */
+@Service
+@ConditionalOnProperty(name = "app.calling.provider", havingValue = "simulated")
+public class SimulatedCallService implements VoiceCallService {
+
+    @Autowired
+    private ProviderSimulator simulator;
+
+    @Autowired
+    private DeliveryStatusBuffer deliveryStatusBuffer;
+
+    @Override
+    public String makeCall(String to, String message) throws Exception {
+        String sid = simulator.send(ProviderSimulator.CALL, to);
+        deliveryStatusBuffer.record(sid, Message.MessageStatus.DELIVERED);
+        return sid;
+    }
+}
@@ -0,0 +1,34 @@
+package org.caterfind.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Simulated email provider for load tests (app.email.provider=simulated).
+ *
+ * No SMTP connection is made; ProviderSimulator applies the configured
+ * latency, error rate and rate limit and records the send.
+ */
+@Service
+@ConditionalOnProperty(name = "app.email.provider", havingValue = "simulated")
+public class SimulatedEmailService implements EmailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimulatedEmailService.class);
+
+    @Autowired
+    private ProviderSimulator simulator;
+
+    @Override
+    public boolean sendEmail(String toEmail, String subject, String body) {
+        try {
+            simulator.send(ProviderSimulator.EMAIL, toEmail);
+            return true;
+        } catch (ProviderSimulator.SimulatedProviderException e) {
+            logger.debug("Failed to send email: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.caterfind.service;
+
+import org.caterfind.entity.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Simulated SMS provider for load tests (app.sms.provider=simulated).
+ *
+ * Nothing leaves the process: ProviderSimulator applies the configured latency,
+ * error rate and rate limit, and successful sends are reported DELIVERED
+ * through the same status buffer the Twilio callback uses.
+ */
+@Service
+@ConditionalOnProperty(name = "app.sms.provider", havingValue = "simulated")
+public class SimulatedSmsService implements SmsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimulatedSmsService.class);
+
+    @Autowired
+    private ProviderSimulator simulator;
+
+    @Autowired
+    private ContactNormalizer contactNormalizer;
+
+    @Autowired
+    private DeliveryStatusBuffer deliveryStatusBuffer;
+
+    @Override
+    public String sendSms(String toPhone, String message) {
+        String formattedPhone = contactNormalizer.normalizePhone(toPhone);
+        if (formattedPhone == null) {
+            logger.warn("Failed to send SMS: invalid phone number {}", toPhone);
+            return null;
+        }
+        try {
+            String sid = simulator.send(ProviderSimulator.SMS, formattedPhone);
+            deliveryStatusBuffer.record(sid, Message.MessageStatus.DELIVERED);
+            return sid;
+        } catch (ProviderSimulator.SimulatedProviderException e) {
+            logger.debug("Failed to send SMS: {}", e.getMessage());
+            return null;
+        }
+    }
+}
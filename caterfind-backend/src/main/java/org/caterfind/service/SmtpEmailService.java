@@ -0,0 +1,51 @@
+package org.caterfind.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+/**
+ * Email Service for sending emails via JavaMail.
+ * 
+ * This is a REAL implementation using Spring Boot Mail Starter.
+ * Requires valid SMTP configuration in application.properties.
+ * 
+ * The service sends emails to contacts who have EMAIL as their preferred
+ * contact method.
+ */
+@Service
+@ConditionalOnProperty(name = "app.email.provider", havingValue = "smtp", matchIfMissing = true)
+public class SmtpEmailService implements EmailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmtpEmailService.class);
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Override
+    public boolean sendEmail(String toEmail, String subject, String body) {
+        try {
+            SimpleMailMessage email = new SimpleMailMessage();
+            email.setFrom(fromEmail);
+            email.setTo(toEmail);
+            email.setSubject(subject);
+            email.setText(body);
+
+            mailSender.send(email);
+
+            return true;
+
+        } catch (Exception e) {
+            logger.error("Failed to send email to {}", toEmail, e);
+            return false;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package org.caterfind.service;
 
 import java.net.URI;
-import java.net.URLEncoder;
+import java.util.List;
 
+import org.caterfind.entity.TwimlDocument;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
@@ -20,15 +22,22 @@ public class TwilioCallService implements VoiceCallService {
     @Value("${twilio.callbackUrl}")
     private String callbackUrl;
 
+    @Autowired
+    private TwimlService twimlService;
+
     @Override
-    public void makeCall(String to, String message) throws Exception {
-        URI uri = new URI(
-                callbackUrl + "/twiml?msg=" +
-                        URLEncoder.encode(message, "UTF-8"));
+    public String makeCall(String to, String message) throws Exception {
+        // Twilio fetches the pre-rendered TwiML by ID instead of receiving the text in the URL
+        TwimlDocument document = twimlService.createSayDocument(message);
+        URI uri = new URI(callbackUrl + "/twiml/" + document.getId());
 
-        Call.creator(
+        Call call = Call.creator(
                 new PhoneNumber(to),
                 new PhoneNumber(from),
-                uri).create();
+                uri)
+                .setStatusCallback(URI.create(callbackUrl + "/status/twilio/call"))
+                .setStatusCallbackEvent(List.of("completed"))
+                .create();
+        return call.getSid();
     }
 }
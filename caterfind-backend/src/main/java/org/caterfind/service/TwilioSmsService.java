@@ -0,0 +1,64 @@
+package org.caterfind.service;
+
+import java.net.URI;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.type.PhoneNumber;
+
+/**
+ * SMS Service for sending text messages via Twilio.
+ * 
+ * This is a REAL implementation using Twilio API.
+ * Requires valid Twilio credentials in application.properties.
+ * 
+ * The service sends SMS to contacts who have SMS as their preferred contact
+ * method. Twilio reports the final delivery state to /status/twilio/sms.
+ */
+@Service
+@ConditionalOnProperty(name = "app.sms.provider", havingValue = "twilio", matchIfMissing = true)
+public class TwilioSmsService implements SmsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwilioSmsService.class);
+
+    @Value("${twilio.phoneNumber}")
+    private String fromNumber;
+
+    @Value("${twilio.callbackUrl}")
+    private String callbackUrl;
+
+    @Autowired
+    private ContactNormalizer contactNormalizer;
+
+    @Override
+    public String sendSms(String toPhone, String message) {
+        try {
+            // Ensure phone number is in E.164 format
+            String formattedPhone = contactNormalizer.normalizePhone(toPhone);
+            if (formattedPhone == null) {
+                logger.warn("Failed to send SMS: invalid phone number {}", toPhone);
+                return null;
+            }
+
+            // Send SMS via Twilio
+            Message twilioMessage = Message.creator(
+                    new PhoneNumber(formattedPhone),
+                    new PhoneNumber(fromNumber),
+                    message)
+                    .setStatusCallback(URI.create(callbackUrl + "/status/twilio/sms"))
+                    .create();
+
+            return twilioMessage.getSid();
+
+        } catch (Exception e) {
+            logger.error("Failed to send SMS to {}", toPhone, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.caterfind.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.caterfind.entity.TwimlDocument;
+import org.caterfind.repository.TwimlDocumentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+/**
+ * TwiML Service
+ *
+ * Renders the TwiML for an outbound call once, with XML escaping, and stores
+ * it as a TwimlDocument. Twilio then fetches it by ID from /twiml/{id}.
+ *
+ * Recently used documents are kept in a bounded LRU cache, so the first fetch
+ * and every retried callback are answered from memory. Documents older than
+ * the retention period are deleted by a scheduled cleanup.
+ */
+@Service
+public class TwimlService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwimlService.class);
+
+    @Autowired
+    private TwimlDocumentRepository twimlDocumentRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${twiml.cleanup.retention.days:7}")
+    private int retentionDays;
+
+    private final Map<String, TwimlDocument> cache;
+
+    public TwimlService(@Value("${twiml.cache.max-entries:1000}") int maxEntries) {
+        // Access-ordered LinkedHashMap evicting the least recently used entry
+        this.cache = new LinkedHashMap<String, TwimlDocument>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TwimlDocument> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Render and store the TwiML that speaks a message.
+     *
+     * @param message Text to speak
+     * @return Stored document (ID is used in the Twilio callback URL)
+     */
+    public TwimlDocument createSayDocument(String message) {
+        String xml = renderSay(message);
+        String etag = "\"" + DigestUtils.md5DigestAsHex(xml.getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        TwimlDocument document = twimlDocumentRepository.save(
+                new TwimlDocument(UUID.randomUUID().toString(), xml, etag));
+        synchronized (cache) {
+            cache.put(document.getId(), document);
+        }
+        return document;
+    }
+
+    /**
+     * Get a document, from the cache when possible.
+     *
+     * @param id Document ID
+     * @return Document, or null if not found
+     */
+    public TwimlDocument getDocument(String id) {
+        synchronized (cache) {
+            TwimlDocument cached = cache.get(id);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        TwimlDocument document = twimlDocumentRepository.findById(id).orElse(null);
+        if (document != null) {
+            synchronized (cache) {
+                cache.put(id, document);
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Render a &lt;Say&gt; response with the message XML-escaped.
+     *
+     * @param message Text to speak
+     * @return TwiML XML
+     */
+    public String renderSay(String message) {
+        return "<Response><Say voice=\"alice\">" + escapeXml(message) + "</Say></Response>";
+    }
+
+    /**
+     * Scheduled cleanup job
+     * Deletes documents older than the retention period (calls are long over)
+     */
+    @Scheduled(cron = "${twiml.cleanup.cron:0 30 2 * * ?}")
+    @Transactional
+    public void deleteExpiredDocuments() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        try {
+            int deletedCount = twimlDocumentRepository.deleteByCreatedAtBefore(cutoff);
+            meterRegistry.counter("caterfind.cleanup.deleted", "job", "twiml-documents").increment(deletedCount);
+            logger.info("TwiML cleanup completed. Deleted {} expired documents", deletedCount);
+        } catch (Exception e) {
+            logger.error("Error during TwiML cleanup", e);
+        }
+    }
+
+    private static String escapeXml(String text) {
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&':
+                    out.append("&amp;");
+                    break;
+                case '<':
+                    out.append("&lt;");
+                    break;
+                case '>':
+                    out.append("&gt;");
+                    break;
+                case '"':
+                    out.append("&quot;");
+                    break;
+                case '\'':
+                    out.append("&apos;");
+                    break;
+                default:
+                    out.append(c);
+                    break;
+            }
+        }
+        return out.toString();
+    }
+}
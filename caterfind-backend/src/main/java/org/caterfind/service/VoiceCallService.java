@@ -6,7 +6,8 @@ public interface VoiceCallService {
      * 
      * @param to      Recipient phone number
      * @param message Message to be spoken or action to be taken
+     * @return Provider call SID, used to match status callbacks
      * @throws Exception if the call initiation fails
      */
-    void makeCall(String to, String message) throws Exception;
+    String makeCall(String to, String message) throws Exception;
 }
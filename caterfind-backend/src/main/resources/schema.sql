@@ -7,6 +7,20 @@
 -- ============================================================
 
 -- Drop existing tables if re-running (for development only)
+DROP TABLE IF EXISTS inventory_rollups;
+DROP TABLE IF EXISTS message_rollups;
+DROP TABLE IF EXISTS dish_tag_mapping;
+DROP TABLE IF EXISTS dish_tags;
+DROP TABLE IF EXISTS stock_reservations;
+DROP TABLE IF EXISTS dish_ingredients;
+DROP TABLE IF EXISTS inventory_forecasts;
+DROP TABLE IF EXISTS inventory_snapshots;
+DROP TABLE IF EXISTS inventory_movements;
+DROP TABLE IF EXISTS collection_versions;
+DROP TABLE IF EXISTS caterer_stats;
+DROP TABLE IF EXISTS twiml_documents;
+DROP TABLE IF EXISTS message_templates;
+DROP TABLE IF EXISTS scheduled_broadcasts;
 DROP TABLE IF EXISTS availability_status;
 DROP TABLE IF EXISTS calendar_events;
 DROP TABLE IF EXISTS messages;
@@ -52,16 +66,23 @@ CREATE TABLE catering_profile (
 -- Stores all contacts for a caterer (staff, suppliers, dealers, etc.)
 -- Labels are stored separately to allow flexible categorization
 -- preferred_contact_method determines whether to use email or SMS for messaging
+-- normalized_phone/normalized_email are unique per caterer and used to dedupe broadcast recipients
 CREATE TABLE contacts (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     caterer_id BIGINT NOT NULL, -- Links to user_id of the caterer
     name VARCHAR(255) NOT NULL,
     phone VARCHAR(20),
     email VARCHAR(255),
+    normalized_phone VARCHAR(20), -- E.164, e.g. +919876543210
+    normalized_email VARCHAR(255), -- lower-cased
     preferred_contact_method ENUM('EMAIL', 'SMS', 'CALL') DEFAULT 'EMAIL',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (caterer_id) REFERENCES users(id) ON DELETE CASCADE,
-    INDEX idx_caterer (caterer_id)
+    INDEX idx_caterer (caterer_id),
+    INDEX idx_contact_caterer_name (caterer_id, name),
+    INDEX idx_contact_caterer_created (caterer_id, created_at),
+    UNIQUE KEY uk_contact_caterer_phone (caterer_id, normalized_phone),
+    UNIQUE KEY uk_contact_caterer_email (caterer_id, normalized_email)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- ============================================================
@@ -102,16 +123,25 @@ CREATE TABLE inventory_items (
     item_name VARCHAR(255) NOT NULL,
     category ENUM('GRAIN', 'VEGETABLE', 'MEAT', 'DAIRY', 'MASALA', 'OIL', 'OTHER') NOT NULL,
     quantity DECIMAL(10, 2) NOT NULL DEFAULT 0,
-    unit VARCHAR(50) NOT NULL, -- e.g., kg, liters, pieces
+    unit VARCHAR(50) NOT NULL, -- display unit, e.g., kg, liters, pieces
     min_threshold DECIMAL(10, 2) NOT NULL DEFAULT 0,
+    base_unit VARCHAR(20), -- g, ml or pcs (unit normalized, see MeasurementUnit)
+    unit_factor DECIMAL(20, 6), -- base units per one unit
+    base_quantity DECIMAL(20, 4), -- quantity * unit_factor
+    base_min_threshold DECIMAL(20, 4), -- min_threshold * unit_factor
     dealer_contact_id BIGINT, -- Optional: assigned dealer from contacts
     is_low_stock BOOLEAN GENERATED ALWAYS AS (quantity < min_threshold) STORED,
+    version BIGINT NOT NULL DEFAULT 0, -- Optimistic lock for full edits
+    reordered_at TIMESTAMP NULL, -- Last automatic reorder (reorder engine cooldown)
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (caterer_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (dealer_contact_id) REFERENCES contacts(id) ON DELETE SET NULL,
     INDEX idx_caterer (caterer_id),
-    INDEX idx_low_stock (is_low_stock)
+    INDEX idx_low_stock (is_low_stock),
+    INDEX idx_inventory_updated_at (updated_at),
+    INDEX idx_inventory_caterer_name (caterer_id, item_name),
+    INDEX idx_inventory_caterer_created (caterer_id, created_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- ============================================================
@@ -122,7 +152,8 @@ CREATE TABLE inventory_items (
 -- Each row represents one message sent to one contact
 -- NO threading, NO replies, NO inbox UI
 -- contact_method stores whether email or SMS was used
--- status tracks delivery (for stub implementation, always 'SENT')
+-- status: SENT when accepted by the provider, DELIVERED/FAILED from provider status callbacks
+-- provider_sid matches Twilio/Exotel status callbacks to the row
 CREATE TABLE messages (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     caterer_id BIGINT NOT NULL,
@@ -130,11 +161,15 @@ CREATE TABLE messages (
     message_text TEXT NOT NULL,
     contact_method ENUM('EMAIL', 'SMS', 'CALL') NOT NULL,
     sent_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    status ENUM('SENT', 'FAILED') DEFAULT 'SENT',
+    status ENUM('SENT', 'DELIVERED', 'FAILED') DEFAULT 'SENT',
+    provider_sid VARCHAR(64),
+    status_updated_at DATETIME,
     FOREIGN KEY (caterer_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (contact_id) REFERENCES contacts(id) ON DELETE CASCADE,
     INDEX idx_caterer (caterer_id),
-    INDEX idx_sent_at (sent_at)
+    INDEX idx_sent_at (sent_at),
+    INDEX idx_message_caterer_sent (caterer_id, sent_at),
+    INDEX idx_provider_sid (provider_sid)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- ============================================================
@@ -170,6 +205,199 @@ CREATE TABLE availability_status (
     INDEX idx_availability_date (available_date)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- ============================================================
+-- SCHEDULED_BROADCASTS TABLE
+-- ============================================================
+-- Broadcasts sent at a later time or on a recurrence
+-- recurrence_type: NONE (once at next_run_at), CRON, EACH_EVENT (tied to calendar_events)
+-- Due rows are claimed with SELECT ... FOR UPDATE SKIP LOCKED by the scheduler
+CREATE TABLE scheduled_broadcasts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    caterer_id BIGINT NOT NULL,
+    message_text TEXT NOT NULL,
+    contact_ids TEXT NOT NULL, -- Comma-separated contact IDs
+    recurrence_type ENUM('NONE', 'CRON', 'EACH_EVENT') NOT NULL DEFAULT 'NONE',
+    cron_expression VARCHAR(100),
+    event_offset_minutes INT,
+    calendar_event_id BIGINT,
+    next_run_at DATETIME,
+    last_run_at DATETIME,
+    status ENUM('ACTIVE', 'COMPLETED', 'CANCELLED') NOT NULL DEFAULT 'ACTIVE',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (caterer_id) REFERENCES users(id) ON DELETE CASCADE,
+    INDEX idx_scheduled_due (status, next_run_at),
+    INDEX idx_scheduled_caterer (caterer_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- ============================================================
+-- MESSAGE_TEMPLATES TABLE
+-- ============================================================
+-- Reusable message templates per caterer
+-- subject/body placeholders: {{contactName}}, {{item}}, {{quantity}}, {{eventDate}}, {{venue}}
+CREATE TABLE message_templates (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    caterer_id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    subject VARCHAR(255),
+    body TEXT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (caterer_id) REFERENCES users(id) ON DELETE CASCADE,
+    INDEX idx_template_caterer (caterer_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- ============================================================
+-- TWIML_DOCUMENTS TABLE
+-- ============================================================
+-- Pre-rendered, XML-escaped TwiML for outbound calls, fetched by Twilio via /twiml/{id}
+-- id is a random UUID (public endpoint); etag is an MD5 of the XML
+-- Documents older than the retention period are deleted via scheduled job
+CREATE TABLE twiml_documents (
+    id VARCHAR(36) PRIMARY KEY,
+    xml TEXT NOT NULL,
+    etag VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_twiml_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- ============================================================
+-- CATERER_STATS TABLE
+-- ============================================================
+-- Materialized dashboard counters, one row per caterer
+-- Updated atomically on contact create/delete, message log and inventory changes
+-- A scheduled reconciler recomputes them from the source tables
+CREATE TABLE caterer_stats (
+    caterer_id BIGINT PRIMARY KEY,
+    total_contacts BIGINT NOT NULL DEFAULT 0,
+    low_stock_count BIGINT NOT NULL DEFAULT 0,
+    total_messages BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (caterer_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Change counter per caterer and collection (contacts, inventory, dishes, calendar)
+-- Bumped in every writing transaction; list endpoints derive their ETag from it
+CREATE TABLE collection_versions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    caterer_id BIGINT NOT NULL,
+    collection VARCHAR(20) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_collection_version (caterer_id, collection)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- ============================================================
+-- INVENTORY LEDGER TABLES
+-- ============================================================
+-- Append-only stock movements; inventory_items.quantity stays the live snapshot
+-- reason: INITIAL, EDIT, ADJUSTMENT, DELETED, UNIT_CHANGE
+CREATE TABLE inventory_movements (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    item_id BIGINT NOT NULL,
+    caterer_id BIGINT NOT NULL,
+    delta DECIMAL(10, 2) NOT NULL,
+    reason VARCHAR(20) NOT NULL,
+    note VARCHAR(255),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_movement_item_time (item_id, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Movements older than the retention period are folded into per-item snapshots and deleted
+CREATE TABLE inventory_snapshots (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    item_id BIGINT NOT NULL,
+    as_of DATETIME NOT NULL,
+    quantity DECIMAL(12, 2) NOT NULL,
+    last_movement_id BIGINT NOT NULL,
+    INDEX idx_snapshot_item_time (item_id, as_of)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Running consumption estimate per item (exponentially decayed sum of decreases)
+CREATE TABLE inventory_forecasts (
+    item_id BIGINT PRIMARY KEY,
+    caterer_id BIGINT NOT NULL,
+    decayed_consumption DOUBLE NOT NULL,
+    last_consumption_at DATETIME NOT NULL,
+    INDEX idx_forecast_caterer (caterer_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- ============================================================
+-- MENU PLANNING TABLES
+-- ============================================================
+-- Recipe (bill of materials) per dish, amounts per guest
+-- base_per_guest is in the inventory item's base unit (g, ml, pcs)
+CREATE TABLE dish_ingredients (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    dish_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    quantity_per_guest DECIMAL(12, 4) NOT NULL,
+    unit VARCHAR(50) NOT NULL,
+    base_per_guest DECIMAL(20, 6) NOT NULL,
+    UNIQUE KEY uk_dish_ingredient (dish_id, item_id),
+    INDEX idx_ingredient_item (item_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Stock set aside for a calendar event's menu (base units)
+CREATE TABLE stock_reservations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    caterer_id BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    base_quantity DECIMAL(20, 4) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_reservation_event_item (event_id, item_id),
+    INDEX idx_reservation_item (item_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Dish label dictionary (Spicy, Jain, Gluten-Free, ...), shared by all caterers
+-- normalized_name is the trimmed, lower-case lookup key
+CREATE TABLE dish_tags (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    normalized_name VARCHAR(50) NOT NULL UNIQUE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Many-to-many relationship between dishes and tags
+-- Replaces the comma-separated dishes.labels column
+CREATE TABLE dish_tag_mapping (
+    dish_id BIGINT NOT NULL,
+    tag_id BIGINT NOT NULL,
+    PRIMARY KEY (dish_id, tag_id),
+    INDEX idx_dish_tag_tag (tag_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- ============================================================
+-- ANALYTICS ROLLUP TABLES
+-- ============================================================
+-- Pre-aggregated HOUR and DAY buckets written by the background aggregator
+-- Analytics endpoints read only these tables, never raw messages
+CREATE TABLE message_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    caterer_id BIGINT NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start DATETIME NOT NULL,
+    contact_method VARCHAR(10) NOT NULL,
+    sent_count BIGINT NOT NULL DEFAULT 0,
+    delivered_count BIGINT NOT NULL DEFAULT 0,
+    failed_count BIGINT NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_message_rollup (caterer_id, granularity, bucket_start, contact_method)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Closing stock level per item category for each bucket
+CREATE TABLE inventory_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    caterer_id BIGINT NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start DATETIME NOT NULL,
+    category VARCHAR(20) NOT NULL,
+    total_quantity DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    total_mass_g DECIMAL(20, 2) NOT NULL DEFAULT 0, -- Normalized totals per base unit
+    total_volume_ml DECIMAL(20, 2) NOT NULL DEFAULT 0,
+    total_pieces DECIMAL(20, 2) NOT NULL DEFAULT 0,
+    item_count BIGINT NOT NULL DEFAULT 0,
+    low_stock_count BIGINT NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_inventory_rollup (caterer_id, granularity, bucket_start, category)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 -- ============================================================
 -- SCHEMA DESIGN NOTES
 -- ============================================================
@@ -179,4 +407,8 @@ CREATE TABLE availability_status (
 -- 4. Indexes: Added on frequently queried columns (caterer_id, email, low_stock)
 -- 5. Generated column: is_low_stock auto-updates when quantity changes
 -- 6. Calendar events: idx_event_date allows fast cleanup queries for old events
+-- 7. Scheduled broadcasts: idx_scheduled_due serves the scheduler's due-row scan
+-- 8. Dashboard: caterer_stats replaces per-request COUNT queries with a primary-key read
+--    collection_versions lets list endpoints answer 304 from one unique-key read
+-- 9. Analytics: rollup unique keys double as the range index for chart reads
 -- ============================================================
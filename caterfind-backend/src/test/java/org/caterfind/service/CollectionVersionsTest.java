@@ -0,0 +1,87 @@
+package org.caterfind.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ETags from the shared collection_versions counters, and If-None-Match
+ * comparison.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CollectionVersionsTest {
+
+    private static final Long CATERER_ID = 801L;
+    private static final Long OTHER_CATERER_ID = 802L;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void matchesExactWeakListedAndWildcardTags() {
+        String etag = "\"801-contacts.3\"";
+
+        assertTrue(CollectionVersions.matches(etag, etag));
+        assertTrue(CollectionVersions.matches("W/" + etag, etag));
+        assertTrue(CollectionVersions.matches("\"801-contacts.2\", " + etag, etag));
+        assertTrue(CollectionVersions.matches("*", etag));
+        assertFalse(CollectionVersions.matches(null, etag));
+        assertFalse(CollectionVersions.matches("\"801-contacts.2\"", etag));
+        assertFalse(CollectionVersions.matches("801-contacts.3", etag));
+    }
+
+    @Test
+    void bumpChangesOnlyThatCollectionsTag() {
+        String inventory = collectionVersions.etag(CATERER_ID, CollectionVersions.INVENTORY);
+        String both = collectionVersions.etag(CATERER_ID, CollectionVersions.INVENTORY, CollectionVersions.CONTACTS);
+        String dishes = collectionVersions.etag(CATERER_ID, CollectionVersions.DISHES);
+        String other = collectionVersions.etag(OTHER_CATERER_ID, CollectionVersions.INVENTORY);
+
+        collectionVersions.bump(CollectionVersions.INVENTORY, CATERER_ID);
+        collectionVersions.bump(CollectionVersions.INVENTORY, CATERER_ID);
+
+        assertNotEquals(inventory, collectionVersions.etag(CATERER_ID, CollectionVersions.INVENTORY));
+        assertNotEquals(both, collectionVersions.etag(CATERER_ID,
+                CollectionVersions.INVENTORY, CollectionVersions.CONTACTS));
+        assertEquals(dishes, collectionVersions.etag(CATERER_ID, CollectionVersions.DISHES));
+        assertEquals(other, collectionVersions.etag(OTHER_CATERER_ID, CollectionVersions.INVENTORY));
+    }
+
+    @Test
+    void rolledBackBumpKeepsTheTag() {
+        collectionVersions.bump(CollectionVersions.CALENDAR, CATERER_ID);
+        String before = collectionVersions.etag(CATERER_ID, CollectionVersions.CALENDAR);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            collectionVersions.bump(CollectionVersions.CALENDAR, CATERER_ID);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(before, collectionVersions.etag(CATERER_ID, CollectionVersions.CALENDAR));
+    }
+
+    @Test
+    void bumpAllChangesEveryCaterersTag() {
+        collectionVersions.bump(CollectionVersions.CONTACTS, CATERER_ID);
+        collectionVersions.bump(CollectionVersions.CONTACTS, OTHER_CATERER_ID);
+        String first = collectionVersions.etag(CATERER_ID, CollectionVersions.CONTACTS);
+        String second = collectionVersions.etag(OTHER_CATERER_ID, CollectionVersions.CONTACTS);
+
+        collectionVersions.bumpAll(CollectionVersions.CONTACTS);
+
+        assertNotEquals(first, collectionVersions.etag(CATERER_ID, CollectionVersions.CONTACTS));
+        assertNotEquals(second, collectionVersions.etag(OTHER_CATERER_ID, CollectionVersions.CONTACTS));
+    }
+}
@@ -0,0 +1,57 @@
+package org.caterfind.service;
+
+import org.caterfind.service.CompiledTemplate.Variable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Parsing and rendering of message templates.
+ */
+class CompiledTemplateTest {
+
+    @Test
+    void rendersPlaceholdersBetweenLiterals() {
+        CompiledTemplate template = CompiledTemplate.compile(
+                "Hi {{contactName}}, please send {{ quantity }} of {{item}} for {{eventDate}} at {{venue}}.");
+        String[] values = Variable.newValues();
+        values[Variable.CONTACT_NAME.ordinal()] = "Ravi";
+        values[Variable.QUANTITY.ordinal()] = "5 kg";
+        values[Variable.ITEM.ordinal()] = "Paneer";
+        values[Variable.EVENT_DATE.ordinal()] = "2026-11-02";
+        values[Variable.VENUE.ordinal()] = "Hall A";
+
+        assertEquals("Hi Ravi, please send 5 kg of Paneer for 2026-11-02 at Hall A.", template.render(values));
+    }
+
+    @Test
+    void repeatedAdjacentAndMissingValues() {
+        CompiledTemplate template = CompiledTemplate.compile("{{item}}{{item}} / {{venue}}!");
+        String[] values = Variable.newValues();
+        values[Variable.ITEM.ordinal()] = "ab";
+
+        assertEquals("abab / !", template.render(values));
+    }
+
+    @Test
+    void plainTextAndEmptyTemplates() {
+        assertEquals("No placeholders { here }", CompiledTemplate.compile("No placeholders { here }")
+                .render(Variable.newValues()));
+        assertEquals("", CompiledTemplate.compile(null).render(Variable.newValues()));
+    }
+
+    @Test
+    void valuesAreNotReparsed() {
+        String[] values = Variable.newValues();
+        values[Variable.CONTACT_NAME.ordinal()] = "{{item}}";
+
+        assertEquals("Hi {{item}}", CompiledTemplate.compile("Hi {{contactName}}").render(values));
+    }
+
+    @Test
+    void rejectsUnknownAndUnterminatedPlaceholders() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("Hi {{firstName}}"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("Hi {{contactName"));
+    }
+}
@@ -0,0 +1,116 @@
+package org.caterfind.service;
+
+import org.caterfind.dto.ContactDTO;
+import org.caterfind.entity.Contact;
+import org.caterfind.entity.ContactLabel;
+import org.caterfind.repository.ContactRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Prefix matching and ranking of ContactAutocompleteIndex over a stubbed
+ * contact list.
+ */
+class ContactAutocompleteIndexTest {
+
+    private static final Long CATERER_ID = 1L;
+
+    private ContactAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        ContactRepository contactRepository = mock(ContactRepository.class);
+        when(contactRepository.findWithLabelsByCatererId(CATERER_ID)).thenReturn(List.of(
+                contact(1L, "Ravi Kumar", "+919876543210", null, "Dealer"),
+                contact(2L, "Kumar Traders", null, "orders@kumar.in", "Supplier"),
+                contact(3L, "Anita Ravichandran", "+919812345678", null, "Dealer"),
+                contact(4L, "José O'Brien", null, "jose@example.com", null)));
+        index = new ContactAutocompleteIndex();
+        ReflectionTestUtils.setField(index, "contactRepository", contactRepository);
+    }
+
+    @Test
+    void nameStartingWithQueryRanksAboveLaterNameWord() {
+        assertEquals(List.of("Ravi Kumar", "Anita Ravichandran"), names("ravi"));
+        assertEquals(List.of("Kumar Traders", "Ravi Kumar"), names("kumar"));
+        assertEquals(List.of("Ravi Kumar"), names(index.suggest(CATERER_ID, "ravi", null, 1)));
+    }
+
+    @Test
+    void everyWordMustPrefixMatchTheSameContact() {
+        assertEquals(List.of("Ravi Kumar"), names("ravi ku"));
+        assertEquals(List.of("José O'Brien"), names("Jose o bri"));
+        assertEquals(List.of(), names("ravi traders"));
+    }
+
+    @Test
+    void phoneEmailAndLabelKeysMatchByPrefix() {
+        assertEquals(List.of("Ravi Kumar"), names("98765"));
+        assertEquals(List.of("Ravi Kumar"), names("+91 98765-43210"));
+        assertEquals(List.of("Kumar Traders"), names("orders@"));
+        assertEquals(List.of("Kumar Traders"), names("supp"));
+    }
+
+    @Test
+    void labelFilterAndEmptyQueryListByName() {
+        assertEquals(List.of("Anita Ravichandran", "José O'Brien", "Kumar Traders", "Ravi Kumar"), names(""));
+        assertEquals(List.of("Anita Ravichandran", "Ravi Kumar"),
+                names(index.suggest(CATERER_ID, "", List.of("dealer"), 10)));
+        assertEquals(List.of("Anita Ravichandran"),
+                names(index.suggest(CATERER_ID, "ani", List.of("Dealer", "Supplier"), 10)));
+    }
+
+    @Test
+    void savedAndDeletedContactsAreReflected() {
+        names("");
+        index.contactSaved(contact(5L, "Ravindra Caterers", null, null, null));
+        index.contactSaved(contact(1L, "Ravi K", "+919876543210", null, "Dealer"));
+        index.contactDeleted(CATERER_ID, 3L);
+
+        assertEquals(List.of("Ravi K", "Ravindra Caterers"), names("ravi"));
+        assertEquals(List.of(), names("kumar ravi"));
+    }
+
+    @Test
+    void nonMatchingContactsUnderThePrefixDoNotHideAMatch() {
+        List<Contact> contacts = new ArrayList<>();
+        for (long id = 100; id < 700; id++) {
+            contacts.add(contact(id, "Ravi Staff " + id, null, null, "Staff"));
+        }
+        // Sorts after every staff contact under the key "ravi"
+        contacts.add(contact(700L, "Ravi Kumar", "+919876543210", null, "Dealer"));
+        ContactRepository contactRepository = mock(ContactRepository.class);
+        when(contactRepository.findWithLabelsByCatererId(CATERER_ID)).thenReturn(contacts);
+        ReflectionTestUtils.setField(index, "contactRepository", contactRepository);
+
+        assertEquals(List.of("Ravi Kumar"), names(index.suggest(CATERER_ID, "ra", List.of("Dealer"), 10)));
+        assertEquals(List.of("Ravi Kumar"), names("ravi kum"));
+    }
+
+    private List<String> names(String query) {
+        return names(index.suggest(CATERER_ID, query, null, 10));
+    }
+
+    private static List<String> names(List<ContactDTO> contacts) {
+        return contacts.stream().map(ContactDTO::getName).collect(Collectors.toList());
+    }
+
+    private static Contact contact(Long id, String name, String phone, String email, String label) {
+        Contact contact = new Contact(CATERER_ID, name, phone, email,
+                phone != null ? Contact.ContactMethod.SMS : Contact.ContactMethod.EMAIL);
+        contact.setId(id);
+        if (label != null) {
+            contact.getLabels().add(new ContactLabel(label));
+        }
+        return contact;
+    }
+}
@@ -0,0 +1,125 @@
+package org.caterfind.service;
+
+import org.caterfind.entity.Contact;
+import org.caterfind.repository.ContactRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Keyset pages over a caterer's contacts: every sort visits each row once,
+ * in (sort, id) order, across duplicate sort values; cursors round-trip and
+ * are tied to their sort.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CursorListingTest {
+
+    private static final Long CATERER_ID = 701L;
+
+    private static final CursorListing.Resource<Contact> LISTING =
+            new CursorListing.Resource<>(Contact.class, "catererId")
+            .column("name", "name")
+            .column("email", "email")
+            .column("createdAt", "createdAt")
+            .sortable("name")
+            .sortable("createdAt");
+
+    @Autowired
+    private CursorListing cursorListing;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    private List<Contact> contacts;
+
+    @BeforeEach
+    void setUp() {
+        contactRepository.deleteAll(contactRepository.findWithLabelsByCatererId(CATERER_ID));
+        for (String name : List.of("Dev", "Bala", "Asha", "Bala", "Chitra", "Bala", "Dev")) {
+            contactRepository.save(new Contact(CATERER_ID, name, null, null, Contact.ContactMethod.EMAIL));
+        }
+        // Another caterer's rows never show up
+        contactRepository.save(new Contact(CATERER_ID + 1, "Bala", null, null, Contact.ContactMethod.EMAIL));
+        contacts = contactRepository.findWithLabelsByCatererId(CATERER_ID);
+    }
+
+    @Test
+    void pagesVisitEveryRowOnceInKeysetOrder() {
+        Comparator<Contact> byId = Comparator.comparing(Contact::getId);
+        assertPages("id", byId);
+        assertPages("-id", byId.reversed());
+        Comparator<Contact> byName = Comparator.comparing(Contact::getName).thenComparing(byId);
+        assertPages("name", byName);
+        assertPages("-name", byName.reversed());
+        Comparator<Contact> byCreated = Comparator.comparing(Contact::getCreatedAt).thenComparing(byId);
+        assertPages("createdAt", byCreated);
+        assertPages("-createdAt", byCreated.reversed());
+    }
+
+    @Test
+    void selectsOnlyRequestedColumnsPlusIdAndSortColumn() {
+        CursorListing.Page page = cursorListing.list(LISTING, CATERER_ID, List.of("email"), "-name", null, 3);
+
+        assertEquals(3, page.getRows().size());
+        assertEquals(Set.of("id", "name", "email"), page.getRows().get(0).keySet());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void rejectsForeignOrMalformedCursorsAndUnknownNames() {
+        String cursor = cursorListing.list(LISTING, CATERER_ID, List.of(), "name", null, 2).getNextCursor();
+        String wrongId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("name\nnot-a-number\nBala".getBytes());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> cursorListing.list(LISTING, CATERER_ID, List.of(), "-name", cursor, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> cursorListing.list(LISTING, CATERER_ID, List.of(), "name", "not base64!", 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> cursorListing.list(LISTING, CATERER_ID, List.of(), "name", wrongId, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> cursorListing.list(LISTING, CATERER_ID, List.of(), "email", null, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> cursorListing.list(LISTING, CATERER_ID, List.of("phone"), "name", null, 2));
+    }
+
+    @Test
+    void parsesFieldsWithIdFirst() {
+        List<String> defaults = List.of("id", "name", "email");
+
+        assertEquals(defaults, CursorListing.parseFields(null, defaults));
+        assertEquals(List.of("id", "email", "name"), CursorListing.parseFields("email, name,,email", defaults));
+        assertThrows(IllegalArgumentException.class, () -> CursorListing.parseFields("name,phone", defaults));
+    }
+
+    private void assertPages(String sort, Comparator<Contact> order) {
+        List<Long> expected = contacts.stream().sorted(order).map(Contact::getId).collect(Collectors.toList());
+        List<Long> listed = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorListing.Page page = cursorListing.list(LISTING, CATERER_ID, List.of("name"), sort, cursor, 2);
+            page.getRows().forEach(row -> listed.add((Long) row.get("id")));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertEquals(expected, listed, "sort=" + sort);
+        assertNull(cursor, "last page has no cursor");
+    }
+}
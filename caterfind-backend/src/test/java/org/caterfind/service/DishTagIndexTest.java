@@ -0,0 +1,71 @@
+package org.caterfind.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * AND/OR label filters over DishTagIndex's bitmaps. The database load is
+ * stubbed out (an empty library); dishes arrive through the write hooks,
+ * which apply immediately outside a transaction.
+ */
+class DishTagIndexTest {
+
+    private static final Long CATERER_ID = 1L;
+
+    private DishTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DishTagIndex();
+        ReflectionTestUtils.setField(index, "jdbcTemplate", mock(JdbcTemplate.class));
+        // Load the (empty) index, so the hooks below have something to update
+        index.filter(CATERER_ID, List.of(), true);
+        index.dishSaved(CATERER_ID, 10L, List.of("spicy", "jain"));
+        index.dishSaved(CATERER_ID, 11L, List.of("spicy"));
+        index.dishSaved(CATERER_ID, 12L, List.of("jain", "gluten-free"));
+        index.dishSaved(CATERER_ID, 13L, List.of());
+    }
+
+    @Test
+    void andRequiresEveryTag() {
+        assertEquals(List.of(10L), index.filter(CATERER_ID, List.of("spicy", "jain"), true));
+        assertEquals(List.of(10L, 11L), index.filter(CATERER_ID, List.of("spicy"), true));
+        assertEquals(List.of(), index.filter(CATERER_ID, List.of("spicy", "gluten-free"), true));
+        assertEquals(List.of(), index.filter(CATERER_ID, List.of("spicy", "unknown"), true));
+    }
+
+    @Test
+    void orAcceptsAnyTag() {
+        assertEquals(List.of(10L, 11L, 12L), index.filter(CATERER_ID, List.of("spicy", "gluten-free"), false));
+        assertEquals(List.of(12L), index.filter(CATERER_ID, List.of("gluten-free", "unknown"), false));
+        assertEquals(List.of(), index.filter(CATERER_ID, List.of("unknown"), false));
+    }
+
+    @Test
+    void noTagsMatchesEveryLiveDish() {
+        assertEquals(List.of(10L, 11L, 12L, 13L), index.filter(CATERER_ID, List.of(), true));
+        assertEquals(List.of(10L, 11L, 12L, 13L), index.filter(CATERER_ID, List.of(), false));
+    }
+
+    @Test
+    void updatesReplaceTagsAndDeletesLeaveNoTrace() {
+        index.dishSaved(CATERER_ID, 10L, List.of("gluten-free"));
+        index.dishDeleted(CATERER_ID, 11L);
+
+        assertEquals(List.of(), index.filter(CATERER_ID, List.of("spicy"), false));
+        assertEquals(List.of(10L, 12L), index.filter(CATERER_ID, List.of("gluten-free"), true));
+        assertEquals(List.of(10L, 12L, 13L), index.filter(CATERER_ID, List.of(), true));
+    }
+
+    @Test
+    void otherCaterersAreSeparate() {
+        assertEquals(List.of(), index.filter(2L, List.of("spicy"), false));
+    }
+}
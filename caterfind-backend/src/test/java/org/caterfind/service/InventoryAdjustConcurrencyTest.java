@@ -0,0 +1,155 @@
+package org.caterfind.service;
+
+import org.caterfind.dto.InventoryDTO;
+import org.caterfind.entity.InventoryItem;
+import org.caterfind.repository.InventoryItemRepository;
+import org.caterfind.repository.InventoryMovementRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress test for InventoryService.adjustQuantity: 100 writers released at
+ * once against one item must not lose an update, must keep the ledger in
+ * step with the snapshot and must never take stock below zero.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class InventoryAdjustConcurrencyTest {
+
+    private static final int WRITERS = 100;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private InventoryMovementRepository movementRepository;
+
+    @Test
+    void parallelAdjustmentsAreNotLost() throws Exception {
+        InventoryDTO item = createItem("Rice", new BigDecimal("1000"));
+
+        // Half the writers add 3, half take 1
+        List<Outcome> outcomes = runConcurrently(i -> i % 2 == 0 ? new BigDecimal("3") : new BigDecimal("-1"),
+                item.getId());
+
+        assertTrue(outcomes.stream().allMatch(o -> o.error == null), "no adjustment may fail");
+        BigDecimal expected = new BigDecimal("1000").add(new BigDecimal(WRITERS / 2 * 3 - WRITERS / 2));
+        assertQuantity(item.getId(), expected);
+        assertLedgerMatches(item.getId());
+        InventoryItem stored = inventoryItemRepository.findById(item.getId()).orElseThrow();
+        assertEquals(item.getVersion() + WRITERS, stored.getVersion());
+    }
+
+    @Test
+    void parallelWithdrawalsNeverGoBelowZero() throws Exception {
+        InventoryDTO item = createItem("Oil", new BigDecimal("40"));
+
+        // 100 writers each take 1 from 40 in stock: exactly 40 may succeed
+        List<Outcome> outcomes = runConcurrently(i -> new BigDecimal("-1"), item.getId());
+
+        long applied = outcomes.stream().filter(o -> o.error == null).count();
+        long refused = outcomes.stream().filter(o -> o.error instanceof IllegalStateException).count();
+        assertEquals(40, applied);
+        assertEquals(WRITERS - 40, refused);
+        for (Outcome outcome : outcomes) {
+            if (outcome.result != null) {
+                assertTrue(outcome.result.getQuantity().signum() >= 0, "observed negative stock");
+            }
+        }
+        assertQuantity(item.getId(), BigDecimal.ZERO);
+        assertLedgerMatches(item.getId());
+    }
+
+    private InventoryDTO createItem(String name, BigDecimal quantity) {
+        InventoryDTO dto = new InventoryDTO();
+        dto.setItemName(name);
+        dto.setCategory("GRAIN");
+        dto.setQuantity(quantity);
+        dto.setUnit("kg");
+        dto.setMinThreshold(new BigDecimal("5"));
+        return inventoryService.createInventoryItem(1L, dto);
+    }
+
+    private List<Outcome> runConcurrently(DeltaForWriter deltas, Long itemId) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Outcome>> futures = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                BigDecimal delta = deltas.delta(i);
+                Callable<Outcome> writer = () -> {
+                    start.await();
+                    try {
+                        return new Outcome(inventoryService.adjustQuantity(itemId, delta, "stress"), null);
+                    } catch (RuntimeException e) {
+                        return new Outcome(null, e);
+                    }
+                };
+                futures.add(pool.submit(writer));
+            }
+            start.countDown();
+
+            List<Outcome> outcomes = new ArrayList<>();
+            for (Future<Outcome> future : futures) {
+                outcomes.add(future.get(60, TimeUnit.SECONDS));
+            }
+            // Insufficient stock is the only acceptable failure
+            for (Outcome outcome : outcomes) {
+                if (outcome.error != null && !(outcome.error instanceof IllegalStateException)) {
+                    throw outcome.error;
+                }
+            }
+            return outcomes;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void assertQuantity(Long itemId, BigDecimal expected) {
+        InventoryItem stored = inventoryItemRepository.findById(itemId).orElseThrow();
+        assertEquals(0, expected.compareTo(stored.getQuantity()),
+                "quantity " + stored.getQuantity() + ", expected " + expected);
+        assertEquals(0, stored.getQuantity().multiply(stored.getUnitFactor()).compareTo(stored.getBaseQuantity()),
+                "base quantity out of step");
+    }
+
+    private void assertLedgerMatches(Long itemId) {
+        InventoryItem stored = inventoryItemRepository.findById(itemId).orElseThrow();
+        BigDecimal ledger = movementRepository.sumDeltas(itemId, 0L, LocalDateTime.now().plusMinutes(1));
+        assertEquals(0, stored.getQuantity().compareTo(ledger),
+                "ledger sums to " + ledger + ", snapshot is " + stored.getQuantity());
+    }
+
+    private interface DeltaForWriter {
+        BigDecimal delta(int writer);
+    }
+
+    private static final class Outcome {
+        private final InventoryDTO result;
+        private final RuntimeException error;
+
+        Outcome(InventoryDTO result, RuntimeException error) {
+            this.result = result;
+            this.error = error;
+        }
+    }
+}
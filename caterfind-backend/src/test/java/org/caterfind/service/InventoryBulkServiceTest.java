@@ -0,0 +1,124 @@
+package org.caterfind.service;
+
+import org.caterfind.dto.InventoryImportResult;
+import org.caterfind.entity.InventoryItem;
+import org.caterfind.repository.InventoryItemRepository;
+import org.caterfind.repository.InventoryMovementRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * CSV import: per-row validation, opening balances written with the rows,
+ * and all-or-nothing behaviour when the upload breaks off.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class InventoryBulkServiceTest {
+
+    private static final String HEADER = "itemName,category,quantity,unit,minThreshold\n";
+
+    @Autowired
+    private InventoryBulkService inventoryBulkService;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private InventoryMovementRepository movementRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void importsValidRowsWithOpeningBalancesAndReportsOutOfRangeOnes() throws IOException {
+        Long catererId = 501L;
+        String csv = HEADER
+                + "Rice,GRAIN,25,kg,5\n"
+                + "Sugar,SWEET,123456789,kg,1\n"
+                + "Ghee,DAIRY,2.5,l,100000000\n"
+                + "Salt,MASALA,0,kg,1\n";
+
+        InventoryImportResult result = inventoryBulkService.importItems(catererId, csv("items.csv", csv));
+
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getRejected());
+        assertTrue(result.getErrors().get(0).startsWith("Row 3: quantity is larger than"), result.getErrors().get(0));
+        assertTrue(result.getErrors().get(1).startsWith("Row 4: minThreshold is larger than"),
+                result.getErrors().get(1));
+
+        List<InventoryItem> items = inventoryItemRepository.findByCatererId(catererId);
+        assertEquals(2, items.size());
+        for (InventoryItem item : items) {
+            BigDecimal ledger = movementRepository.sumDeltas(item.getId(), 0L, LocalDateTime.now().plusMinutes(1));
+            assertEquals(0, item.getQuantity().compareTo(ledger), item.getItemName() + " ledger " + ledger);
+        }
+        // Zero stock gets no movement, like a zero-delta record()
+        assertEquals(1, countMovements(catererId));
+    }
+
+    @Test
+    void uploadThatBreaksOffImportsNothing() {
+        Long catererId = 502L;
+        // More than one batch (500 rows) is read before the stream fails
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 700; i++) {
+            csv.append("Item ").append(i).append(",GRAIN,10,kg,1\n");
+        }
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+        MockMultipartFile broken = new MockMultipartFile("file", "items.csv", "text/csv", bytes) {
+            @Override
+            public InputStream getInputStream() {
+                return new FailingInputStream(bytes);
+            }
+        };
+
+        assertThrows(IOException.class, () -> inventoryBulkService.importItems(catererId, broken));
+        assertTrue(inventoryItemRepository.findByCatererId(catererId).isEmpty());
+        assertEquals(0, countMovements(catererId));
+    }
+
+    private static MockMultipartFile csv(String name, String content) {
+        return new MockMultipartFile("file", name, "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long countMovements(Long catererId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM inventory_movements WHERE caterer_id = ?",
+                Long.class, catererId);
+    }
+
+    /**
+     * Serves all bytes, then fails instead of reporting end of stream.
+     */
+    private static class FailingInputStream extends InputStream {
+        private final InputStream data;
+
+        FailingInputStream(byte[] bytes) {
+            this.data = new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = data.read();
+            if (c == -1) {
+                throw new IOException("Connection reset");
+            }
+            return c;
+        }
+    }
+}
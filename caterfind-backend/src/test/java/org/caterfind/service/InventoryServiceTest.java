@@ -0,0 +1,141 @@
+package org.caterfind.service;
+
+import org.caterfind.dto.InventoryDTO;
+import org.caterfind.entity.DishIngredient;
+import org.caterfind.entity.InventoryItem;
+import org.caterfind.entity.InventoryMovement;
+import org.caterfind.repository.DishIngredientRepository;
+import org.caterfind.repository.InventoryForecastRepository;
+import org.caterfind.repository.InventoryItemRepository;
+import org.caterfind.repository.InventoryMovementRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Full edits through InventoryService.updateInventoryItem: the ledger and
+ * the consumption forecast must see stock movements, not unit changes, and
+ * recipes must never be left in a different base unit than their item.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class InventoryServiceTest {
+
+    private static final Long CATERER_ID = 601L;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private InventoryMovementRepository movementRepository;
+
+    @Autowired
+    private InventoryForecastRepository forecastRepository;
+
+    @Autowired
+    private DishIngredientRepository dishIngredientRepository;
+
+    @Test
+    void unitChangeAloneIsNotAStockMovement() {
+        InventoryDTO item = inventoryService.createInventoryItem(CATERER_ID, dto("Flour", "2", "kg"));
+
+        InventoryDTO edit = dto("Flour", "2000", "g");
+        edit.setVersion(item.getVersion());
+        inventoryService.updateInventoryItem(item.getId(), edit);
+
+        assertLedger(item.getId(), "2000");
+        assertEquals(0, movementRepository.findAll().stream()
+                .filter(m -> m.getItemId().equals(item.getId()) && m.getReason() == InventoryMovement.Reason.EDIT).count());
+        assertEquals(0, forecastRepository.findAll().stream()
+                .filter(f -> f.getItemId().equals(item.getId())).count(), "no consumption recorded");
+    }
+
+    @Test
+    void unitChangeToAnotherDimensionRestatesTheLedger() {
+        InventoryDTO item = inventoryService.createInventoryItem(CATERER_ID, dto("Paneer", "3", "kg"));
+
+        InventoryDTO edit = dto("Paneer", "12", "pieces");
+        edit.setVersion(item.getVersion());
+        inventoryService.updateInventoryItem(item.getId(), edit);
+
+        assertLedger(item.getId(), "12");
+    }
+
+    @Test
+    void legacyUnitStaysEditableButCannotBeIntroduced() {
+        // Written before the registry existed; kept as its own base unit by the backfill
+        InventoryItem legacy = new InventoryItem(CATERER_ID, "Papad", InventoryItem.ItemCategory.OTHER,
+                new BigDecimal("10"), "packets", BigDecimal.ONE);
+        legacy = inventoryItemRepository.save(legacy);
+
+        InventoryDTO edit = dto("Papad", "7", "packets");
+        edit.setVersion(legacy.getVersion());
+        InventoryDTO updated = inventoryService.updateInventoryItem(legacy.getId(), edit);
+        assertEquals(0, new BigDecimal("7").compareTo(updated.getQuantity()));
+        assertEquals("packets", updated.getUnit());
+
+        InventoryDTO rename = dto("Papad", "7", "boxes");
+        rename.setVersion(updated.getVersion());
+        Long id = legacy.getId();
+        assertThrows(IllegalArgumentException.class, () -> inventoryService.updateInventoryItem(id, rename));
+    }
+
+    @Test
+    void baseUnitCannotChangeUnderARecipe() {
+        InventoryDTO rice = inventoryService.createInventoryItem(CATERER_ID, dto("Rice", "5", "kg"));
+        InventoryItem papad = inventoryItemRepository.save(new InventoryItem(CATERER_ID, "Papad",
+                InventoryItem.ItemCategory.OTHER, new BigDecimal("10"), "packets", BigDecimal.ONE));
+        // 150 g and 1 packet per guest, frozen in each item's base unit
+        DishIngredient riceLine = dishIngredientRepository.save(new DishIngredient(9001L, rice.getId(),
+                new BigDecimal("150"), "g", new BigDecimal("150")));
+        dishIngredientRepository.save(new DishIngredient(9001L, papad.getId(), BigDecimal.ONE, "packets",
+                BigDecimal.ONE));
+
+        // Same base unit: recipes stay valid
+        InventoryDTO grams = dto("Rice", "5000", "g");
+        grams.setVersion(rice.getVersion());
+        InventoryDTO updated = inventoryService.updateInventoryItem(rice.getId(), grams);
+        assertEquals("g", updated.getUnit());
+
+        InventoryDTO sacks = dto("Rice", "4", "pieces");
+        sacks.setVersion(updated.getVersion());
+        assertThrows(IllegalArgumentException.class, () -> inventoryService.updateInventoryItem(rice.getId(), sacks));
+        InventoryDTO kilos = dto("Papad", "2", "kg");
+        kilos.setVersion(papad.getVersion());
+        Long papadId = papad.getId();
+        assertThrows(IllegalArgumentException.class, () -> inventoryService.updateInventoryItem(papadId, kilos));
+        assertEquals("g", inventoryItemRepository.findById(rice.getId()).orElseThrow().getUnit());
+        assertEquals("packets", inventoryItemRepository.findById(papadId).orElseThrow().getUnit());
+
+        // Once no recipe uses it, the item may move to another base unit
+        dishIngredientRepository.delete(riceLine);
+        assertEquals("pieces", inventoryService.updateInventoryItem(rice.getId(), sacks).getUnit());
+    }
+
+    private void assertLedger(Long itemId, String expected) {
+        InventoryItem stored = inventoryItemRepository.findById(itemId).orElseThrow();
+        BigDecimal ledger = movementRepository.sumDeltas(itemId, 0L, LocalDateTime.now().plusMinutes(1));
+        assertEquals(0, new BigDecimal(expected).compareTo(stored.getQuantity()));
+        assertEquals(0, stored.getQuantity().compareTo(ledger), "ledger sums to " + ledger);
+    }
+
+    private static InventoryDTO dto(String name, String quantity, String unit) {
+        InventoryDTO dto = new InventoryDTO();
+        dto.setItemName(name);
+        dto.setCategory("GRAIN");
+        dto.setQuantity(new BigDecimal(quantity));
+        dto.setUnit(unit);
+        dto.setMinThreshold(BigDecimal.ONE);
+        return dto;
+    }
+}
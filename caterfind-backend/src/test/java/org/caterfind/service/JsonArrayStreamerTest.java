@@ -0,0 +1,121 @@
+package org.caterfind.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.caterfind.dto.InventoryDTO;
+import org.caterfind.entity.Message;
+import org.caterfind.repository.MessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Full lists written in keyset pages: every row exactly once and in order,
+ * whether or not the last page is full, and with ties in the sort column.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JsonArrayStreamerTest {
+
+    private static final Long CATERER_ID = 1001L;
+
+    @Autowired
+    private JsonArrayStreamer jsonArrayStreamer;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Object pageSize;
+
+    @BeforeEach
+    void smallPages() {
+        pageSize = ReflectionTestUtils.getField(jsonArrayStreamer, "pageSize");
+        ReflectionTestUtils.setField(jsonArrayStreamer, "pageSize", 2);
+    }
+
+    @AfterEach
+    void restorePageSize() {
+        ReflectionTestUtils.setField(jsonArrayStreamer, "pageSize", pageSize);
+    }
+
+    @Test
+    void inventoryIsWrittenAcrossPagesInIdOrder() throws Exception {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            expected.add(inventoryService.createInventoryItem(CATERER_ID, dto("Item " + i)).getId());
+        }
+        // Last page exactly full: one more (empty) page must end the array
+        assertEquals(expected, ids(streamInventory()));
+
+        expected.add(inventoryService.createInventoryItem(CATERER_ID, dto("Item 4")).getId());
+        assertEquals(expected, ids(streamInventory()));
+    }
+
+    @Test
+    void messagesSentInTheSameInstantAreNeitherRepeatedNorSkipped() throws Exception {
+        List<Long> saved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Message message = new Message(CATERER_ID, null, "Hello " + i, Message.ContactMethod.SMS);
+            message.setRecipientName("Guest " + i);
+            saved.add(messageRepository.save(message).getId());
+        }
+        jdbcTemplate.update("UPDATE messages SET sent_at = ? WHERE caterer_id = ?",
+                LocalDateTime.of(2026, 1, 1, 12, 0), CATERER_ID);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        messageService.streamMessageHistory(CATERER_ID, out);
+
+        List<Long> expected = new ArrayList<>(saved);
+        expected.sort((a, b) -> Long.compare(b, a));
+        assertEquals(expected, ids(out.toByteArray()));
+    }
+
+    private byte[] streamInventory() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        inventoryService.streamInventory(CATERER_ID, out);
+        return out.toByteArray();
+    }
+
+    private List<Long> ids(byte[] json) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode row : objectMapper.readTree(json)) {
+            ids.add(row.get("id").asLong());
+        }
+        return ids;
+    }
+
+    private static InventoryDTO dto(String name) {
+        InventoryDTO dto = new InventoryDTO();
+        dto.setItemName(name);
+        dto.setCategory("GRAIN");
+        dto.setQuantity(BigDecimal.TEN);
+        dto.setUnit("kg");
+        dto.setMinThreshold(BigDecimal.ONE);
+        return dto;
+    }
+}
@@ -0,0 +1,45 @@
+package org.caterfind.service;
+
+import org.caterfind.dto.MessageTemplateDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Templates can only be changed, deleted or rendered by the caterer that
+ * owns them.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MessageTemplateServiceTest {
+
+    private static final Long CATERER_ID = 901L;
+    private static final Long OTHER_CATERER_ID = 902L;
+
+    @Autowired
+    private MessageTemplateService messageTemplateService;
+
+    @Test
+    void anotherCatererCannotUpdateDeleteOrUseATemplate() {
+        Long id = messageTemplateService.createTemplate(CATERER_ID,
+                new MessageTemplateDTO(null, "Reorder", null, "Please send {{quantity}} of {{item}}")).getId();
+        MessageTemplateDTO rewrite = new MessageTemplateDTO(null, "Hijacked", null, "Call {{contactName}}");
+
+        assertNull(messageTemplateService.updateTemplate(OTHER_CATERER_ID, id, rewrite));
+        assertFalse(messageTemplateService.deleteTemplate(OTHER_CATERER_ID, id));
+        assertNull(messageTemplateService.getCompiled(id, OTHER_CATERER_ID));
+        assertEquals("Reorder", messageTemplateService.getTemplates(CATERER_ID).get(0).getName());
+
+        assertEquals("Hijacked", messageTemplateService.updateTemplate(CATERER_ID, id, rewrite).getName());
+        assertNotNull(messageTemplateService.getCompiled(id, CATERER_ID));
+        assertTrue(messageTemplateService.deleteTemplate(CATERER_ID, id));
+        assertTrue(messageTemplateService.getTemplates(CATERER_ID).isEmpty());
+    }
+}
@@ -1,12 +1,13 @@
 import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { Search, MapPin, Star, Filter } from 'lucide-react';
-import { profileAPI, fileAPI } from '../services/api';
+import { profileAPI, fileAPI, searchAPI } from '../services/api';
 
 const ClientHome = ({ user }) => {
     const [caterers, setCaterers] = useState([]);
     const [loading, setLoading] = useState(true);
     const [searchTerm, setSearchTerm] = useState('');
+    const [matchIds, setMatchIds] = useState(null); // Caterer user IDs ranked by the server, null = no search
     const [filter, setFilter] = useState('All'); // All, Veg, Non-Veg - Mock filter for now
     const navigate = useNavigate();
 
@@ -25,10 +26,29 @@ const ClientHome = ({ user }) => {
         }
     };
 
-    const filteredCaterers = caterers.filter(caterer =>
-        caterer.businessName?.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        caterer.city?.toLowerCase().includes(searchTerm.toLowerCase())
-    );
+    // Server-side search, debounced while typing
+    useEffect(() => {
+        const term = searchTerm.trim();
+        if (!term) {
+            setMatchIds(null);
+            return;
+        }
+        const timer = setTimeout(async () => {
+            try {
+                const data = await searchAPI.caterers(term, 0, 50);
+                setMatchIds(data.results.map(hit => hit.id));
+            } catch (error) {
+                // Keep previous results on error
+            }
+        }, 200);
+        return () => clearTimeout(timer);
+    }, [searchTerm]);
+
+    const filteredCaterers = matchIds === null
+        ? caterers
+        : matchIds
+            .map(id => caterers.find(caterer => (caterer.userId ?? caterer.id) === id))
+            .filter(Boolean);
 
     const handleCatererClick = (caterer) => {
         const catererId = caterer.userId ?? caterer.id;
@@ -97,7 +97,7 @@ function Contacts({ user }) {
             });
             fetchContacts();
         } catch (error) {
-            // Error saving contact
+            alert(error.message);
         }
     };
 
@@ -5,7 +5,7 @@ import {
 } from 'lucide-react';
 import { cn } from '@/lib/utils';
 
-import { dashboardAPI } from '../services/api';
+import { dashboardAPI, eventsAPI } from '../services/api';
 
 /**
  * Dashboard Component (Tailwind v4 + Loveable Style)
@@ -53,6 +53,19 @@ function Dashboard({ user }) {
         }));
 
         fetchStats();
+
+        // Live counter updates instead of re-fetching the summary
+        if (!user?.userId) return;
+        const source = eventsAPI.subscribe(user.userId, {
+            stats: (data) => setStats(prev => ({
+                ...prev,
+                lowStockItems: data.lowStockItemsCount,
+                totalContacts: data.totalContacts,
+                totalMessages: data.totalMessagesSent
+            })),
+            resync: fetchStats
+        });
+        return () => source.close();
     }, [user]);
 
     return (
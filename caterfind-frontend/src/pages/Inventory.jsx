@@ -18,6 +18,8 @@ function Inventory({ user }) {
     const [editingItem, setEditingItem] = useState(null);
     const [reorderingItem, setReorderingItem] = useState(null);
     const [contacts, setContacts] = useState([]); // For dealer selection
+    const [dealerQuery, setDealerQuery] = useState('');
+    const [units, setUnits] = useState(['kg', 'liters', 'pieces']); // From the backend unit registry
     const [formData, setFormData] = useState({
         itemName: '',
         category: 'GRAIN',
@@ -45,9 +47,15 @@ function Inventory({ user }) {
 
     useEffect(() => {
         fetchItems();
-        fetchContacts();
+        fetchUnits();
     }, []);
 
+    // Dealers/suppliers from the server-side contact autocomplete
+    useEffect(() => {
+        const timer = setTimeout(fetchContacts, 150);
+        return () => clearTimeout(timer);
+    }, [dealerQuery]);
+
     useEffect(() => {
         if (selectedCategory === 'All') {
             setFilteredItems(items);
@@ -67,18 +75,25 @@ function Inventory({ user }) {
 
     const fetchContacts = async () => {
         try {
-            const data = await contactAPI.getAll(user.userId);
+            const data = await contactAPI.autocomplete(user.userId, dealerQuery, 50, ['Dealer', 'Supplier']);
             setContacts(data);
         } catch (error) {
             // Error fetching contacts
         }
     };
 
+    const fetchUnits = async () => {
+        try {
+            const data = await inventoryAPI.getUnits();
+            setUnits(data.map(u => u.unit));
+        } catch (error) {
+            // Keep the default units
+        }
+    };
+
     const handleQuantityChange = async (itemId, delta) => {
         try {
-            const item = items.find(i => i.id === itemId);
-            const newQuantity = Math.max(0, item.quantity + delta);
-            await inventoryAPI.update(itemId, { ...item, quantity: newQuantity });
+            await inventoryAPI.adjust(itemId, delta);
             fetchItems();
         } catch (error) {
             // Error updating quantity
@@ -119,7 +134,8 @@ function Inventory({ user }) {
             const payload = {
                 ...formData,
                 dealerPhone: formData.dealerContact,
-                dealerContactId: formData.dealerContactId ? parseInt(formData.dealerContactId) : null
+                dealerContactId: formData.dealerContactId ? parseInt(formData.dealerContactId) : null,
+                version: editingItem ? editingItem.version : undefined
             };
 
             if (editingItem) {
@@ -141,7 +157,7 @@ function Inventory({ user }) {
             });
             fetchItems();
         } catch (error) {
-            // Error saving item
+            alert(error.message);
         }
     };
 
@@ -344,9 +360,13 @@ function Inventory({ user }) {
                                         value={formData.unit}
                                         onChange={e => setFormData({ ...formData, unit: e.target.value })}
                                     >
-                                        <option value="kg">kg</option>
-                                        <option value="liters">liters</option>
-                                        <option value="pieces">pieces</option>
+                                        {/* Legacy free-text unit of the item being edited */}
+                                        {formData.unit && !units.includes(formData.unit) && (
+                                            <option value={formData.unit}>{formData.unit}</option>
+                                        )}
+                                        {units.map(unit => (
+                                            <option key={unit} value={unit}>{unit}</option>
+                                        ))}
                                     </select>
                                 </div>
                             </div>
@@ -368,6 +388,13 @@ function Inventory({ user }) {
                                 </h3>
                                 <div className="form-row">
                                     <label className="form-label">Select from Existing Contacts</label>
+                                    <input
+                                        type="text"
+                                        className="form-input"
+                                        placeholder="Search dealers by name or phone..."
+                                        value={dealerQuery}
+                                        onChange={e => setDealerQuery(e.target.value)}
+                                    />
                                     <select
                                         className="form-input"
                                         onChange={e => {
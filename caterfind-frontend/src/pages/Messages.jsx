@@ -1,5 +1,5 @@
 import React, { useState, useEffect } from 'react';
-import { messageAPI, contactAPI } from '../services/api';
+import { messageAPI, contactAPI, eventsAPI } from '../services/api';
 import '../styles/Messages.css';
 
 /**
@@ -10,25 +10,40 @@ import '../styles/Messages.css';
  */
 function Messages({ user }) {
     const [contacts, setContacts] = useState([]);
+    const [contactQuery, setContactQuery] = useState('');
     const [selectedContacts, setSelectedContacts] = useState([]);
     const [messageText, setMessageText] = useState('');
     const [messageLogs, setMessageLogs] = useState([]);
     const [sending, setSending] = useState(false);
     const [showHistory, setShowHistory] = useState(false);
+    const [progress, setProgress] = useState(null);
 
     useEffect(() => {
-        fetchContacts();
         fetchMessageLogs();
+
+        // Broadcast progress is pushed; logs are re-fetched once a broadcast is done
+        const source = eventsAPI.subscribe(user.userId, {
+            'message-progress': (data) => {
+                setProgress(data.done ? null : data);
+                if (data.done) fetchMessageLogs();
+            },
+            resync: fetchMessageLogs
+        });
+        return () => source.close();
     }, []);
 
-    const fetchContacts = async () => {
-        try {
-            const data = await contactAPI.getAll(user.userId);
-            setContacts(data);
-        } catch (error) {
-            // Error fetching contacts
-        }
-    };
+    // Recipients come from the server-side autocomplete, debounced while typing
+    useEffect(() => {
+        const timer = setTimeout(async () => {
+            try {
+                const data = await contactAPI.autocomplete(user.userId, contactQuery, 50);
+                setContacts(data);
+            } catch (error) {
+                // Error fetching contacts
+            }
+        }, 150);
+        return () => clearTimeout(timer);
+    }, [contactQuery]);
 
     const fetchMessageLogs = async () => {
         try {
@@ -63,7 +78,6 @@ function Messages({ user }) {
             alert(response.message);
             setSelectedContacts([]);
             setMessageText('');
-            fetchMessageLogs();
         } catch (error) {
             alert('Failed to send message');
         } finally {
@@ -107,6 +121,14 @@ function Messages({ user }) {
                         Select Contacts ({selectedContacts.length} selected)
                     </p>
 
+                    <input
+                        type="text"
+                        className="recipient-search"
+                        placeholder="Search by name, phone or label..."
+                        value={contactQuery}
+                        onChange={e => setContactQuery(e.target.value)}
+                    />
+
                     <div className="recipients-grid">
                         {contacts.map(contact => (
                             <div
@@ -158,6 +180,12 @@ function Messages({ user }) {
                     >
                         ✈️ {sending ? 'Sending...' : `Send to ${selectedContacts.length} Contact(s)`}
                     </button>
+                    {progress && (
+                        <p className="send-progress">
+                            {progress.sent + progress.failed} / {progress.total} processed
+                            {progress.failed > 0 && ` (${progress.failed} failed)`}
+                        </p>
+                    )}
                 </div>
             </div>
 
@@ -196,6 +224,10 @@ function Messages({ user }) {
                                                     {log.contactMethod === 'EMAIL' ? '📧 EMAIL' :
                                                         log.contactMethod === 'CALL' ? '📞 CALL' : '📱 SMS'}
                                                 </span>
+                                                <span className={`history-status ${log.status ? log.status.toLowerCase() : ''}`}>
+                                                    {log.status === 'DELIVERED' ? '✅ DELIVERED' :
+                                                        log.status === 'FAILED' ? '❌ FAILED' : '⏳ SENT'}
+                                                </span>
                                             </div>
                                         </div>
                                     ))}
@@ -84,6 +84,45 @@ export const dashboardAPI = {
   }
 };
 
+/**
+ * Analytics API (pre-aggregated time series)
+ */
+export const analyticsAPI = {
+  /**
+   * Messages per channel per bucket, with failure rate.
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @param {string} granularity - HOUR or DAY
+   * @param {string} from - YYYY-MM-DD
+   * @param {string} to - YYYY-MM-DD
+   * @returns {Promise} Array of { bucketStart, contactMethod, sent, delivered, failed, failureRate }
+   */
+  getMessages: async (catererId, granularity = 'DAY', from, to) => {
+    const params = new URLSearchParams({ catererId, granularity });
+    if (from) params.append('from', from);
+    if (to) params.append('to', to);
+    const response = await fetch(`${API_BASE_URL}/analytics/messages?${params}`);
+    return response.json();
+  },
+
+  /**
+   * Stock level per item category per bucket.
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @param {string} granularity - HOUR or DAY
+   * @param {string} from - YYYY-MM-DD
+   * @param {string} to - YYYY-MM-DD
+   * @returns {Promise} Array of { bucketStart, category, totalQuantity, itemCount, lowStockCount }
+   */
+  getInventory: async (catererId, granularity = 'DAY', from, to) => {
+    const params = new URLSearchParams({ catererId, granularity });
+    if (from) params.append('from', from);
+    if (to) params.append('to', to);
+    const response = await fetch(`${API_BASE_URL}/analytics/inventory?${params}`);
+    return response.json();
+  }
+};
+
 /**
  * Contact API
  */
@@ -99,6 +138,39 @@ export const contactAPI = {
     return response.json();
   },
 
+  /**
+   * Get one page of contacts, optionally with only some fields.
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @param {object} options - { limit, cursor, sort, fields }; sort is 'name', 'createdAt' or 'id'
+   *   (prefix - for descending), fields e.g. ['name', 'phone']
+   * @returns {Promise} { items, nextCursor } - pass nextCursor back for the next page
+   */
+  listPage: async (catererId, { limit = 50, cursor, sort, fields } = {}) => {
+    const params = new URLSearchParams({ catererId, limit });
+    if (cursor) params.append('cursor', cursor);
+    if (sort) params.append('sort', sort);
+    if (fields && fields.length) params.append('fields', fields.join(','));
+    const response = await fetch(`${API_BASE_URL}/contacts?${params}`);
+    return response.json();
+  },
+
+  /**
+   * Type-ahead contact lookup for pickers (server-side prefix index).
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @param {string} q - Text typed so far (name, phone, email or label prefix)
+   * @param {number} limit - Maximum results (max 50)
+   * @param {Array<string>} labels - Only contacts with any of these labels (optional)
+   * @returns {Promise} Array of contacts, best match first
+   */
+  autocomplete: async (catererId, q = '', limit = 10, labels = []) => {
+    const params = new URLSearchParams({ catererId, q, limit });
+    if (labels.length > 0) params.append('labels', labels.join(','));
+    const response = await fetch(`${API_BASE_URL}/contacts/autocomplete?${params}`);
+    return response.json();
+  },
+
   /**
    * Get a single contact by ID.
    * 
@@ -123,7 +195,11 @@ export const contactAPI = {
       headers: { 'Content-Type': 'application/json' },
       body: JSON.stringify(contactData)
     });
-    return response.json();
+    const data = await response.json();
+    if (!response.ok) {
+      throw new Error(data.error || 'Failed to create contact');
+    }
+    return data;
   },
 
   /**
@@ -139,6 +215,21 @@ export const contactAPI = {
       headers: { 'Content-Type': 'application/json' },
       body: JSON.stringify(contactData)
     });
+    const data = await response.json();
+    if (!response.ok) {
+      throw new Error(data.error || 'Failed to update contact');
+    }
+    return data;
+  },
+
+  /**
+   * Find contacts that share a phone number or email.
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @returns {Promise} Array of { matchedOn, value, contacts }
+   */
+  getDuplicates: async (catererId) => {
+    const response = await fetch(`${API_BASE_URL}/contacts/duplicates?catererId=${catererId}`);
     return response.json();
   },
 
@@ -171,6 +262,23 @@ export const inventoryAPI = {
     return response.json();
   },
 
+  /**
+   * Get one page of inventory items, optionally with only some fields.
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @param {object} options - { limit, cursor, sort, fields }; sort is 'itemName', 'createdAt' or 'id'
+   *   (prefix - for descending), fields e.g. ['itemName', 'quantity', 'unit']
+   * @returns {Promise} { items, nextCursor } - pass nextCursor back for the next page
+   */
+  listPage: async (catererId, { limit = 50, cursor, sort, fields } = {}) => {
+    const params = new URLSearchParams({ catererId, limit });
+    if (cursor) params.append('cursor', cursor);
+    if (sort) params.append('sort', sort);
+    if (fields && fields.length) params.append('fields', fields.join(','));
+    const response = await fetch(`${API_BASE_URL}/inventory?${params}`);
+    return response.json();
+  },
+
   /**
    * Get low-stock items for a caterer.
    * 
@@ -182,6 +290,28 @@ export const inventoryAPI = {
     return response.json();
   },
 
+  /**
+   * Get the supported units of measure.
+   * 
+   * @returns {Promise} Array of { unit, dimension, baseUnit, factor }
+   */
+  getUnits: async () => {
+    const response = await fetch(`${API_BASE_URL}/inventory/units`);
+    return response.json();
+  },
+
+  /**
+   * Get items predicted to run out before the next calendar events.
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @param {number} events - Number of upcoming events to look ahead
+   * @returns {Promise} Array of at-risk items, soonest stock-out first
+   */
+  getForecast: async (catererId, events = 5) => {
+    const response = await fetch(`${API_BASE_URL}/inventory/forecast?catererId=${catererId}&events=${events}`);
+    return response.json();
+  },
+
   /**
    * Get a single inventory item by ID.
    * 
@@ -222,7 +352,32 @@ export const inventoryAPI = {
       headers: { 'Content-Type': 'application/json' },
       body: JSON.stringify(itemData)
     });
-    return response.json();
+    const data = await response.json();
+    if (!response.ok) {
+      throw new Error(data.error || 'Failed to update item');
+    }
+    return data;
+  },
+
+  /**
+   * Atomically adjust an item's quantity (safe with several devices at once).
+   * 
+   * @param {number} id - Item ID
+   * @param {number} delta - Signed change (negative for usage)
+   * @param {string} note - Optional note for the stock ledger
+   * @returns {Promise} Updated item
+   */
+  adjust: async (id, delta, note) => {
+    const response = await fetch(`${API_BASE_URL}/inventory/${id}/adjust`, {
+      method: 'PATCH',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify({ delta, note })
+    });
+    const data = await response.json();
+    if (!response.ok) {
+      throw new Error(data.error || 'Failed to adjust quantity');
+    }
+    return data;
   },
 
   /**
@@ -236,7 +391,38 @@ export const inventoryAPI = {
       method: 'DELETE'
     });
     return response;
-  }
+  },
+
+  /**
+   * Bulk import items from a CSV or XLSX file.
+   * 
+   * @param {number} catererId - Caterer's user ID
+   * @param {File} file - .csv or .xlsx file with a header row
+   * @returns {Promise} { imported, rejected, errors }
+   */
+  importFile: async (catererId, file) => {
+    const formData = new FormData();
+    formData.append('file', file);
+    const response = await fetch(`${API_BASE_URL}/inventory/import?catererId=${catererId}`, {
+      method: 'POST',
+      body: formData
+    });
+    const data = await response.json();
+    if (!response.ok) {
+      throw new Error(data.error || 'Failed to import inventory');
+    }
+    return data;
+  },
+
+  /**
+   * Download URL for the inventory export.
+   * 
+   * @param {number} catererId - Caterer's user ID
+   * @param {string} format - 'csv' or 'xlsx'
+   * @returns {string} URL to open or link to
+   */
+  exportUrl: (catererId, format = 'csv') =>
+    `${API_BASE_URL}/inventory/export?catererId=${catererId}&format=${format}`
 };
 
 /**
@@ -289,6 +475,96 @@ export const messageAPI = {
       body: JSON.stringify(reorderData)
     });
     return response.json();
+  },
+
+  /**
+   * Schedule a broadcast for later or on a recurrence.
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @param {object} scheduleData - { contactIds, messageText, recurrenceType: "NONE" | "CRON" | "EACH_EVENT",
+   *                                  sendAt?, cronExpression?, eventOffsetMinutes? }
+   * @returns {Promise} Created schedule
+   */
+  schedule: async (catererId, scheduleData) => {
+    const response = await fetch(`${API_BASE_URL}/messages/scheduled?catererId=${catererId}`, {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify(scheduleData)
+    });
+    if (!response.ok) {
+      const error = await response.json();
+      throw new Error(error.error || 'Failed to schedule broadcast');
+    }
+    return response.json();
+  },
+
+  /**
+   * Get scheduled broadcasts for a caterer.
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @returns {Promise} Array of schedules
+   */
+  getScheduled: async (catererId) => {
+    const response = await fetch(`${API_BASE_URL}/messages/scheduled?catererId=${catererId}`);
+    return response.json();
+  },
+
+  /**
+   * Cancel a scheduled broadcast.
+   * 
+   * @param {number} catererId - Caterer's user ID
+   * @param {number} id - Schedule ID
+   * @returns {Promise} Response
+   */
+  cancelScheduled: async (catererId, id) => {
+    const response = await fetch(`${API_BASE_URL}/messages/scheduled/${id}?catererId=${catererId}`, {
+      method: 'DELETE'
+    });
+    return response;
+  }
+};
+
+/**
+ * Message Template API
+ * 
+ * Placeholders: {{contactName}}, {{item}}, {{quantity}}, {{eventDate}}, {{venue}}
+ * Pass templateId (plus item, quantity, calendarEventId) in a broadcast or
+ * reorder request to have the server render the message per recipient.
+ */
+export const templateAPI = {
+  getAll: async (catererId) => {
+    const response = await fetch(`${API_BASE_URL}/messages/templates?catererId=${catererId}`);
+    return response.json();
+  },
+  create: async (catererId, templateData) => {
+    const response = await fetch(`${API_BASE_URL}/messages/templates?catererId=${catererId}`, {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify(templateData)
+    });
+    if (!response.ok) {
+      const error = await response.json();
+      throw new Error(error.error || 'Failed to save template');
+    }
+    return response.json();
+  },
+  update: async (catererId, id, templateData) => {
+    const response = await fetch(`${API_BASE_URL}/messages/templates/${id}?catererId=${catererId}`, {
+      method: 'PUT',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify(templateData)
+    });
+    if (!response.ok) {
+      const error = await response.json();
+      throw new Error(error.error || 'Failed to save template');
+    }
+    return response.json();
+  },
+  delete: async (catererId, id) => {
+    const response = await fetch(`${API_BASE_URL}/messages/templates/${id}?catererId=${catererId}`, {
+      method: 'DELETE'
+    });
+    return response;
   }
 };
 
@@ -356,6 +632,37 @@ export const dishAPI = {
     return response.json();
   },
 
+  /**
+   * Get one page of dishes, optionally with only some fields.
+   * 
+   * @param {number} userId - Caterer user ID
+   * @param {object} options - { limit, cursor, sort, fields }; sort is 'name', 'createdAt' or 'id'
+   *   (prefix - for descending), fields e.g. ['name', 'imageUrl']
+   * @returns {Promise} { items, nextCursor } - pass nextCursor back for the next page
+   */
+  listPage: async (userId, { limit = 50, cursor, sort, fields } = {}) => {
+    const params = new URLSearchParams({ userId, limit });
+    if (cursor) params.append('cursor', cursor);
+    if (sort) params.append('sort', sort);
+    if (fields && fields.length) params.append('fields', fields.join(','));
+    const response = await fetch(`${API_BASE_URL}/dishes?${params}`);
+    return response.json();
+  },
+
+  /**
+   * Get IDs of a caterer's dishes carrying the given labels.
+   * 
+   * @param {number} userId - Caterer user ID
+   * @param {Array<string>} labels - Labels to match (case-insensitive)
+   * @param {string} match - 'all' (every label) or 'any'
+   * @returns {Promise} Array of dish IDs
+   */
+  filterByLabels: async (userId, labels, match = 'all') => {
+    const params = new URLSearchParams({ userId, labels: labels.join(','), match });
+    const response = await fetch(`${API_BASE_URL}/dishes/filter?${params}`);
+    return response.json();
+  },
+
   /**
    * Create a new dish.
    * 
@@ -398,6 +705,159 @@ export const dishAPI = {
       method: 'DELETE'
     });
     return response;
+  },
+
+  /**
+   * Get a dish's recipe (ingredients per guest).
+   * 
+   * @param {number} id - Dish ID
+   * @returns {Promise} Array of { itemId, itemName, quantityPerGuest, unit }
+   */
+  getIngredients: async (id) => {
+    const response = await fetch(`${API_BASE_URL}/dishes/${id}/ingredients`);
+    return response.json();
+  },
+
+  /**
+   * Replace a dish's recipe.
+   * 
+   * @param {number} id - Dish ID
+   * @param {Array} ingredients - [{ itemId, quantityPerGuest, unit }]
+   * @returns {Promise} Saved ingredients
+   */
+  setIngredients: async (id, ingredients) => {
+    const response = await fetch(`${API_BASE_URL}/dishes/${id}/ingredients`, {
+      method: 'PUT',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify(ingredients)
+    });
+    const data = await response.json();
+    if (!response.ok) {
+      throw new Error(data.error || 'Failed to save ingredients');
+    }
+    return data;
+  }
+};
+
+/**
+ * Menu Planning API
+ */
+export const menuAPI = {
+  /**
+   * Inventory needed for a menu, with shortfalls.
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @param {Array<number>} dishIds - Dishes on the menu
+   * @param {number} guests - Number of guests
+   * @returns {Promise} { guests, requirements, fulfillable }
+   */
+  quote: async (catererId, dishIds, guests) => {
+    const response = await fetch(`${API_BASE_URL}/menu/quote?catererId=${catererId}`, {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify({ dishIds, guests })
+    });
+    const data = await response.json();
+    if (!response.ok) {
+      throw new Error(data.error || 'Failed to quote menu');
+    }
+    return data;
+  },
+
+  /**
+   * Reserve a menu's stock for a calendar event.
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @param {number} eventId - Calendar event ID
+   * @param {Array<number>} dishIds - Dishes on the menu
+   * @param {number} guests - Number of guests
+   * @returns {Promise} { eventId, guests, requirements, fulfillable }
+   */
+  reserve: async (catererId, eventId, dishIds, guests) => {
+    const response = await fetch(`${API_BASE_URL}/menu/reservations?catererId=${catererId}&eventId=${eventId}`, {
+      method: 'PUT',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify({ dishIds, guests })
+    });
+    const data = await response.json();
+    if (!response.ok) {
+      throw new Error(data.error || 'Failed to reserve stock');
+    }
+    return data;
+  },
+
+  /**
+   * Get an event's reservation.
+   * 
+   * @param {number} eventId - Calendar event ID
+   * @returns {Promise} { eventId, requirements, fulfillable }
+   */
+  getReservation: async (eventId) => {
+    const response = await fetch(`${API_BASE_URL}/menu/reservations?eventId=${eventId}`);
+    return response.json();
+  },
+
+  /**
+   * Release an event's reservation.
+   * 
+   * @param {number} eventId - Calendar event ID
+   * @returns {Promise} Response
+   */
+  release: async (eventId) => {
+    const response = await fetch(`${API_BASE_URL}/menu/reservations?eventId=${eventId}`, {
+      method: 'DELETE'
+    });
+    return response;
+  }
+};
+
+/**
+ * Search API
+ * Ranked, typo-tolerant full-text search; results are { query, total, page, size, results }
+ */
+export const searchAPI = {
+  /**
+   * Search caterers by business name, description, area and city.
+   * 
+   * @param {string} q - Search text
+   * @param {number} page - Page number (from 0)
+   * @param {number} size - Page size (max 50)
+   * @returns {Promise} Page of { type, id (caterer user ID), title, subtitle, score }
+   */
+  caterers: async (q, page = 0, size = 20) => {
+    const params = new URLSearchParams({ q, page, size });
+    const response = await fetch(`${API_BASE_URL}/search/caterers?${params}`);
+    return response.json();
+  },
+
+  /**
+   * Search a caterer's dishes by name, description, category and labels.
+   * 
+   * @param {number} userId - Caterer user ID
+   * @param {string} q - Search text
+   * @param {number} page - Page number (from 0)
+   * @param {number} size - Page size (max 50)
+   * @returns {Promise} Page of { type, id (dish ID), title, subtitle, score }
+   */
+  dishes: async (userId, q, page = 0, size = 20) => {
+    const params = new URLSearchParams({ userId, q, page, size });
+    const response = await fetch(`${API_BASE_URL}/search/dishes?${params}`);
+    return response.json();
+  },
+
+  /**
+   * Search a caterer's contacts by name, email or phone digits.
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @param {string} q - Search text
+   * @param {number} page - Page number (from 0)
+   * @param {number} size - Page size (max 50)
+   * @returns {Promise} Page of { type, id (contact ID), title, subtitle, score }
+   */
+  contacts: async (catererId, q, page = 0, size = 20) => {
+    const params = new URLSearchParams({ catererId, q, page, size });
+    const response = await fetch(`${API_BASE_URL}/search/contacts?${params}`);
+    return response.json();
   }
 };
 
@@ -567,3 +1027,24 @@ export const availabilityAPI = {
   }
 };
 
+/**
+ * Live Events API (Server-Sent Events)
+ * Replaces polling of the dashboard summary and message logs.
+ */
+export const eventsAPI = {
+  /**
+   * Open the caterer's event stream. The browser reconnects automatically.
+   * 
+   * @param {number} catererId - Caterer user ID
+   * @param {object} handlers - Map of event name to callback(data), e.g.
+   *   { stats, 'low-stock', 'message-progress', 'calendar-event', resync }
+   * @returns {EventSource} Call .close() on unmount
+   */
+  subscribe: (catererId, handlers) => {
+    const source = new EventSource(`${API_BASE_URL}/events/stream?catererId=${catererId}`);
+    Object.entries(handlers).forEach(([name, handler]) => {
+      source.addEventListener(name, (event) => handler(JSON.parse(event.data)));
+    });
+    return source;
+  }
+};